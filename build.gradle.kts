@@ -63,6 +63,19 @@ sourceSets {
         compileClasspath += server.compileClasspath + server.output
         runtimeClasspath += server.runtimeClasspath + server.output
     }
+
+    // Unit tests, run in a Knot environment so Minecraft classes and mixins are available
+    getByName("test") {
+        compileClasspath += server.compileClasspath + server.output
+        runtimeClasspath += server.runtimeClasspath + server.output
+    }
+
+    // JMH benchmarks of pure math, run on a plain JVM without mixins
+    val jmh by creating {
+        java.srcDirs("src/jmh/java")
+        compileClasspath += server.compileClasspath + server.output
+        runtimeClasspath += server.runtimeClasspath + server.output
+    }
 }
 
 // --------------------- Loom Mod Setup ---------------------
@@ -153,6 +166,26 @@ dependencies {
     // helpful mods for testing
     modRuntimeOnly("curse.maven:amecs-reborn-1233121:6487881")
     modRuntimeOnly("curse.maven:modmenu-308702:5810603")
+
+    // Unit tests
+    testImplementation("net.fabricmc:fabric-loader-junit:${property("loader_version")}")
+
+    // Benchmarks
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+}
+
+tasks.named<Test>("test") {
+    useJUnitPlatform()
+}
+
+// Runs the benchmarks matching -Pjmh=<regex>, all of them without it
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    providers.gradleProperty("jmh").orNull?.let { args(it) }
 }
 
 tasks.named<ProcessResources>("processResources") {
@@ -2,14 +2,17 @@ package de.one_piece_api.event;
 
 import de.one_piece_api.OnePieceRPG;
 import de.one_piece_api.init.MyDataComponentTypes;
+import de.one_piece_api.mixin_interface.IStaminaPlayer;
 import de.one_piece_api.network.payload.ClassConfigPayload;
 import de.one_piece_api.render.TextureFramebufferCache;
 import de.one_piece_api.util.ClientData;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.item.v1.ItemTooltipCallback;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.client.MinecraftClient;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.tooltip.TooltipType;
@@ -26,7 +29,7 @@ import java.util.List;
  * <p>
  * This class manages various client events, including custom item tooltip rendering
  * for items with XP data components, data synchronization on resource reload, and
- * data management on player connection.
+ * data management on player connection. It also drives the local stamina prediction.
  *
  * @see ItemTooltipCallback
  * @see MyDataComponentTypes
@@ -42,9 +45,28 @@ public class ClientEvents {
      */
     public static void register() {
         ItemTooltipCallback.EVENT.register(ClientEvents::onItemTooltip);
+        ClientTickEvents.END_CLIENT_TICK.register(ClientEvents::onClientTick);
         registerReloadListener();
     }
 
+    /**
+     * Predicts stamina regeneration for the local player.
+     * <p>
+     * Uses the same {@link de.one_piece_api.util.StaminaModel} as the server, so
+     * the stamina bar moves smoothly and only needs corrections from the server
+     * when stamina is spent or the prediction drifts.
+     *
+     * @param client the Minecraft client instance
+     */
+    private static void onClientTick(MinecraftClient client) {
+        if (client.isPaused()) {
+            return;
+        }
+        if (client.player instanceof IStaminaPlayer staminaPlayer) {
+            staminaPlayer.onepiece$updateStamina();
+        }
+    }
+
     /**
      * Handles item tooltip rendering for items with XP data.
      * <p>
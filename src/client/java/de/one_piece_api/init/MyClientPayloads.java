@@ -3,6 +3,9 @@ package de.one_piece_api.init;
 import de.one_piece_api.network.*;
 import de.one_piece_api.network.payload.ClassConfigPayload;
 import de.one_piece_api.network.payload.DevilFruitPayload;
+import de.one_piece_api.network.payload.ParticleBatchPayload;
+import de.one_piece_api.network.payload.SpellHotbarPayload;
+import de.one_piece_api.network.payload.StaminaPayload;
 import de.one_piece_api.network.payload.SyncStylesPayload;
 import de.one_piece_api.network.payload.UiPayload;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
@@ -28,6 +31,9 @@ public class MyClientPayloads {
      *     <li>Devil fruit configuration data</li>
      *     <li>UI update commands</li>
      *     <li>Style synchronization data</li>
+     *     <li>Owner-only spell hotbar data</li>
+     *     <li>Owner-only stamina updates</li>
+     *     <li>Batched particle emissions</li>
      * </ul>
      */
     public static void registerReceiver() {
@@ -35,5 +41,8 @@ public class MyClientPayloads {
         ClientPlayNetworking.registerGlobalReceiver(DevilFruitPayload.TYPE, ClientPacketHandler::handleDevilFruitConfig);
         ClientPlayNetworking.registerGlobalReceiver(UiPayload.TYPE, ClientPacketHandler::handleUi);
         ClientPlayNetworking.registerGlobalReceiver(SyncStylesPayload.TYPE, ClientPacketHandler::handleSyncStyles);
+        ClientPlayNetworking.registerGlobalReceiver(SpellHotbarPayload.TYPE, ClientPacketHandler::handleSpellHotbar);
+        ClientPlayNetworking.registerGlobalReceiver(StaminaPayload.TYPE, ClientPacketHandler::handleStamina);
+        ClientPlayNetworking.registerGlobalReceiver(ParticleBatchPayload.TYPE, ClientPacketHandler::handleParticleBatch);
     }
 }
\ No newline at end of file
@@ -2,8 +2,9 @@ package de.one_piece_api.mixin;
 
 import com.llamalad7.mixinextras.sugar.Local;
 import de.one_piece_api.mixin_interface.IStaminaCost;
+import de.one_piece_api.util.StaminaCostTable;
+import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
-import net.spell_engine.api.spell.Spell;
 import net.spell_engine.client.gui.HudRenderHelper;
 import net.spell_engine.client.input.SpellHotbar;
 import org.spongepowered.asm.mixin.Mixin;
@@ -38,18 +39,20 @@ public abstract class HudRenderHelperMixin {
             CallbackInfo ci,
             @Local List<HudRenderHelper.SpellHotBarWidget.SpellViewModel> spells) {
 
+        var world = MinecraftClient.getInstance().world;
+        if (world == null) {
+            return;
+        }
+
         List<SpellHotbar.Slot> slots = SpellHotbar.INSTANCE.slots;
         for (int i = 0; i < spells.size() && i < slots.size(); i++) {
             var viewModel = spells.get(i);
             var spellEntry = slots.get(i).spell();
 
             if (spellEntry != null) {
-                Spell spell = spellEntry.value();
-                if (spell.cost instanceof IStaminaCost cost) {
-                    IStaminaCost staminaCost = (IStaminaCost) (Object) viewModel;
-                    if (staminaCost == null) continue;
-                    staminaCost.onepiece$setStaminaCost(cost.onepiece$getStaminaCost());
-                }
+                IStaminaCost staminaCost = (IStaminaCost) (Object) viewModel;
+                if (staminaCost == null) continue;
+                staminaCost.onepiece$setStaminaCost(StaminaCostTable.getCost(world, spellEntry));
             }
         }
 
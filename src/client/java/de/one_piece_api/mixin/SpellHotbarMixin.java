@@ -89,11 +89,11 @@ public abstract class SpellHotbarMixin {
 
         // Block ALL spells when not in combat mode
         if (player instanceof ISpellPlayer iOnePiecePlayer && player instanceof ICombatPlayer iCombatPlayer &&  iCombatPlayer.onepiece$isCombatMode()) {
-            List<RegistryEntry<Spell>> spells = iOnePiecePlayer.onepiece$getSelectedSpells();
+            RegistryEntry<Spell>[] spells = iOnePiecePlayer.onepiece$getSelectedSpellEntries();
             List<RegistryEntry<Spell>> learned = SpellUtil.getLearnedSpells(player);
 
-            for (int i = 0; i < spells.size(); i++) {
-                RegistryEntry<Spell> spellEntry = spells.get(i);
+            for (int i = 0; i < spells.length; i++) {
+                RegistryEntry<Spell> spellEntry = spells[i];
                 if (spellEntry == null) continue;
                 var spell = spellEntry.value();
                 if (spell == null) continue;
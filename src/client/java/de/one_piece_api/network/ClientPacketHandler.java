@@ -1,15 +1,22 @@
 package de.one_piece_api.network;
 
 import de.one_piece_api.OnePieceRPG;
+import de.one_piece_api.mixin_interface.ISpellPlayer;
+import de.one_piece_api.mixin_interface.IStaminaPlayer;
 import de.one_piece_api.screen.OnePieceScreen;
 import de.one_piece_api.network.payload.ClassConfigPayload;
 import de.one_piece_api.network.payload.DevilFruitPayload;
+import de.one_piece_api.network.payload.ParticleBatchPayload;
+import de.one_piece_api.network.payload.SpellHotbarPayload;
+import de.one_piece_api.network.payload.StaminaPayload;
 import de.one_piece_api.network.payload.SyncStylesPayload;
 import de.one_piece_api.network.payload.UiPayload;
 import de.one_piece_api.registry.ClientStyleRegistry;
 import de.one_piece_api.util.ClientData;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.minecraft.client.sound.PositionedSoundInstance;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.random.Random;
 import net.minecraft.sound.SoundEvents;
 import net.puffish.skillsmod.client.network.packets.in.ExperienceUpdateInPacket;
 import net.puffish.skillsmod.client.network.packets.in.PointsUpdateInPacket;
@@ -107,6 +114,84 @@ public class ClientPacketHandler {
         });
     }
 
+    /**
+     * Handles the owner-only spell hotbar sync received from the server.
+     * <p>
+     * Replaces the local hotbar with the authoritative raw ids and invalidates
+     * the UI so spell slots are redrawn.
+     *
+     * @param payload the payload containing the hotbar as spell registry raw ids
+     * @param context the client networking context
+     */
+    public static void handleSpellHotbar(SpellHotbarPayload payload, ClientPlayNetworking.Context context) {
+        OnePieceRPG.debug(OnePieceRPG.CLIENT_PAYLOAD_MARKER, "spell hotbar sync with {} slots", payload.rawIds().length);
+        context.client().execute(() -> {
+            if (context.player() instanceof ISpellPlayer spellPlayer) {
+                spellPlayer.onepiece$setSelectedSpellRawIds(payload.rawIds());
+                ClientData.invalidate(ClientData.DataInvalidationType.CLASS_CONFIG);
+            }
+        });
+    }
+
+    /**
+     * Handles the owner-only stamina correction received from the server.
+     * <p>
+     * Between corrections the client predicts regeneration itself, so the
+     * correction restores the value together with the regeneration phase.
+     *
+     * @param payload the payload containing the authoritative stamina state
+     * @param context the client networking context
+     */
+    public static void handleStamina(StaminaPayload payload, ClientPlayNetworking.Context context) {
+        context.client().execute(() -> {
+            if (context.player() instanceof IStaminaPlayer staminaPlayer) {
+                staminaPlayer.onepiece$getStaminaModel().restore(payload.stamina(), payload.regenTicks(), payload.boostTicks());
+            }
+        });
+    }
+
+    /**
+     * Handles a batch of particle emissions received from the server.
+     * <p>
+     * Every position is expanded the same way as a vanilla particle packet:
+     * with a count of {@code 0} one particle moves along the spread, otherwise
+     * {@code count} particles are scattered by the spread with random speed.
+     *
+     * @param payload the payload containing the particle and its positions
+     * @param context the client networking context
+     */
+    public static void handleParticleBatch(ParticleBatchPayload payload, ClientPlayNetworking.Context context) {
+        context.client().execute(() -> {
+            ClientWorld world = context.client().world;
+            if (world == null) {
+                return;
+            }
+            Random random = world.getRandom();
+            double[] positions = payload.positions();
+            for (int i = 0; i + 2 < positions.length; i += 3) {
+                double x = positions[i];
+                double y = positions[i + 1];
+                double z = positions[i + 2];
+                if (payload.count() == 0) {
+                    world.addParticle(payload.effect(), x, y, z,
+                            payload.speed() * payload.deltaX(),
+                            payload.speed() * payload.deltaY(),
+                            payload.speed() * payload.deltaZ());
+                    continue;
+                }
+                for (int j = 0; j < payload.count(); j++) {
+                    world.addParticle(payload.effect(),
+                            x + random.nextGaussian() * payload.deltaX(),
+                            y + random.nextGaussian() * payload.deltaY(),
+                            z + random.nextGaussian() * payload.deltaZ(),
+                            random.nextGaussian() * payload.speed(),
+                            random.nextGaussian() * payload.speed(),
+                            random.nextGaussian() * payload.speed());
+                }
+            }
+        });
+    }
+
     public static void handlePointsUpdate(PointsUpdateInPacket payload) {
         OnePieceRPG.debug(OnePieceRPG.CLIENT_PAYLOAD_MARKER, "puffish points update");
         ClientData.invalidate(ClientData.DataInvalidationType.CATEGORY_DATA);
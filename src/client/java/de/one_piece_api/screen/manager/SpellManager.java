@@ -1,13 +1,15 @@
 package de.one_piece_api.screen.manager;
 
 import de.one_piece_api.mixin_interface.ISpellPlayer;
-import de.one_piece_api.network.payload.SetSpellsPayload;
+import de.one_piece_api.network.payload.SetSpellSlotPayload;
+import de.one_piece_api.util.ClientData;
 import de.one_piece_api.util.SpellUtil;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.sound.SoundEvents;
 import net.spell_engine.api.spell.Spell;
+import net.spell_engine.api.spell.registry.SpellRegistry;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -91,12 +93,19 @@ public class SpellManager {
     }
 
     private void syncSpells(ISpellPlayer onePiecePlayer, List<RegistryEntry<Spell>> spells) {
-        List<String> spellIds = spells.stream()
-                .map(spell -> spell != null ? spell.getIdAsString() : "")
-                .toList();
-
-        onePiecePlayer.onepiece$setSelectedSpellIds(spellIds);
-        ClientPlayNetworking.send(new SetSpellsPayload(spellIds));
+        var registry = SpellRegistry.from(player.getWorld());
+        int[] previous = onePiecePlayer.onepiece$getSelectedSpellRawIds();
+
+        // Only send the slots that actually changed
+        for (int i = 0; i < spells.size() && i < previous.length; i++) {
+            RegistryEntry<Spell> spell = spells.get(i);
+            int rawId = spell != null ? registry.getRawId(spell.value()) : -1;
+            if (rawId != previous[i]) {
+                onePiecePlayer.onepiece$setSelectedSpellId(i, spell != null ? spell.getIdAsString() : "");
+                ClientPlayNetworking.send(new SetSpellSlotPayload(i, rawId));
+            }
+        }
+        ClientData.invalidate(ClientData.DataInvalidationType.CLASS_CONFIG);
     }
 
     private void playClickSound() {
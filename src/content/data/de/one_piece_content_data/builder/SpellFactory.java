@@ -1,6 +1,8 @@
 package de.one_piece_content_data.builder;
 
+import de.one_piece_api.mixin_interface.IAreaDelivery;
 import de.one_piece_api.mixin_interface.IStaminaCost;
+import de.one_piece_api.spell.AreaDelivery;
 import net.minecraft.entity.EquipmentSlot;
 import net.minecraft.util.Identifier;
 import net.spell_engine.api.spell.Spell;
@@ -964,6 +966,30 @@ public class SpellFactory {
             return this;
         }
 
+        /**
+         * Delivers the spell's impacts to all entities inside a shape around the caster.
+         * <p>
+         * The area is validated when the spell is generated.
+         *
+         * @param config consumer that configures the area delivery builder
+         * @return this builder for method chaining
+         * @throws IllegalStateException if the configured area is invalid
+         */
+        public DeliveryBuilder area(Consumer<AreaDeliveryBuilder> config) {
+            custom(AreaDelivery.HANDLER.toString());
+            var area = new AreaDelivery();
+            var builder = new AreaDeliveryBuilder(area);
+            config.accept(builder);
+            var problems = area.validate();
+            if (!problems.isEmpty()) {
+                throw new IllegalStateException("Invalid area delivery: " + String.join(", ", problems));
+            }
+            if (delivery.custom instanceof IAreaDelivery areaDelivery) {
+                areaDelivery.onepiece$setArea(area);
+            }
+            return this;
+        }
+
         /**
          * Delivers directly with no travel time.
          *
@@ -975,6 +1001,116 @@ public class SpellFactory {
         }
     }
 
+    /**
+     * Builder for area delivery configuration.
+     * <p>
+     * Configures the shape, falloff and target cap of an area delivery.
+     */
+    public static class AreaDeliveryBuilder {
+        /** The area delivery being built */
+        private final AreaDelivery area;
+
+        /**
+         * Creates a new area delivery builder.
+         *
+         * @param area the area delivery configuration to modify
+         */
+        public AreaDeliveryBuilder(AreaDelivery area) {
+            this.area = area;
+        }
+
+        /**
+         * Targets a cone in front of the caster.
+         *
+         * @param range the length of the cone in blocks
+         * @param angle the full opening angle in degrees
+         * @return this builder for method chaining
+         */
+        public AreaDeliveryBuilder cone(float range, float angle) {
+            area.shape = AreaDelivery.Shape.CONE;
+            area.range = range;
+            area.angle = angle;
+            return this;
+        }
+
+        /**
+         * Targets a sphere around the caster.
+         *
+         * @param radius the radius in blocks
+         * @return this builder for method chaining
+         */
+        public AreaDeliveryBuilder sphere(float radius) {
+            area.shape = AreaDelivery.Shape.SPHERE;
+            area.range = radius;
+            return this;
+        }
+
+        /**
+         * Targets a straight line in front of the caster.
+         *
+         * @param length the length in blocks
+         * @param width the thickness in blocks
+         * @return this builder for method chaining
+         */
+        public AreaDeliveryBuilder line(float length, float width) {
+            area.shape = AreaDelivery.Shape.LINE;
+            area.range = length;
+            area.width = width;
+            return this;
+        }
+
+        /**
+         * Targets a horizontal ring around the caster.
+         *
+         * @param innerRadius the radius of the spared center in blocks
+         * @param outerRadius the outer radius in blocks
+         * @param height the height in blocks
+         * @return this builder for method chaining
+         */
+        public AreaDeliveryBuilder ring(float innerRadius, float outerRadius, float height) {
+            area.shape = AreaDelivery.Shape.RING;
+            area.inner_radius = innerRadius;
+            area.range = outerRadius;
+            area.width = height;
+            return this;
+        }
+
+        /**
+         * Scales impacts down with the distance from the caster.
+         *
+         * @param falloff how the impacts decrease
+         * @param min the multiplier at the edge of the area
+         * @return this builder for method chaining
+         */
+        public AreaDeliveryBuilder falloff(AreaDelivery.Falloff falloff, float min) {
+            area.falloff = falloff;
+            area.falloff_min = min;
+            return this;
+        }
+
+        /**
+         * Limits the number of targets, the nearest are hit first.
+         *
+         * @param maxTargets the maximum number of targets
+         * @return this builder for method chaining
+         */
+        public AreaDeliveryBuilder maxTargets(int maxTargets) {
+            area.max_targets = maxTargets;
+            return this;
+        }
+
+        /**
+         * Sets whether the caster is included in area targeting.
+         *
+         * @param include {@code true} to include caster, {@code false} to exclude
+         * @return this builder for method chaining
+         */
+        public AreaDeliveryBuilder includeCaster(boolean include) {
+            area.include_caster = include;
+            return this;
+        }
+    }
+
     /**
      * Builder for projectile delivery configuration.
      * <p>
@@ -6,6 +6,7 @@ import de.one_piece_api.config.skill.ConnectionsConfig;
 import de.one_piece_api.config.spell.SpellConfig;
 import de.one_piece_api.reward.PassiveAbilityReward;
 import de.one_piece_api.reward.SpellContainerReward;
+import de.one_piece_api.spell.AreaDelivery;
 import de.one_piece_content_data.rewards.AttributeReward;
 import net.minecraft.advancement.AdvancementFrame;
 import net.minecraft.entity.effect.StatusEffect;
@@ -60,7 +61,8 @@ public class JsonParser {
                 .registerTypeAdapter(SpellConfig.class, new SpellConfigAdapter())
                 .registerTypeAdapter(Spell.class, new SpellGenerator.DefaultValueSkippingSerializer<>(Spell.class))
                 .registerTypeAdapter(ParticleBatch.class, new SpellGenerator.DefaultValueSkippingSerializer<>(ParticleBatch.class))
-                .registerTypeAdapter(Sound.class, new SpellGenerator.DefaultValueSkippingSerializer<>(Sound.class));
+                .registerTypeAdapter(Sound.class, new SpellGenerator.DefaultValueSkippingSerializer<>(Sound.class))
+                .registerTypeAdapter(AreaDelivery.class, new SpellGenerator.DefaultValueSkippingSerializer<>(AreaDelivery.class));
         for (var nestedClass : getAllNestedClasses(Spell.class)) {
             gson.registerTypeAdapter(nestedClass, new SpellGenerator.DefaultValueSkippingSerializer<>(nestedClass));
         }
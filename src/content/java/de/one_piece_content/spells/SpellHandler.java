@@ -1,5 +1,9 @@
 package de.one_piece_content.spells;
 
+import de.one_piece_api.spell.CastStateStore;
+import de.one_piece_api.network.ParticleBatcher;
+import de.one_piece_api.spell.AreaDelivery;
+import de.one_piece_api.spell.AreaDeliveryExecutor;
 import de.one_piece_content.ExampleMod;
 import de.one_piece_content.registries.MySounds;
 import net.minecraft.entity.LivingEntity;
@@ -13,7 +17,6 @@ import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvents;
-import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import net.spell_engine.api.spell.Spell;
@@ -21,12 +24,12 @@ import net.spell_engine.api.spell.event.SpellHandlers;
 import net.spell_engine.internals.SpellHelper;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.List;
 
 public class SpellHandler {
 
-    private static final HashMap<PlayerEntity, Vec3d> FORWARD = new HashMap<>();
+    private static final CastStateStore.Key<Vec3d> FORWARD = CastStateStore.Key.of(ExampleMod.id("shishi_sonson_forward"));
+    private static final AreaDelivery YAKKODORI_AREA = yakkodoriArea();
 
     public static void register() {
         SpellHandlers.registerCustomDelivery(
@@ -41,6 +44,18 @@ public class SpellHandler {
     }
 
 
+    /**
+     * 60° cone, reaching 5 blocks plus a block of margin like the old bounding box.
+     * Damage stays in the handler, only the target lookup is shared with area deliveries.
+     */
+    private static AreaDelivery yakkodoriArea() {
+        var area = new AreaDelivery();
+        area.shape = AreaDelivery.Shape.CONE;
+        area.range = 6;
+        area.angle = 60;
+        return area;
+    }
+
     public static boolean onShishiSonson(
             World world,
             RegistryEntry<Spell> spellEntry,
@@ -58,7 +73,7 @@ public class SpellHandler {
         deliveryTargets.forEach(target -> {
             var entity = target.entity();
             entity.damage(new DamageSource(player_attack, player), 6.0F);
-            serverWorld.spawnParticles(ParticleTypes.SWEEP_ATTACK,
+            ParticleBatcher.spawnParticles(serverWorld, ParticleTypes.SWEEP_ATTACK,
                     entity.getX(), entity.getEyeY(), entity.getZ(),
                     5, 0, 0, 0, 0);
         });
@@ -69,10 +84,14 @@ public class SpellHandler {
             Vec3d forward = new Vec3d(dir.x, 0, dir.z)
                     .normalize()
                     .multiply(1);
-            FORWARD.put(player, forward);
+            CastStateStore.begin(player, CastStateStore.channelLifetime(spellEntry.value()));
+            CastStateStore.put(player, FORWARD, forward);
+        }
+        Vec3d forward = CastStateStore.get(player, FORWARD);
+        if (forward != null) {
+            player.setVelocity(forward);
+            player.velocityModified = true;
         }
-        player.setVelocity(FORWARD.get(player));
-        player.velocityModified = true;
         return true;
     }
 
@@ -85,31 +104,16 @@ public class SpellHandler {
         if (!(world instanceof ServerWorld serverWorld)) return false;
         world.playSound(null, playerEntity.getBlockPos(), MySounds.YAKKODORI.soundEvent(),
                 SoundCategory.PLAYERS, 1.0F, 1.0F);
-        Vec3d direction = playerEntity.getRotationVec(1.0F).normalize();
-        Vec3d start = playerEntity.getPos().add(0, playerEntity.getStandingEyeHeight(), 0);
-        Vec3d end = start.add(direction.multiply(5.0));
-        Box box = new Box(
-                Math.min(start.x, end.x) - 1, Math.min(start.y, end.y) - 1, Math.min(start.z, end.z) - 1,
-                Math.max(start.x, end.x) + 1, Math.max(start.y, end.y) + 1, Math.max(start.z, end.z) + 1
-        );
-        List<LivingEntity> entities = world.getEntitiesByClass(
-                LivingEntity.class,
-                box,
-                e -> e != playerEntity
-        );
+        List<LivingEntity> entities = AreaDeliveryExecutor.collectTargets(serverWorld, playerEntity, YAKKODORI_AREA);
         RegistryEntry<DamageType> yakkodoriDamageType = world.getRegistryManager()
                 .get(RegistryKeys.DAMAGE_TYPE)
                 .getEntry(DamageTypes.PLAYER_ATTACK)
                 .orElseThrow();
         for (LivingEntity entity : entities) {
-            Vec3d toEntity = entity.getPos().add(0, entity.getStandingEyeHeight() / 2, 0).subtract(start).normalize();
-            double angle = Math.acos(direction.dotProduct(toEntity));
-            if (angle < Math.PI / 6) { // 60° cone
-                entity.damage(new DamageSource(yakkodoriDamageType, playerEntity), 6.0F);
-                serverWorld.spawnParticles(ParticleTypes.SWEEP_ATTACK,
-                        entity.getX(), entity.getEyeY(), entity.getZ(),
-                        5, 0, 0, 0, 0);
-            }
+            entity.damage(new DamageSource(yakkodoriDamageType, playerEntity), 6.0F);
+            ParticleBatcher.spawnParticles(serverWorld, ParticleTypes.SWEEP_ATTACK,
+                    entity.getX(), entity.getEyeY(), entity.getZ(),
+                    5, 0, 0, 0, 0);
         }
 
         world.playSound(null, playerEntity.getBlockPos(), SoundEvents.ENTITY_PLAYER_ATTACK_SWEEP,
@@ -0,0 +1,87 @@
+package de.one_piece_api.spell;
+
+import net.minecraft.util.math.Vec3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConeQuery#contains} with the {@code Math.acos} check it replaced.
+ * Run with {@code ./gradlew jmh -Pjmh=ConeQueryBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConeQueryBenchmark {
+
+    private static final int POINTS = 1024;
+
+    private Vec3d apex;
+    private Vec3d direction;
+    private double range;
+    private double halfAngle;
+    private ConeQuery cone;
+    private Vec3d[] points;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1);
+        // Yakkodori-like cone: range 6, 60 degrees wide, points around it
+        apex = new Vec3d(100, 64, 100);
+        direction = new Vec3d(1, -0.2, 0.5);
+        range = 6;
+        halfAngle = Math.toRadians(30);
+        cone = ConeQuery.of(apex, direction, range, halfAngle);
+        points = new Vec3d[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            Vec3d offset;
+            do {
+                offset = new Vec3d(random.nextDouble() * 2 - 1, random.nextDouble() * 2 - 1, random.nextDouble() * 2 - 1);
+            } while (offset.lengthSquared() < 1e-3);
+            points[i] = apex.add(offset.normalize().multiply(random.nextDouble() * range * 1.5));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public int acos() {
+        int hits = 0;
+        for (Vec3d point : points) {
+            Vec3d offset = point.subtract(apex);
+            double length = offset.length();
+            if (length > range) {
+                continue;
+            }
+            if (length == 0 || Math.acos(Math.clamp(offset.dotProduct(direction.normalize()) / length, -1, 1)) <= halfAngle) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public int coneQuery() {
+        int hits = 0;
+        for (Vec3d point : points) {
+            if (cone.contains(point)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
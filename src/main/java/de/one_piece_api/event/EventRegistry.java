@@ -45,6 +45,19 @@ public class EventRegistry {
         void onClassUpdate(ServerPlayerEntity player, Identifier oldClassId, Identifier newClassId);
     }
 
+    public static final Event<SpellCastCallback> SPELL_CAST = Event.create(listeners ->
+            (player, spellId) -> {
+                for (SpellCastCallback listener : listeners) {
+                    listener.onSpellCast(player, spellId);
+                }
+            }
+    );
+
+    @FunctionalInterface
+    public interface SpellCastCallback {
+        void onSpellCast(ServerPlayerEntity player, Identifier spellId);
+    }
+
 
 
 }
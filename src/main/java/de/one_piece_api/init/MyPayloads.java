@@ -1,21 +1,25 @@
 package de.one_piece_api.init;
 
+import de.one_piece_api.network.NetworkStats;
 import de.one_piece_api.network.payload.*;
 import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
 
 public class MyPayloads {
     public static void register() {
-        PayloadTypeRegistry.playC2S().register(SetClassPayload.TYPE, SetClassPayload.STREAM_CODEC);
-        PayloadTypeRegistry.playC2S().register(SetCombatModePayload.TYPE, SetCombatModePayload.STREAM_CODEC);
-        PayloadTypeRegistry.playC2S().register(SetSpellsPayload.TYPE, SetSpellsPayload.STREAM_CODEC);
-        PayloadTypeRegistry.playC2S().register(ClassConfigPayload.Request.TYPE, ClassConfigPayload.Request.STREAM_CODEC);
-        PayloadTypeRegistry.playC2S().register(DevilFruitPayload.Request.TYPE, DevilFruitPayload.Request.STREAM_CODEC);
-        PayloadTypeRegistry.playC2S().register(UiPayload.TYPE, UiPayload.STREAM_CODEC);
+        PayloadTypeRegistry.playC2S().register(SetClassPayload.TYPE, NetworkStats.c2s(SetClassPayload.TYPE, SetClassPayload.STREAM_CODEC));
+        PayloadTypeRegistry.playC2S().register(SetCombatModePayload.TYPE, NetworkStats.c2s(SetCombatModePayload.TYPE, SetCombatModePayload.STREAM_CODEC));
+        PayloadTypeRegistry.playC2S().register(SetSpellSlotPayload.TYPE, NetworkStats.c2s(SetSpellSlotPayload.TYPE, SetSpellSlotPayload.STREAM_CODEC));
+        PayloadTypeRegistry.playC2S().register(ClassConfigPayload.Request.TYPE, NetworkStats.c2s(ClassConfigPayload.Request.TYPE, ClassConfigPayload.Request.STREAM_CODEC));
+        PayloadTypeRegistry.playC2S().register(DevilFruitPayload.Request.TYPE, NetworkStats.c2s(DevilFruitPayload.Request.TYPE, DevilFruitPayload.Request.STREAM_CODEC));
+        PayloadTypeRegistry.playC2S().register(UiPayload.TYPE, NetworkStats.c2s(UiPayload.TYPE, UiPayload.STREAM_CODEC));
 
-        PayloadTypeRegistry.playS2C().register(UiPayload.TYPE, UiPayload.STREAM_CODEC);
-        PayloadTypeRegistry.playS2C().register(ClassConfigPayload.TYPE, ClassConfigPayload.STREAM_CODEC);
-        PayloadTypeRegistry.playS2C().register(DevilFruitPayload.TYPE, DevilFruitPayload.STREAM_CODEC);
-        PayloadTypeRegistry.playS2C().register(SyncStylesPayload.TYPE, SyncStylesPayload.STREAM_CODEC);
+        PayloadTypeRegistry.playS2C().register(UiPayload.TYPE, NetworkStats.s2c(UiPayload.TYPE, UiPayload.STREAM_CODEC));
+        PayloadTypeRegistry.playS2C().register(ClassConfigPayload.TYPE, NetworkStats.s2c(ClassConfigPayload.TYPE, ClassConfigPayload.STREAM_CODEC));
+        PayloadTypeRegistry.playS2C().register(DevilFruitPayload.TYPE, NetworkStats.s2c(DevilFruitPayload.TYPE, DevilFruitPayload.STREAM_CODEC));
+        PayloadTypeRegistry.playS2C().register(SyncStylesPayload.TYPE, NetworkStats.s2c(SyncStylesPayload.TYPE, SyncStylesPayload.STREAM_CODEC));
+        PayloadTypeRegistry.playS2C().register(SpellHotbarPayload.TYPE, NetworkStats.s2c(SpellHotbarPayload.TYPE, SpellHotbarPayload.STREAM_CODEC));
+        PayloadTypeRegistry.playS2C().register(StaminaPayload.TYPE, NetworkStats.s2c(StaminaPayload.TYPE, StaminaPayload.STREAM_CODEC));
+        PayloadTypeRegistry.playS2C().register(ParticleBatchPayload.TYPE, NetworkStats.s2c(ParticleBatchPayload.TYPE, ParticleBatchPayload.STREAM_CODEC));
     }
 
 }
@@ -1,6 +1,7 @@
 package de.one_piece_api.mixin;
 
 import de.one_piece_api.mixin_interface.IClassPlayer;
+import de.one_piece_api.util.PlayerDataStore;
 import net.minecraft.entity.data.DataTracker;
 import net.minecraft.entity.data.TrackedData;
 import net.minecraft.entity.data.TrackedDataHandlerRegistry;
@@ -42,17 +43,18 @@ public class ClassPlayerMixin implements IClassPlayer {
     @Override
     public void onepiece$setOnePieceClass(Identifier className) {
         onepiece$getClassSelf().getDataTracker().set(ONE_PIECE_CLASS, className.toString());
+        PlayerDataStore.get(onepiece$getClassSelf()).markDirty(PlayerDataStore.CLASS);
     }
 
     @Inject(method = "writeCustomDataToNbt", at = @At("TAIL"))
     private void onepiece$saveClassData(NbtCompound nbt, CallbackInfo ci) {
-        nbt.putString("OnePieceClass", onepiece$getOnePieceClass().toString());
+        PlayerDataStore.get(onepiece$getClassSelf())
+                .write(nbt, PlayerDataStore.CLASS, data -> data.putString("id", onepiece$getOnePieceClass().toString()));
     }
 
     @Inject(method = "readCustomDataFromNbt", at = @At("TAIL"))
     private void onepiece$loadClassData(NbtCompound nbt, CallbackInfo ci) {
-        if (nbt.contains("OnePieceClass")) {
-            onepiece$setOnePieceClass(Identifier.of(nbt.getString("OnePieceClass")));
-        }
+        PlayerDataStore.get(onepiece$getClassSelf())
+                .read(PlayerDataStore.CLASS, data -> onepiece$setOnePieceClass(Identifier.of(data.getString("id"))));
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package de.one_piece_api.mixin;
 
 import de.one_piece_api.mixin_interface.ICombatPlayer;
+import de.one_piece_api.util.PlayerDataStore;
 import net.minecraft.entity.data.DataTracker;
 import net.minecraft.entity.data.TrackedData;
 import net.minecraft.entity.data.TrackedDataHandlerRegistry;
@@ -34,6 +35,13 @@ public class CombatPlayerMixin implements ICombatPlayer {
     @Override
     public void onepiece$setCombatMode(boolean combatMode) {
         onepiece$getCombatSelf().getDataTracker().set(COMBAT_MODE, combatMode);
+        PlayerDataStore.get(onepiece$getCombatSelf()).markDirty(PlayerDataStore.COMBAT);
+    }
+
+    @Override
+    public void onepiece$syncCombatMode() {
+        var tracker = onepiece$getCombatSelf().getDataTracker();
+        tracker.set(COMBAT_MODE, tracker.get(COMBAT_MODE), true);
     }
 
 
@@ -44,14 +52,14 @@ public class CombatPlayerMixin implements ICombatPlayer {
 
     @Inject(method = "writeCustomDataToNbt", at = @At("TAIL"))
     private void writeCombatData(NbtCompound nbt, CallbackInfo ci) {
-        nbt.putBoolean("onepiece_combat_mode", onepiece$getCombatSelf().getDataTracker().get(COMBAT_MODE));
+        PlayerDataStore.get(onepiece$getCombatSelf())
+                .write(nbt, PlayerDataStore.COMBAT, data -> data.putBoolean("enabled", onepiece$isCombatMode()));
     }
 
     @Inject(method = "readCustomDataFromNbt", at = @At("TAIL"))
     private void readCombatData(NbtCompound nbt, CallbackInfo ci) {
-        if (nbt.contains("onepiece_combat_mode")) {
-            onepiece$getCombatSelf().getDataTracker().set(COMBAT_MODE, nbt.getBoolean("onepiece_combat_mode"));
-        }
+        PlayerDataStore.get(onepiece$getCombatSelf())
+                .read(PlayerDataStore.COMBAT, data -> onepiece$setCombatMode(data.getBoolean("enabled")));
     }
 
 }
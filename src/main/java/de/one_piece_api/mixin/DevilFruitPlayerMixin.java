@@ -2,6 +2,7 @@ package de.one_piece_api.mixin;
 
 import de.one_piece_api.mixin_interface.IDevilFruitPlayer;
 import de.one_piece_api.item.DevilFruitItem;
+import de.one_piece_api.util.PlayerDataStore;
 import net.minecraft.entity.data.DataTracker;
 import net.minecraft.entity.data.TrackedData;
 import net.minecraft.entity.data.TrackedDataHandlerRegistry;
@@ -41,19 +42,22 @@ public class DevilFruitPlayerMixin implements IDevilFruitPlayer {
     @Override
     public void onepiece$setDevilFruit(String fruit) {
         onepiece$getDevilFruitSelf().getDataTracker().set(DEVIL_FRUIT, fruit);
+        PlayerDataStore.get(onepiece$getDevilFruitSelf()).markDirty(PlayerDataStore.DEVIL_FRUIT);
     }
 
 
     // --- NBT Save ---
     @Inject(method = "writeCustomDataToNbt", at = @At("TAIL"))
     private void onepiece$saveDevilFruitData(NbtCompound nbt, CallbackInfo ci) {
-        nbt.putString("DevilFruit", onepiece$getDevilFruit());
+        PlayerDataStore.get(onepiece$getDevilFruitSelf())
+                .write(nbt, PlayerDataStore.DEVIL_FRUIT, data -> data.putString("id", onepiece$getDevilFruit()));
     }
 
 
     // --- NBT Load ---
     @Inject(method = "readCustomDataFromNbt", at = @At("TAIL"))
     private void onepiece$loadDevilFruitData(NbtCompound nbt, CallbackInfo ci) {
-        onepiece$setDevilFruit(nbt.getString("DevilFruit"));
+        PlayerDataStore.get(onepiece$getDevilFruitSelf())
+                .read(PlayerDataStore.DEVIL_FRUIT, data -> onepiece$setDevilFruit(data.getString("id")));
     }
 }
@@ -0,0 +1,40 @@
+package de.one_piece_api.mixin;
+
+import de.one_piece_api.mixin_interface.IPlayerData;
+import de.one_piece_api.util.PlayerDataStore;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.nbt.NbtCompound;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Attaches the {@link PlayerDataStore} to players.
+ * The other player mixins read and write their own sections through it.
+ */
+@Mixin(PlayerEntity.class)
+public class PlayerDataMixin implements IPlayerData {
+
+    @Unique
+    private final PlayerDataStore onepiece$dataStore = new PlayerDataStore();
+
+    @Override
+    public PlayerDataStore onepiece$getDataStore() {
+        return onepiece$dataStore;
+    }
+
+    /**
+     * Upgrades the NBT before any section is read at the tail of the same method.
+     */
+    @Inject(method = "readCustomDataFromNbt", at = @At("HEAD"))
+    private void onepiece$loadData(NbtCompound nbt, CallbackInfo ci) {
+        onepiece$dataStore.load(nbt);
+    }
+
+    @Inject(method = "writeCustomDataToNbt", at = @At("TAIL"))
+    private void onepiece$saveData(NbtCompound nbt, CallbackInfo ci) {
+        onepiece$dataStore.save(nbt);
+    }
+}
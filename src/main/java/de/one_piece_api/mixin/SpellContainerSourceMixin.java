@@ -1,7 +1,10 @@
 package de.one_piece_api.mixin;
 
 import de.one_piece_api.mixin_interface.ICombatPlayer;
+import de.one_piece_api.mixin_interface.ISpellPlayer;
+import de.one_piece_api.util.SpellContainerCache;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.registry.Registry;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.util.Identifier;
 import net.spell_engine.api.spell.Spell;
@@ -10,6 +13,7 @@ import net.spell_engine.api.spell.registry.SpellRegistry;
 import net.spell_engine.internals.container.SpellContainerSource;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -38,11 +42,34 @@ public class SpellContainerSourceMixin {
             allContainers.add(new SpellContainerSource.SourcedContainer(entry.getKey(), null, entry.getValue()));
         }
 
-        owner.spellModifierCache().clear();
         // equipment sets
         updateEquipmentSets(player, allContainers);
 
         boolean combat = ((ICombatPlayer) player).onepiece$isCombatMode();
+        var registry = SpellRegistry.from(player.getWorld());
+        var cache = ((ISpellPlayer) player).onepiece$getSpellContainerCache();
+
+        if (!cache.validate(allContainers, registry, ((ISpellPlayer) player).onepiece$getHotbarVersion())) {
+            owner.spellModifierCache().clear();
+        }
+
+        var result = cache.getResult(combat);
+        if (result == null) {
+            result = onepiece$resolve(player, cache, registry, combat);
+            cache.setResult(combat, result);
+        }
+        owner.setSpellContainers(result);
+
+        ci.cancel();
+    }
+
+    /**
+     * Resolves the result for one combat state. Passive spells and modifiers do not
+     * depend on the combat flag, so they are resolved once and shared by both results.
+     */
+    @Unique
+    private static SpellContainerSource.Result onepiece$resolve(PlayerEntity player, SpellContainerCache cache, Registry<Spell> registry, boolean combat) {
+        var allContainers = cache.getContainers();
 
         SpellContainer activeContainer;
         List<RegistryEntry<Spell>> activeSpells;
@@ -62,37 +89,35 @@ public class SpellContainerSourceMixin {
             activeSpells = List.of();
         }
 
-        List<RegistryEntry<Spell>> passiveSpells = SpellContainerSource.mergedContainerSources(
-                allContainers,
-                null,
-                Spell.Type.PASSIVE,
-                player.getWorld()
-        );
+        if (cache.getPassiveSpells() == null) {
+            List<RegistryEntry<Spell>> passiveSpells = SpellContainerSource.mergedContainerSources(
+                    allContainers,
+                    null,
+                    Spell.Type.PASSIVE,
+                    player.getWorld()
+            );
 
-        var registry = SpellRegistry.from(player.getWorld());
-        LinkedHashSet<RegistryEntry<Spell>> modifiers = new LinkedHashSet<>();
-        for (var container : allContainers) {
-            var spellContainer = container.container();
-            for (var idString : spellContainer.spell_ids()) {
-                var id = Identifier.of(idString);
-                var spell = registry.getEntry(id).orElse(null);
-                if (spell != null && spell.value().type == Spell.Type.MODIFIER) {
-                    modifiers.add(spell);
+            LinkedHashSet<RegistryEntry<Spell>> modifiers = new LinkedHashSet<>();
+            for (var container : allContainers) {
+                var spellContainer = container.container();
+                for (var idString : spellContainer.spell_ids()) {
+                    var id = Identifier.of(idString);
+                    var spell = registry.getEntry(id).orElse(null);
+                    if (spell != null && spell.value().type == Spell.Type.MODIFIER) {
+                        modifiers.add(spell);
+                    }
                 }
             }
+            cache.setSharedSpells(passiveSpells, modifiers.stream().toList());
         }
 
-        ((SpellContainerSource.Owner) player).setSpellContainers(
-                new SpellContainerSource.Result(
-                        activeContainer,
-                        activeSpells,
-                        passiveSpells,
-                        modifiers.stream().toList(),
-                        allContainers
-                )
+        return new SpellContainerSource.Result(
+                activeContainer,
+                activeSpells,
+                cache.getPassiveSpells(),
+                cache.getModifiers(),
+                allContainers
         );
-
-        ci.cancel();
     }
 
 }
@@ -0,0 +1,23 @@
+package de.one_piece_api.mixin;
+
+import de.one_piece_api.mixin_interface.IAreaDelivery;
+import de.one_piece_api.spell.AreaDelivery;
+import net.spell_engine.api.spell.Spell;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+@Mixin(value = Spell.Delivery.Custom.class, remap = false)
+public class SpellDeliveryCustomMixin implements IAreaDelivery {
+    @Unique
+    public AreaDelivery area;
+
+    @Override
+    public void onepiece$setArea(AreaDelivery value) {
+        area = value;
+    }
+
+    @Override
+    public AreaDelivery onepiece$getArea() {
+        return area;
+    }
+}
@@ -1,10 +1,13 @@
 package de.one_piece_api.mixin;
 
+import de.one_piece_api.event.EventRegistry;
 import de.one_piece_api.mixin_interface.IStaminaCost;
 import de.one_piece_api.mixin_interface.IStaminaPlayer;
+import de.one_piece_api.util.StaminaCostTable;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
 import net.spell_engine.api.spell.Spell;
 import net.spell_engine.api.spell.registry.SpellRegistry;
@@ -22,6 +25,25 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(value = SpellHelper.class, remap = false)
 public class SpellHelperMixin {
 
+    /**
+     * Spell Engine consumes the cost whenever a cast is performed, which makes it the place to count casts.
+     */
+    @Inject(method = "consumeSpellCost", at = @At("HEAD"))
+    private static void onConsumeSpellCost(
+            PlayerEntity player,
+            float progress,
+            SpellContainerSource.SourcedContainer spellSource,
+            Identifier spellId,
+            RegistryEntry<Spell> spellEntry,
+            ItemStack heldItemStack,
+            Ammo.Result ammoResult,
+            boolean scheduled,
+            CallbackInfo ci) {
+        if (player instanceof ServerPlayerEntity serverPlayer) {
+            EventRegistry.SPELL_CAST.invoker().onSpellCast(serverPlayer, spellId);
+        }
+    }
+
     @Inject(
             method = "consumeSpellCost",
             at = @At(
@@ -91,13 +113,10 @@ public class SpellHelperMixin {
             return;
         }
 
-        Spell spell = spellEntry.value();
-        if (spell.cost instanceof IStaminaCost iStaminaCost) {
-            float requiredStamina = iStaminaCost.onepiece$getStaminaCost();
-            if (staminaPlayer.onepiece$getStamina() < requiredStamina) {
-                SpellCast.Attempt.Result insufficientStamina = SpellCast.Attempt.Result.valueOf("INSUFFICIENT_STAMINA");
-                cir.setReturnValue(new SpellCast.Attempt(insufficientStamina, null, null));
-            }
+        float requiredStamina = StaminaCostTable.getCost(player.getWorld(), spellEntry);
+        if (requiredStamina > 0 && staminaPlayer.onepiece$getStamina() < requiredStamina) {
+            SpellCast.Attempt.Result insufficientStamina = SpellCast.Attempt.Result.valueOf("INSUFFICIENT_STAMINA");
+            cir.setReturnValue(new SpellCast.Attempt(insufficientStamina, null, null));
         }
     }
 }
\ No newline at end of file
@@ -2,9 +2,8 @@ package de.one_piece_api.mixin;
 
 import de.one_piece_api.OnePieceRPG;
 import de.one_piece_api.mixin_interface.ISpellPlayer;
-import net.minecraft.entity.data.DataTracker;
-import net.minecraft.entity.data.TrackedData;
-import net.minecraft.entity.data.TrackedDataHandlerRegistry;
+import de.one_piece_api.util.PlayerDataStore;
+import de.one_piece_api.util.SpellContainerCache;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.registry.Registry;
@@ -19,17 +18,46 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 @Mixin(PlayerEntity.class)
 public class SpellPlayerMixin implements ISpellPlayer {
 
+    /**
+     * Spell ids per hotbar slot, empty strings mark empty slots.
+     * Not part of the DataTracker: the hotbar is only rendered by its owner,
+     * so it is synced to the owning client only (see {@code SpellHotbarPayload}).
+     */
+    @Unique
+    private String[] onepiece$hotbar = new String[0];
+
+    /**
+     * Incremented on every hotbar change, used to invalidate the resolved cache.
+     */
+    @Unique
+    private int onepiece$hotbarVersion = 0;
+
+    // --- Resolved hotbar cache ---
+    @Unique
+    private RegistryEntry<Spell>[] onepiece$cachedEntries = null;
+
+    @Unique
+    private List<RegistryEntry<Spell>> onepiece$cachedEntryList = List.of();
 
+    @Unique
+    private int onepiece$cachedVersion = -1;
 
+    /**
+     * Registry the cache was resolved against. The spell registry is replaced
+     * on world and server changes, so an identity check is enough to detect reloads.
+     */
     @Unique
-    private static final TrackedData<NbtCompound> SPELL_HOTBAR =
-            DataTracker.registerData(PlayerEntity.class, TrackedDataHandlerRegistry.NBT_COMPOUND);
+    private Registry<Spell> onepiece$cachedRegistry = null;
 
+    @Unique
+    private final SpellContainerCache onepiece$spellContainerCache = new SpellContainerCache();
 
 
     @Unique
@@ -37,57 +65,142 @@ public class SpellPlayerMixin implements ISpellPlayer {
         return (PlayerEntity) (Object) this;
     }
 
-    // --- initDataTracker Injection ---
-    @Inject(method = "initDataTracker", at = @At("TAIL"))
-    private void onepiece$initTrackedSpellData(DataTracker.Builder builder, CallbackInfo ci) {
-        builder.add(SPELL_HOTBAR, new NbtCompound());
+    @Unique
+    private void onepiece$onHotbarChanged() {
+        onepiece$hotbarVersion++;
+        PlayerDataStore.get(onepiece$getSpellSelf()).markDirty(PlayerDataStore.SPELLS);
+    }
+
+    @Unique
+    private String[] onepiece$getHotbar() {
+        int slots = OnePieceRPG.getSpellSlots(onepiece$getSpellSelf());
+        if (onepiece$hotbar.length != slots) {
+            int oldLength = onepiece$hotbar.length;
+            onepiece$hotbar = Arrays.copyOf(onepiece$hotbar, slots);
+            for (int i = oldLength; i < slots; i++) {
+                onepiece$hotbar[i] = "";
+            }
+            onepiece$onHotbarChanged();
+        }
+        return onepiece$hotbar;
     }
 
 
     // --- IOnePiecePlayer Implementierung ---
     @Override
     public void onepiece$setSelectedSpellIds(List<String> spells) {
-        NbtCompound data = new NbtCompound();
-        for (int i = 0; i < spells.size(); i++) {
-            data.putString("" + i, spells.get(i));
+        String[] hotbar = onepiece$getHotbar();
+        for (int i = 0; i < hotbar.length; i++) {
+            String id = i < spells.size() ? spells.get(i) : null;
+            hotbar[i] = id != null ? id : "";
         }
-        onepiece$getSpellSelf().getDataTracker().set(SPELL_HOTBAR, data);
+        onepiece$onHotbarChanged();
     }
 
     @Override
-    public List<String> onepiece$getSelectedSpellIds() {
-        NbtCompound data = onepiece$getSpellSelf().getDataTracker().get(SPELL_HOTBAR);
-        List<String> spells = new ArrayList<>();
-        int slots = OnePieceRPG.getSpellSlots(onepiece$getSpellSelf());
-        for (int i = 0; i < slots; i++) {
-            spells.add(data.getString("" + i));
+    public void onepiece$setSelectedSpellId(int slot, String spell) {
+        String[] hotbar = onepiece$getHotbar();
+        if (slot < 0 || slot >= hotbar.length) {
+            return;
         }
-        return spells;
+        String id = spell != null ? spell : "";
+        if (!hotbar[slot].equals(id)) {
+            hotbar[slot] = id;
+            onepiece$onHotbarChanged();
+        }
+    }
+
+    @Override
+    public List<String> onepiece$getSelectedSpellIds() {
+        return new ArrayList<>(Arrays.asList(onepiece$getHotbar()));
     }
 
     @Override
-    public  List<RegistryEntry<Spell>> onepiece$getSelectedSpells() {
+    public List<RegistryEntry<Spell>> onepiece$getSelectedSpells() {
+        onepiece$getSelectedSpellEntries();
+        return onepiece$cachedEntryList;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public RegistryEntry<Spell>[] onepiece$getSelectedSpellEntries() {
         Registry<Spell> registry = SpellRegistry.from(onepiece$getSpellSelf().getWorld());
-        return onepiece$getSelectedSpellIds().stream().map(id->{
-            if (!id.isEmpty()) {
-                return (RegistryEntry<Spell>) registry.getEntry(Identifier.of(id)).orElse(null);
-            } else {
-                return null;
+        String[] hotbar = onepiece$getHotbar();
+        if (onepiece$cachedEntries != null
+                && onepiece$cachedVersion == onepiece$hotbarVersion
+                && onepiece$cachedRegistry == registry) {
+            return onepiece$cachedEntries;
+        }
+
+        RegistryEntry<Spell>[] entries = new RegistryEntry[hotbar.length];
+        for (int i = 0; i < hotbar.length; i++) {
+            if (!hotbar[i].isEmpty()) {
+                Identifier id = Identifier.tryParse(hotbar[i]);
+                entries[i] = id != null ? registry.getEntry(id).orElse(null) : null;
             }
-        }).toList();
+        }
+        onepiece$cachedEntries = entries;
+        onepiece$cachedEntryList = Collections.unmodifiableList(Arrays.asList(entries));
+        onepiece$cachedVersion = onepiece$hotbarVersion;
+        onepiece$cachedRegistry = registry;
+        return entries;
+    }
+
+    @Override
+    public int onepiece$getHotbarVersion() {
+        return onepiece$hotbarVersion;
+    }
+
+    @Override
+    public SpellContainerCache onepiece$getSpellContainerCache() {
+        return onepiece$spellContainerCache;
+    }
+
+    @Override
+    public int[] onepiece$getSelectedSpellRawIds() {
+        Registry<Spell> registry = SpellRegistry.from(onepiece$getSpellSelf().getWorld());
+        RegistryEntry<Spell>[] entries = onepiece$getSelectedSpellEntries();
+        int[] rawIds = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            rawIds[i] = entries[i] != null ? registry.getRawId(entries[i].value()) : -1;
+        }
+        return rawIds;
+    }
+
+    @Override
+    public void onepiece$setSelectedSpellRawIds(int[] rawIds) {
+        Registry<Spell> registry = SpellRegistry.from(onepiece$getSpellSelf().getWorld());
+        String[] hotbar = onepiece$getHotbar();
+        for (int i = 0; i < hotbar.length; i++) {
+            int rawId = i < rawIds.length ? rawIds[i] : -1;
+            hotbar[i] = rawId < 0 ? "" : registry.getEntry(rawId)
+                    .map(RegistryEntry::getIdAsString)
+                    .orElse("");
+        }
+        onepiece$onHotbarChanged();
     }
 
     // --- NBT Save ---
     @Inject(method = "writeCustomDataToNbt", at = @At("TAIL"))
     private void onepiece$saveSpellData(NbtCompound nbt, CallbackInfo ci) {
-        nbt.put("OnePieceSpells", onepiece$getSpellSelf().getDataTracker().get(SPELL_HOTBAR));
+        PlayerDataStore.get(onepiece$getSpellSelf()).write(nbt, PlayerDataStore.SPELLS, spells -> {
+            String[] hotbar = onepiece$getHotbar();
+            for (int i = 0; i < hotbar.length; i++) {
+                spells.putString(Integer.toString(i), hotbar[i]);
+            }
+        });
     }
 
 
     // --- NBT Load ---
     @Inject(method = "readCustomDataFromNbt", at = @At("TAIL"))
     private void onepiece$loadSpellData(NbtCompound nbt, CallbackInfo ci) {
-        NbtCompound spells = nbt.getCompound("OnePieceSpells");
-        onepiece$getSpellSelf().getDataTracker().set(SPELL_HOTBAR, spells);
+        PlayerDataStore.get(onepiece$getSpellSelf()).read(PlayerDataStore.SPELLS, spells -> {
+            String[] hotbar = onepiece$getHotbar();
+            for (int i = 0; i < hotbar.length; i++) {
+                hotbar[i] = spells.getString(Integer.toString(i));
+            }
+            onepiece$hotbarVersion++;
+        });
     }
 }
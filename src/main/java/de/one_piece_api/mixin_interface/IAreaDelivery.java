@@ -0,0 +1,11 @@
+package de.one_piece_api.mixin_interface;
+
+import de.one_piece_api.spell.AreaDelivery;
+import org.jetbrains.annotations.Nullable;
+
+public interface IAreaDelivery {
+
+    void onepiece$setArea(AreaDelivery area);
+    @Nullable
+    AreaDelivery onepiece$getArea();
+}
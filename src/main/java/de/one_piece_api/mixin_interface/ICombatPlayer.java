@@ -3,4 +3,10 @@ package de.one_piece_api.mixin_interface;
 public interface ICombatPlayer {
     boolean onepiece$isCombatMode();
     void onepiece$setCombatMode(boolean combatMode);
+
+    /**
+     * Marks the combat mode dirty so the current value is resent to clients
+     * even though it did not change.
+     */
+    void onepiece$syncCombatMode();
 }
@@ -0,0 +1,14 @@
+package de.one_piece_api.mixin_interface;
+
+import de.one_piece_api.util.PlayerDataStore;
+
+/**
+ * Interface for accessing the saved data sections of a player
+ */
+public interface IPlayerData {
+
+    /**
+     * Get the store holding the cached NBT and dirty flags of the player's data sections
+     */
+    PlayerDataStore onepiece$getDataStore();
+}
@@ -1,5 +1,6 @@
 package de.one_piece_api.mixin_interface;
 
+import de.one_piece_api.util.SpellContainerCache;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.spell_engine.api.spell.Spell;
 
@@ -9,4 +10,36 @@ public interface ISpellPlayer {
     void onepiece$setSelectedSpellIds(List<String> spells);
     List<String> onepiece$getSelectedSpellIds();
     List<RegistryEntry<Spell>> onepiece$getSelectedSpells();
+
+    /**
+     * Sets a single hotbar slot, an empty string clears it.
+     */
+    void onepiece$setSelectedSpellId(int slot, String spell);
+
+    /**
+     * Gets the hotbar as spell registry raw ids, {@code -1} marks an empty slot.
+     * Raw ids are only valid for the current session and are never persisted.
+     */
+    int[] onepiece$getSelectedSpellRawIds();
+
+    /**
+     * Replaces the hotbar from spell registry raw ids, {@code -1} marks an empty slot.
+     */
+    void onepiece$setSelectedSpellRawIds(int[] rawIds);
+
+    /**
+     * Gets the resolved hotbar, {@code null} marks an empty or unknown slot.
+     * The returned array is a shared cache and must not be modified.
+     */
+    RegistryEntry<Spell>[] onepiece$getSelectedSpellEntries();
+
+    /**
+     * Gets a counter that is incremented whenever the hotbar changes.
+     */
+    int onepiece$getHotbarVersion();
+
+    /**
+     * Gets the memo of resolved spell containers used by {@code SpellContainerSource.update}.
+     */
+    SpellContainerCache onepiece$getSpellContainerCache();
 }
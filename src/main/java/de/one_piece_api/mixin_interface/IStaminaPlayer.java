@@ -1,5 +1,7 @@
 package de.one_piece_api.mixin_interface;
 
+import de.one_piece_api.util.StaminaModel;
+
 public interface IStaminaPlayer {
 
 
@@ -9,4 +11,9 @@ public interface IStaminaPlayer {
     double onepiece$getStamina();
     void onepiece$updateStamina();
     boolean onepiece$hasStaminaBoost();
+
+    /**
+     * Gets the underlying stamina state, used to sync and restore the regeneration phase.
+     */
+    StaminaModel onepiece$getStaminaModel();
 }
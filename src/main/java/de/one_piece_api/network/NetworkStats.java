@@ -0,0 +1,155 @@
+package de.one_piece_api.network;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide bandwidth counters for the mod's payloads.
+ * <p>
+ * Payload codecs are wrapped by {@link #c2s} and {@link #s2c} when they are
+ * registered, so every encode and decode is measured where it happens: bytes
+ * written or read and the time spent in the codec. Counters are keyed by
+ * direction and payload id, for example {@code s2c/one_piece_api:spell_hotbar}.
+ * <p>
+ * All counters are {@link LongAdder}s since codecs run on the netty event loops.
+ */
+public class NetworkStats {
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+
+    /**
+     * Immutable view of one counter.
+     *
+     * @param encodedPackets payloads encoded (sent) by this side
+     * @param encodedBytes bytes written by the payload codec
+     * @param encodeNanos time spent in the payload codec while encoding
+     * @param decodedPackets payloads decoded (received) by this side
+     * @param decodedBytes bytes read by the payload codec
+     * @param decodeNanos time spent in the payload codec while decoding
+     */
+    public record Snapshot(long encodedPackets, long encodedBytes, long encodeNanos,
+                           long decodedPackets, long decodedBytes, long decodeNanos) {
+
+        public long averageEncodedBytes() {
+            return encodedPackets == 0 ? 0 : encodedBytes / encodedPackets;
+        }
+
+        public long averageDecodedBytes() {
+            return decodedPackets == 0 ? 0 : decodedBytes / decodedPackets;
+        }
+    }
+
+    private static class Counter {
+        private final LongAdder encodedPackets = new LongAdder();
+        private final LongAdder encodedBytes = new LongAdder();
+        private final LongAdder encodeNanos = new LongAdder();
+        private final LongAdder decodedPackets = new LongAdder();
+        private final LongAdder decodedBytes = new LongAdder();
+        private final LongAdder decodeNanos = new LongAdder();
+
+        private Snapshot snapshot() {
+            return new Snapshot(
+                    encodedPackets.sum(), encodedBytes.sum(), encodeNanos.sum(),
+                    decodedPackets.sum(), decodedBytes.sum(), decodeNanos.sum()
+            );
+        }
+    }
+
+    public static <B extends ByteBuf, T extends CustomPayload> PacketCodec<B, T> c2s(CustomPayload.Id<T> id, PacketCodec<B, T> codec) {
+        return instrument(key("c2s", id), codec);
+    }
+
+    public static <B extends ByteBuf, T extends CustomPayload> PacketCodec<B, T> s2c(CustomPayload.Id<T> id, PacketCodec<B, T> codec) {
+        return instrument(key("s2c", id), codec);
+    }
+
+    public static String key(String direction, CustomPayload.Id<?> id) {
+        return direction + "/" + id.id();
+    }
+
+    /**
+     * Wraps a codec so that every encode and decode is recorded under the given key.
+     */
+    public static <B extends ByteBuf, T> PacketCodec<B, T> instrument(String key, PacketCodec<B, T> codec) {
+        Counter counter = counter(key);
+        return new PacketCodec<>() {
+            @Override
+            public T decode(B buf) {
+                int start = buf.readerIndex();
+                long time = System.nanoTime();
+                T value = codec.decode(buf);
+                counter.decodeNanos.add(System.nanoTime() - time);
+                counter.decodedBytes.add(buf.readerIndex() - start);
+                counter.decodedPackets.increment();
+                return value;
+            }
+
+            @Override
+            public void encode(B buf, T value) {
+                int start = buf.writerIndex();
+                long time = System.nanoTime();
+                codec.encode(buf, value);
+                counter.encodeNanos.add(System.nanoTime() - time);
+                counter.encodedBytes.add(buf.writerIndex() - start);
+                counter.encodedPackets.increment();
+            }
+        };
+    }
+
+    /**
+     * Records an encode that does not go through a wrapped codec, like data appended to another mod's packet.
+     */
+    public static void recordEncoded(String key, int bytes, long nanos) {
+        Counter counter = counter(key);
+        counter.encodeNanos.add(nanos);
+        counter.encodedBytes.add(bytes);
+        counter.encodedPackets.increment();
+    }
+
+    /**
+     * Gets the average encoded size for the key, or 0 if nothing was encoded yet.
+     */
+    public static long averageEncodedBytes(String key) {
+        Counter counter = COUNTERS.get(key);
+        return counter == null ? 0 : counter.snapshot().averageEncodedBytes();
+    }
+
+    /**
+     * Gets the average decoded size for the key, or 0 if nothing was decoded yet.
+     */
+    public static long averageDecodedBytes(String key) {
+        Counter counter = COUNTERS.get(key);
+        return counter == null ? 0 : counter.snapshot().averageDecodedBytes();
+    }
+
+    /**
+     * Takes a snapshot of all counters, sorted by key.
+     */
+    public static Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> result = new TreeMap<>();
+        COUNTERS.forEach((key, counter) -> result.put(key, counter.snapshot()));
+        return result;
+    }
+
+    public static void reset() {
+        // Keep the counter instances, wrapped codecs hold references to them
+        COUNTERS.values().forEach(counter -> {
+            counter.encodedPackets.reset();
+            counter.encodedBytes.reset();
+            counter.encodeNanos.reset();
+            counter.decodedPackets.reset();
+            counter.decodedBytes.reset();
+            counter.decodeNanos.reset();
+        });
+    }
+
+    private static Counter counter(String key) {
+        return COUNTERS.computeIfAbsent(key, k -> new Counter());
+    }
+}
@@ -0,0 +1,95 @@
+package de.one_piece_api.network.payload;
+
+import de.one_piece_api.OnePieceRPG;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.particle.ParticleTypes;
+
+/**
+ * Server to client batch of particle emissions of the same particle and spread,
+ * replacing one vanilla particle packet per emission.
+ * <p>
+ * Positions are packed as offsets from the first position in 1/{@value #PRECISION}
+ * of a block, which covers everything a player can see particles of.
+ *
+ * @param effect the particle to spawn
+ * @param count particles per position, {@code 0} spawns one particle moving along the spread
+ * @param deltaX spread on the x axis
+ * @param deltaY spread on the y axis
+ * @param deltaZ spread on the z axis
+ * @param speed the particle speed
+ * @param positions the positions as consecutive x, y, z values
+ */
+public record ParticleBatchPayload(
+        ParticleEffect effect,
+        int count,
+        float deltaX,
+        float deltaY,
+        float deltaZ,
+        float speed,
+        double[] positions
+) implements CustomPayload {
+    public static final Id<ParticleBatchPayload> TYPE = new Id<>(OnePieceRPG.id("particle_batch"));
+
+    private static final int PRECISION = 256;
+
+    public static final PacketCodec<RegistryByteBuf, ParticleBatchPayload> STREAM_CODEC = PacketCodec.of(
+            (packet, buf) -> {
+                ParticleTypes.PACKET_CODEC.encode(buf, packet.effect());
+                buf.writeVarInt(packet.count());
+                buf.writeFloat(packet.deltaX());
+                buf.writeFloat(packet.deltaY());
+                buf.writeFloat(packet.deltaZ());
+                buf.writeFloat(packet.speed());
+
+                double[] positions = packet.positions();
+                int size = positions.length / 3;
+                buf.writeVarInt(size);
+                if (size == 0) {
+                    return;
+                }
+                buf.writeDouble(positions[0]);
+                buf.writeDouble(positions[1]);
+                buf.writeDouble(positions[2]);
+                for (int i = 3; i < size * 3; i++) {
+                    buf.writeShort(pack(positions[i] - positions[i % 3]));
+                }
+            },
+            buf -> {
+                ParticleEffect effect = ParticleTypes.PACKET_CODEC.decode(buf);
+                int count = buf.readVarInt();
+                float deltaX = buf.readFloat();
+                float deltaY = buf.readFloat();
+                float deltaZ = buf.readFloat();
+                float speed = buf.readFloat();
+
+                int size = buf.readVarInt();
+                double[] positions = new double[size * 3];
+                if (size > 0) {
+                    positions[0] = buf.readDouble();
+                    positions[1] = buf.readDouble();
+                    positions[2] = buf.readDouble();
+                    for (int i = 3; i < size * 3; i++) {
+                        positions[i] = positions[i % 3] + buf.readShort() / (double) PRECISION;
+                    }
+                }
+                return new ParticleBatchPayload(effect, count, deltaX, deltaY, deltaZ, speed, positions);
+            }
+    );
+
+    private static short pack(double offset) {
+        return (short) Math.clamp(Math.round(offset * PRECISION), Short.MIN_VALUE, Short.MAX_VALUE);
+    }
+
+    public int size() {
+        return positions.length / 3;
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return TYPE;
+    }
+
+}
@@ -0,0 +1,33 @@
+package de.one_piece_api.network.payload;
+
+import de.one_piece_api.OnePieceRPG;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+
+/**
+ * Client to server delta for a single spell hotbar slot.
+ * <p>
+ * The spell is identified by its raw id in the spell registry, {@code -1} clears the slot.
+ * The raw id is shifted by one on the wire so an empty slot costs a single byte.
+ *
+ * @param slot the hotbar slot index
+ * @param rawId the spell registry raw id, or {@code -1} for an empty slot
+ */
+public record SetSpellSlotPayload(int slot, int rawId) implements CustomPayload {
+    public static final Id<SetSpellSlotPayload> TYPE = new Id<>(OnePieceRPG.id("set_spell_slot"));
+
+    public static final PacketCodec<PacketByteBuf, SetSpellSlotPayload> STREAM_CODEC = PacketCodec.of(
+            (packet, buf) -> {
+                buf.writeByte(packet.slot());
+                buf.writeVarInt(packet.rawId() + 1);
+            },
+            buf -> new SetSpellSlotPayload(buf.readUnsignedByte(), buf.readVarInt() - 1)
+    );
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return TYPE;
+    }
+
+}
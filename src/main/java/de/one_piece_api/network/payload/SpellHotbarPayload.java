@@ -0,0 +1,47 @@
+package de.one_piece_api.network.payload;
+
+import de.one_piece_api.OnePieceRPG;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+
+/**
+ * Server to client sync of the full spell hotbar, sent to the owning player only.
+ * <p>
+ * Slots are encoded as spell registry raw ids shifted by one, so empty slots
+ * ({@code -1}) cost a single byte.
+ *
+ * @param rawIds the spell registry raw id per slot, {@code -1} for empty slots
+ */
+public record SpellHotbarPayload(int[] rawIds) implements CustomPayload {
+    public static final Id<SpellHotbarPayload> TYPE = new Id<>(OnePieceRPG.id("spell_hotbar"));
+
+    public static void write(SpellHotbarPayload packet, PacketByteBuf buf) {
+        int[] rawIds = packet.rawIds();
+        buf.writeByte(rawIds.length);
+        for (int rawId : rawIds) {
+            buf.writeVarInt(rawId + 1);
+        }
+    }
+
+    public static SpellHotbarPayload read(PacketByteBuf buf) {
+        int size = buf.readUnsignedByte();
+        int[] rawIds = new int[size];
+        for (int i = 0; i < size; i++) {
+            rawIds[i] = buf.readVarInt() - 1;
+        }
+        return new SpellHotbarPayload(rawIds);
+    }
+
+    public static final PacketCodec<PacketByteBuf, SpellHotbarPayload> STREAM_CODEC =
+            PacketCodec.of(
+                    SpellHotbarPayload::write,
+                    SpellHotbarPayload::read
+            );
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return TYPE;
+    }
+
+}
@@ -0,0 +1,35 @@
+package de.one_piece_api.network.payload;
+
+import de.one_piece_api.OnePieceRPG;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+
+/**
+ * Server to client stamina correction, sent to the owning player only.
+ * <p>
+ * Carries the regeneration phase as well, so the client prediction continues
+ * exactly where the server is.
+ *
+ * @param stamina the authoritative stamina
+ * @param regenTicks ticks elapsed in the current regeneration interval
+ * @param boostTicks ticks spent boosting in the current regeneration interval
+ */
+public record StaminaPayload(float stamina, int regenTicks, int boostTicks) implements CustomPayload {
+    public static final Id<StaminaPayload> TYPE = new Id<>(OnePieceRPG.id("stamina"));
+
+    public static final PacketCodec<PacketByteBuf, StaminaPayload> STREAM_CODEC = PacketCodec.of(
+            (packet, buf) -> {
+                buf.writeFloat(packet.stamina());
+                buf.writeByte(packet.regenTicks());
+                buf.writeByte(packet.boostTicks());
+            },
+            buf -> new StaminaPayload(buf.readFloat(), buf.readUnsignedByte(), buf.readUnsignedByte())
+    );
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return TYPE;
+    }
+
+}
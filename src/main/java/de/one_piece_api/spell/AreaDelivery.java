@@ -0,0 +1,97 @@
+package de.one_piece_api.spell;
+
+import de.one_piece_api.OnePieceRPG;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Declarative area delivery of a spell, stored in the spell JSON under
+ * {@code deliver.custom.area} of a custom delivery with the {@link #HANDLER} handler.
+ * <p>
+ * The spell's impacts are performed on every living entity inside the shape:
+ * <ul>
+ *     <li><b>CONE</b> - from the caster's eyes along the look direction, {@link #range} long with a full opening {@link #angle}</li>
+ *     <li><b>SPHERE</b> - around the caster's center with radius {@link #range}</li>
+ *     <li><b>LINE</b> - from the caster's eyes along the look direction, {@link #range} long and {@link #width} thick</li>
+ *     <li><b>RING</b> - horizontal ring around the caster between {@link #inner_radius} and {@link #range},
+ *         {@link #width} high</li>
+ * </ul>
+ * Impacts are scaled by the {@link #falloff} over the distance from the caster,
+ * down to {@link #falloff_min} at the edge.
+ */
+public class AreaDelivery {
+
+    /**
+     * Handler id of the custom delivery executing area deliveries.
+     */
+    public static final Identifier HANDLER = OnePieceRPG.id("area");
+
+    public enum Shape { CONE, SPHERE, LINE, RING }
+
+    public enum Falloff { NONE, LINEAR, SQUARED }
+
+    public Shape shape = Shape.SPHERE;
+    public float range = 5;
+    /** Full opening angle of a cone in degrees */
+    public float angle = 60;
+    public float width = 1;
+    public float inner_radius = 0;
+    public Falloff falloff = Falloff.NONE;
+    public float falloff_min = 0.25F;
+    /** Maximum number of targets, nearest first, 0 for unlimited */
+    public int max_targets = 0;
+    public boolean include_caster = false;
+
+    public AreaDelivery() {
+    }
+
+    /**
+     * Gets the impact multiplier for a target.
+     *
+     * @param distance distance of the target relative to the reach of the shape, between 0 and 1
+     */
+    public float falloffMultiplier(double distance) {
+        double t = Math.clamp(distance, 0, 1);
+        return switch (falloff) {
+            case NONE -> 1;
+            case LINEAR -> (float) (1 - t * (1 - falloff_min));
+            case SQUARED -> (float) (1 - t * t * (1 - falloff_min));
+        };
+    }
+
+    /**
+     * Checks the values, so broken data is caught at datagen time and skipped at runtime.
+     *
+     * @return the problems found, empty if the delivery is valid
+     */
+    public List<String> validate() {
+        var problems = new ArrayList<String>();
+        if (shape == null) {
+            problems.add("Missing shape");
+        }
+        if (falloff == null) {
+            problems.add("Missing falloff");
+        }
+        if (!(range > 0)) {
+            problems.add("Range must be positive, got " + range);
+        }
+        if (shape == Shape.CONE && !(angle > 0 && angle <= 360)) {
+            problems.add("Cone angle must be in (0, 360], got " + angle);
+        }
+        if ((shape == Shape.LINE || shape == Shape.RING) && !(width > 0)) {
+            problems.add("Width must be positive, got " + width);
+        }
+        if (shape == Shape.RING && !(inner_radius >= 0 && inner_radius < range)) {
+            problems.add("Inner radius must be in [0, range), got " + inner_radius);
+        }
+        if (!(falloff_min >= 0 && falloff_min <= 1)) {
+            problems.add("Falloff minimum must be in [0, 1], got " + falloff_min);
+        }
+        if (max_targets < 0) {
+            problems.add("Max targets must not be negative, got " + max_targets);
+        }
+        return problems;
+    }
+}
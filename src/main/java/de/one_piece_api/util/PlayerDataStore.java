@@ -0,0 +1,202 @@
+package de.one_piece_api.util;
+
+import de.one_piece_api.mixin_interface.IPlayerData;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Saved data of a player, stored in a single versioned {@value #ROOT_KEY} compound
+ * with one sub-compound per section.
+ * <p>
+ * Each player keeps the NBT of every section from the last save or load. A section is only
+ * rebuilt when it was marked dirty since then, otherwise the cached compound is written again.
+ * Sections that change nearly every tick mark themselves dirty right before writing.
+ * Sections nobody reads, like server-only sections in singleplayer, are kept as loaded.
+ * <p>
+ * Older layouts are upgraded on load by the migrations registered with
+ * {@link #registerMigration(int, Migration)}, one per version step.
+ */
+public class PlayerDataStore {
+
+    public static final String ROOT_KEY = "onepiece";
+    public static final String VERSION_KEY = "version";
+    public static final int VERSION = 1;
+
+    public static final String STAMINA = "stamina";
+    public static final String SPELLS = "spells";
+    public static final String DEVIL_FRUIT = "devil_fruit";
+    public static final String CLASS = "class";
+    public static final String COMBAT = "combat";
+    public static final String XP = "xp";
+
+    /**
+     * Upgrades player NBT from one version to the next.
+     */
+    @FunctionalInterface
+    public interface Migration {
+        /**
+         * @param playerNbt the whole player NBT, changed in place
+         */
+        void migrate(NbtCompound playerNbt);
+    }
+
+    private static final Int2ObjectMap<Migration> MIGRATIONS = new Int2ObjectOpenHashMap<>();
+
+    static {
+        registerMigration(0, PlayerDataStore::migrateLegacyKeys);
+    }
+
+    private final Map<String, NbtCompound> cache = new HashMap<>();
+    private final Set<String> dirty = new HashSet<>();
+
+    /**
+     * Gets the data store of a player.
+     */
+    public static PlayerDataStore get(PlayerEntity player) {
+        return ((IPlayerData) player).onepiece$getDataStore();
+    }
+
+    /**
+     * Registers the migration from {@code fromVersion} to {@code fromVersion + 1}.
+     */
+    public static void registerMigration(int fromVersion, Migration migration) {
+        MIGRATIONS.put(fromVersion, migration);
+    }
+
+    /**
+     * Upgrades player NBT to the current {@link #VERSION}. NBT without the root compound
+     * is version {@code 0}, the layout with one top-level key per system.
+     *
+     * @param playerNbt the player NBT, changed in place
+     * @return the root compound
+     */
+    public static NbtCompound upgrade(NbtCompound playerNbt) {
+        int version = playerNbt.contains(ROOT_KEY, NbtElement.COMPOUND_TYPE)
+                ? playerNbt.getCompound(ROOT_KEY).getInt(VERSION_KEY)
+                : 0;
+        while (version < VERSION) {
+            Migration migration = MIGRATIONS.get(version);
+            if (migration != null) {
+                migration.migrate(playerNbt);
+            }
+            version++;
+        }
+        NbtCompound root = getOrCreateRoot(playerNbt);
+        root.putInt(VERSION_KEY, Math.max(VERSION, root.getInt(VERSION_KEY)));
+        return root;
+    }
+
+    /**
+     * Marks a section as changed, so it is rebuilt on the next save.
+     */
+    public void markDirty(String section) {
+        dirty.add(section);
+    }
+
+    /**
+     * Upgrades the player NBT and keeps all sections in it, called before any section is read.
+     */
+    public void load(NbtCompound playerNbt) {
+        NbtCompound root = upgrade(playerNbt);
+        cache.clear();
+        dirty.clear();
+        for (String key : root.getKeys()) {
+            if (root.contains(key, NbtElement.COMPOUND_TYPE)) {
+                cache.put(key, root.getCompound(key));
+            }
+        }
+    }
+
+    /**
+     * Reads a section if it was saved. Changes made by the reader do not mark it dirty,
+     * must be called after {@link #load(NbtCompound)}.
+     */
+    public void read(String section, Consumer<NbtCompound> reader) {
+        NbtCompound data = cache.get(section);
+        if (data != null) {
+            reader.accept(data);
+            dirty.remove(section);
+        }
+    }
+
+    /**
+     * Writes a section, reusing the cached compound unless it is dirty.
+     */
+    public void write(NbtCompound playerNbt, String section, Consumer<NbtCompound> writer) {
+        NbtCompound data = cache.get(section);
+        if (data == null || dirty.remove(section)) {
+            data = new NbtCompound();
+            writer.accept(data);
+            cache.put(section, data);
+        }
+        getOrCreateRoot(playerNbt).put(section, data);
+    }
+
+    /**
+     * Writes the version and all cached sections, so sections without a writer are kept.
+     */
+    public void save(NbtCompound playerNbt) {
+        NbtCompound root = getOrCreateRoot(playerNbt);
+        root.putInt(VERSION_KEY, VERSION);
+        cache.forEach((section, data) -> {
+            if (!root.contains(section)) {
+                root.put(section, data);
+            }
+        });
+    }
+
+    private static NbtCompound getOrCreateRoot(NbtCompound playerNbt) {
+        if (!playerNbt.contains(ROOT_KEY, NbtElement.COMPOUND_TYPE)) {
+            playerNbt.put(ROOT_KEY, new NbtCompound());
+        }
+        return playerNbt.getCompound(ROOT_KEY);
+    }
+
+    /**
+     * Moves the top-level keys used before the root compound into their sections.
+     */
+    private static void migrateLegacyKeys(NbtCompound playerNbt) {
+        NbtCompound root = getOrCreateRoot(playerNbt);
+        if (playerNbt.contains("Stamina")) {
+            NbtCompound stamina = new NbtCompound();
+            stamina.putDouble("value", playerNbt.getDouble("Stamina"));
+            root.put(STAMINA, stamina);
+            playerNbt.remove("Stamina");
+        }
+        if (playerNbt.contains("OnePieceSpells", NbtElement.COMPOUND_TYPE)) {
+            root.put(SPELLS, playerNbt.getCompound("OnePieceSpells"));
+            playerNbt.remove("OnePieceSpells");
+        }
+        if (playerNbt.contains("DevilFruit")) {
+            NbtCompound devilFruit = new NbtCompound();
+            devilFruit.putString("id", playerNbt.getString("DevilFruit"));
+            root.put(DEVIL_FRUIT, devilFruit);
+            playerNbt.remove("DevilFruit");
+        }
+        if (playerNbt.contains("OnePieceClass")) {
+            NbtCompound onePieceClass = new NbtCompound();
+            onePieceClass.putString("id", playerNbt.getString("OnePieceClass"));
+            root.put(CLASS, onePieceClass);
+            playerNbt.remove("OnePieceClass");
+        }
+        if (playerNbt.contains("onepiece_combat_mode")) {
+            NbtCompound combat = new NbtCompound();
+            combat.putBoolean("enabled", playerNbt.getBoolean("onepiece_combat_mode"));
+            root.put(COMBAT, combat);
+            playerNbt.remove("onepiece_combat_mode");
+        }
+        if (playerNbt.contains("onepiece_xp_data", NbtElement.COMPOUND_TYPE)) {
+            root.put(XP, playerNbt.getCompound("onepiece_xp_data"));
+            playerNbt.remove("onepiece_xp_data");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package de.one_piece_api.util;
+
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.spell_engine.api.spell.Spell;
+import net.spell_engine.internals.container.SpellContainerSource;
+
+import java.util.List;
+
+/**
+ * Per-player memo of the resolved spell containers.
+ * <p>
+ * The resolved result only depends on the gathered containers (skill rewards,
+ * equipment, items), the spell registry, the hotbar and the combat flag. As long
+ * as the fingerprint of those inputs matches, the results are reused. Both the
+ * combat and the non-combat result are kept, so toggling combat mode only swaps
+ * the result instead of merging all containers again.
+ */
+public class SpellContainerCache {
+
+    private List<SpellContainerSource.SourcedContainer> containers = null;
+    private Registry<Spell> registry = null;
+    private int hotbarVersion = -1;
+
+    private List<RegistryEntry<Spell>> passiveSpells = null;
+    private List<RegistryEntry<Spell>> modifiers = null;
+    private SpellContainerSource.Result combatResult = null;
+    private SpellContainerSource.Result nonCombatResult = null;
+
+    /**
+     * Checks the fingerprint and drops all cached results if any input changed.
+     *
+     * @return true if the cached results are still valid for these inputs
+     */
+    public boolean validate(List<SpellContainerSource.SourcedContainer> containers, Registry<Spell> registry, int hotbarVersion) {
+        if (this.registry == registry && this.hotbarVersion == hotbarVersion && containers.equals(this.containers)) {
+            return true;
+        }
+        this.containers = containers;
+        this.registry = registry;
+        this.hotbarVersion = hotbarVersion;
+        this.passiveSpells = null;
+        this.modifiers = null;
+        this.combatResult = null;
+        this.nonCombatResult = null;
+        return false;
+    }
+
+    /**
+     * Gets the containers the cache was built from. They are shared with the cached results.
+     */
+    public List<SpellContainerSource.SourcedContainer> getContainers() {
+        return containers;
+    }
+
+    public List<RegistryEntry<Spell>> getPassiveSpells() {
+        return passiveSpells;
+    }
+
+    public List<RegistryEntry<Spell>> getModifiers() {
+        return modifiers;
+    }
+
+    public void setSharedSpells(List<RegistryEntry<Spell>> passiveSpells, List<RegistryEntry<Spell>> modifiers) {
+        this.passiveSpells = passiveSpells;
+        this.modifiers = modifiers;
+    }
+
+    public SpellContainerSource.Result getResult(boolean combat) {
+        return combat ? combatResult : nonCombatResult;
+    }
+
+    public void setResult(boolean combat, SpellContainerSource.Result result) {
+        if (combat) {
+            combatResult = result;
+        } else {
+            nonCombatResult = result;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package de.one_piece_api.util;
+
+import de.one_piece_api.mixin_interface.ISpellPlayer;
+import de.one_piece_api.mixin_interface.IStaminaCost;
+import de.one_piece_api.mixin_interface.IStaminaPlayer;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.world.World;
+import net.spell_engine.api.spell.Spell;
+import net.spell_engine.api.spell.registry.SpellRegistry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Precomputed stamina cost required to cast each spell, indexed by spell registry raw id.
+ * <p>
+ * The table is built lazily per spell registry instance. The spell registry is a
+ * dynamic registry, so a data reload that changes spells always creates a new
+ * instance and with it a new table. Client and server registries get separate
+ * tables, which matters in singleplayer.
+ */
+public class StaminaCostTable {
+
+    private static final Map<Registry<Spell>, float[]> TABLES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Gets the stamina required to cast the spell, {@code 0} if it has no stamina cost.
+     */
+    public static float getCost(World world, RegistryEntry<Spell> spell) {
+        return getCost(SpellRegistry.from(world), spell);
+    }
+
+    /**
+     * Gets the stamina required to cast the spell from the table of a spell registry.
+     */
+    public static float getCost(Registry<Spell> registry, RegistryEntry<Spell> spell) {
+        return getCost(registry, getTable(registry), spell);
+    }
+
+    /**
+     * Checks which hotbar slots the player can currently afford, in one table lookup.
+     *
+     * @return a bit mask with bit {@code i} set if slot {@code i} holds a spell that is affordable,
+     *         empty slots are never set
+     */
+    public static int getAffordableSlots(PlayerEntity player) {
+        if (!(player instanceof IStaminaPlayer staminaPlayer)) {
+            return 0;
+        }
+        return getAffordableSlots(player, staminaPlayer.onepiece$getStamina());
+    }
+
+    /**
+     * Checks which hotbar slots would be affordable with the given stamina.
+     *
+     * @return a bit mask with bit {@code i} set if slot {@code i} holds a spell that is affordable,
+     *         empty slots are never set
+     */
+    public static int getAffordableSlots(PlayerEntity player, double stamina) {
+        if (!(player instanceof ISpellPlayer spellPlayer)) {
+            return 0;
+        }
+        return getAffordableSlots(SpellRegistry.from(player.getWorld()), spellPlayer.onepiece$getSelectedSpellEntries(), stamina);
+    }
+
+    /**
+     * Checks which of the given hotbar slots would be affordable with the given stamina.
+     *
+     * @param entries the spell per hotbar slot, {@code null} for empty slots
+     * @return a bit mask with bit {@code i} set if slot {@code i} holds a spell that is affordable,
+     *         empty slots are never set
+     */
+    public static int getAffordableSlots(Registry<Spell> registry, RegistryEntry<Spell>[] entries, double stamina) {
+        float[] table = getTable(registry);
+        int mask = 0;
+        for (int slot = 0; slot < entries.length && slot < Integer.SIZE; slot++) {
+            RegistryEntry<Spell> entry = entries[slot];
+            if (entry != null && stamina >= getCost(registry, table, entry)) {
+                mask |= 1 << slot;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Same rule as the cast check: the base stamina cost of the spell, if it has one.
+     */
+    public static float computeCost(Spell spell) {
+        if (spell.cost instanceof IStaminaCost staminaCost) {
+            return staminaCost.onepiece$getStaminaCost();
+        }
+        return 0;
+    }
+
+    private static float getCost(Registry<Spell> registry, float[] table, RegistryEntry<Spell> spell) {
+        int rawId = registry.getRawId(spell.value());
+        if (rawId >= 0 && rawId < table.length) {
+            return table[rawId];
+        }
+        // Not part of this registry, fall back to the spell itself
+        return computeCost(spell.value());
+    }
+
+    private static float[] getTable(Registry<Spell> registry) {
+        float[] table = TABLES.get(registry);
+        if (table == null) {
+            table = build(registry);
+            TABLES.put(registry, table);
+        }
+        return table;
+    }
+
+    private static float[] build(Registry<Spell> registry) {
+        float[] table = new float[registry.size()];
+        for (Spell spell : registry) {
+            int rawId = registry.getRawId(spell);
+            if (rawId >= table.length) {
+                table = Arrays.copyOf(table, rawId + 1);
+            }
+            table[rawId] = computeCost(spell);
+        }
+        return table;
+    }
+}
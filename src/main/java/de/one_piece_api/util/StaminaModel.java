@@ -0,0 +1,187 @@
+package de.one_piece_api.util;
+
+import de.one_piece_api.init.MyAttributes;
+import net.minecraft.entity.player.PlayerEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+
+/**
+ * Stamina state and regeneration rules shared by both sides.
+ * <p>
+ * The server runs it as the authoritative stamina of a player, the client runs
+ * the same instance type to predict regeneration between server corrections.
+ * Because both sides use this class, the prediction only diverges when the
+ * inputs differ (sneaking, attributes) or the server changes stamina directly.
+ * <p>
+ * Regeneration happens every {@link #REGEN_INTERVAL_TICKS} ticks. The amount is
+ * interpolated between base regeneration and boosted regeneration, based on the
+ * proportion of time spent boosting (crouching) in the current interval.
+ */
+public class StaminaModel {
+
+    public static final int REGEN_INTERVAL_TICKS = 20;
+
+    private double stamina = 0;
+
+    /**
+     * Ticks elapsed in the current regeneration interval.
+     */
+    private int regenTicks = 0;
+
+    /**
+     * Ticks spent boosting within the current regeneration interval.
+     */
+    private int boostTicks = 0;
+
+    /**
+     * Incremented on every change that is not regeneration, like spell costs or commands.
+     */
+    private int revision = 0;
+
+    public double get() {
+        return stamina;
+    }
+
+    public int getRegenTicks() {
+        return regenTicks;
+    }
+
+    public int getBoostTicks() {
+        return boostTicks;
+    }
+
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * Sets the stamina from outside the regeneration cycle, clamped between 0 and the maximum.
+     */
+    public void set(double value, double maxStamina) {
+        stamina = clamp(value, maxStamina);
+        revision++;
+    }
+
+    /**
+     * Restores the complete state from an authoritative snapshot, including the regeneration phase.
+     */
+    public void restore(double value, int regenTicks, int boostTicks) {
+        this.stamina = value;
+        this.regenTicks = regenTicks;
+        this.boostTicks = boostTicks;
+    }
+
+    public void copyFrom(StaminaModel other) {
+        restore(other.stamina, other.regenTicks, other.boostTicks);
+        this.revision = other.revision;
+    }
+
+    /**
+     * Advances the model by one tick, regenerating stamina at the end of each interval.
+     *
+     * @param player the player providing the stamina attributes
+     * @param boosted whether the player currently has the regeneration boost
+     */
+    public void tick(PlayerEntity player, boolean boosted) {
+        tick(regenTicks >= REGEN_INTERVAL_TICKS ? Attributes.of(player) : null, boosted);
+    }
+
+    /**
+     * Advances the model by one tick with the given attribute values.
+     *
+     * @param attributes the stamina attributes, without them the interval ends without regeneration
+     * @param boosted whether the player currently has the regeneration boost
+     */
+    public void tick(@Nullable Attributes attributes, boolean boosted) {
+        if (regenTicks >= REGEN_INTERVAL_TICKS) {
+            if (attributes != null) {
+                double boostProgress = (double) boostTicks / (double) regenTicks;
+                stamina = clamp(stamina + attributes.regen(boostProgress), attributes.maxStamina());
+            }
+            regenTicks = 0;
+            boostTicks = 0;
+        }
+        regenTicks++;
+        if (boosted) {
+            boostTicks++;
+        }
+    }
+
+    /**
+     * Values of the stamina attributes of a player.
+     */
+    public record Attributes(double maxStamina, double baseRegen, double crouchMultiplier, double crouchAdditive) {
+
+        /**
+         * Reads the current attribute values of a player.
+         *
+         * @return the values, or {@code null} if the player lacks one of the attributes
+         */
+        @Nullable
+        public static Attributes of(PlayerEntity player) {
+            var maxAttribute = player.getAttributeInstance(MyAttributes.MAX_STAMINA);
+            var baseAttribute = player.getAttributeInstance(MyAttributes.STAMINA_BASE_REGEN);
+            var crouchMultAttribute = player.getAttributeInstance(MyAttributes.STAMINA_CROUCH_MULT);
+            var crouchAddAttribute = player.getAttributeInstance(MyAttributes.STAMINA_CROUCH_ADD);
+            if (maxAttribute == null || baseAttribute == null || crouchMultAttribute == null || crouchAddAttribute == null) {
+                return null;
+            }
+            return new Attributes(maxAttribute.getValue(), baseAttribute.getValue(),
+                    crouchMultAttribute.getValue(), crouchAddAttribute.getValue());
+        }
+
+        /**
+         * Calculates the regeneration of one interval.
+         *
+         * @param boostProgress the proportion of the interval spent boosting, between 0 and 1
+         */
+        public double regen(double boostProgress) {
+            return getStaminaRegen(baseRegen, crouchMultiplier, crouchAdditive, boostProgress);
+        }
+    }
+
+    /**
+     * Calculates the stamina regeneration amount using interpolation.
+     * <p>
+     * Formula: lerp(baseRegen, crouchRegen, boostProgress²)
+     * where crouchRegen = (baseRegen + crouchAdditive) * crouchMultiplier
+     *
+     * @param baseRegen the base stamina regeneration
+     * @param crouchMultiplier the crouch multiplier
+     * @param crouchAdditive the crouch additive bonus
+     * @param boostProgress the proportion of the interval spent boosting, between 0 and 1
+     * @return the calculated stamina regeneration amount
+     */
+    public static double getStaminaRegen(double baseRegen, double crouchMultiplier, double crouchAdditive, double boostProgress) {
+        double crouchRegen = (baseRegen + crouchAdditive) * crouchMultiplier;
+
+        // Interpolate between base and crouch regeneration based on time spent crouching
+        return interpolate(baseRegen, crouchRegen, boostProgress, progress -> progress * progress);
+    }
+
+    /**
+     * Performs interpolation between two values using a custom easing function.
+     * <p>
+     * Formula: (1 - t) * startValue + t * endValue, where t = easingFunction(progress)
+     *
+     * @param startValue the starting value (returned when progress is 0)
+     * @param endValue the ending value (returned when progress is 1)
+     * @param progress the interpolation progress, typically between 0.0 and 1.0
+     * @param easingFunction a function that transforms the progress value
+     * @return the interpolated value between startValue and endValue
+     */
+    public static double interpolate(double startValue, double endValue, double progress, Function<Double, Double> easingFunction) {
+        double easedProgress = easingFunction.apply(progress);
+        return (1 - easedProgress) * startValue + easedProgress * endValue;
+    }
+
+    private static double clamp(double value, double maxStamina) {
+        if (value > maxStamina) {
+            return maxStamina;
+        } else if (value < 0) {
+            return 0;
+        }
+        return value;
+    }
+}
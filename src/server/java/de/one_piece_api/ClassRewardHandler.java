@@ -5,10 +5,12 @@ import de.one_piece_api.data.loader.DataLoaders;
 import de.one_piece_api.mixin_interface.IClassPlayer;
 import de.one_piece_api.util.DataGenUtil;
 import de.one_piece_api.util.OnePieceCategory;
+import de.one_piece_api.util.helper.SkillTransaction;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
 import net.puffish.skillsmod.SkillsMod;
 import net.puffish.skillsmod.config.skill.SkillDefinitionConfig;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -17,6 +19,7 @@ public class ClassRewardHandler {
     /**
      * Called when a player selects or changes their class.
      * Handles clearing old class rewards and granting new class rewards.
+     * Rewards kept by both classes are not touched.
      */
     public static void onClassUpdate(ServerPlayerEntity player, Identifier oldClassId, Identifier newClassId) {
         OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER, "Player {} changed class: {} → {}",
@@ -24,17 +27,19 @@ public class ClassRewardHandler {
                 oldClassId != null ? oldClassId : "none",
                 newClassId != null ? newClassId : "none");
 
-        // Remove rewards from old class
-        if (oldClassId != null) {
-            OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER, "Clearing rewards for old class {}", oldClassId);
-            clearRewards(player, oldClassId);
-        }
+        SkillTransaction.run(player, transaction -> {
+            // Remove rewards from old class
+            if (oldClassId != null) {
+                OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER, "Clearing rewards for old class {}", oldClassId);
+                clearRewards(transaction, oldClassId);
+            }
 
-        // Apply rewards for new class
-        if (newClassId != null) {
-            OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER, "Applying rewards for new class {}", newClassId);
-            applyRewards(player, newClassId);
-        }
+            // Apply rewards for new class
+            if (newClassId != null) {
+                OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER, "Applying rewards for new class {}", newClassId);
+                applyRewards(transaction, newClassId);
+            }
+        });
     }
 
     private static List<ClassConfig.LevelReward> getRewards(Identifier classID) {
@@ -54,13 +59,14 @@ public class ClassRewardHandler {
             return;
         }
         var classID = classPlayer.onepiece$getOnePieceClass();
-        clearRewards(player, classID);
+        SkillTransaction.run(player, transaction -> clearRewards(transaction, classID));
     }
 
     /**
-     * Remove all rewards for the given class.
+     * Stage the removal of all rewards for the given class.
      */
-    private static void clearRewards(ServerPlayerEntity player, Identifier classID) {
+    private static void clearRewards(SkillTransaction transaction, Identifier classID) {
+        ServerPlayerEntity player = transaction.getPlayer();
         if (classID == null) {
             OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER, "Skipping clearRewards: null classID for player {}", player.getName().getString());
             return;
@@ -71,21 +77,21 @@ public class ClassRewardHandler {
                 rewards.size(), player.getName().getString(), classID);
 
         for (var reward : rewards) {
-            SkillDefinitionConfig skillDefinitionConfig = DataLoaders.SKILL_DEFINITION_LOADER.getItems().get(reward.reward());
-            if (skillDefinitionConfig == null) {
+            String id = getSkillId(reward);
+            if (id == null) {
                 continue;
             }
-            String id = DataGenUtil.generateDeterministicId(Identifier.of(skillDefinitionConfig.id()));
-            SkillsMod.getInstance().lockSkill(player, OnePieceCategory.ID, id);
+            transaction.lock(id);
             OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER,"Removed reward at level {} for player {}",
                     reward.level(), player.getName().getString());
         }
     }
 
     /**
-     * Apply all rewards matching the player's class and level.
+     * Stage all rewards matching the player's class and level.
      */
-    private static void applyRewards(ServerPlayerEntity player, Identifier classID) {
+    private static void applyRewards(SkillTransaction transaction, Identifier classID) {
+        ServerPlayerEntity player = transaction.getPlayer();
         if (classID == null) {
             OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER, "Skipping applyRewards: null classID for player {}", player.getName().getString());
             return;
@@ -112,12 +118,11 @@ public class ClassRewardHandler {
             if (level >= requiredLevel) {
                 OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER, "Applying reward (requiredLevel = {}, playerLevel = {}) for player {}",
                         requiredLevel, level, player.getName().getString());
-                SkillDefinitionConfig skillDefinitionConfig = DataLoaders.SKILL_DEFINITION_LOADER.getItems().get(reward.reward());
-                if (skillDefinitionConfig == null) {
+                String id = getSkillId(reward);
+                if (id == null) {
                     continue;
                 }
-                String id = DataGenUtil.generateDeterministicId(Identifier.of(skillDefinitionConfig.id()));
-                SkillsMod.getInstance().tryUnlockSkill(player, OnePieceCategory.ID, id, true);
+                transaction.unlock(id);
             } else {
                 OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER, "Skipping reward (requiredLevel = {}, playerLevel = {}) for player {}",
                         requiredLevel, level, player.getName().getString());
@@ -125,17 +130,38 @@ public class ClassRewardHandler {
         }
     }
 
+    @Nullable
+    private static String getSkillId(ClassConfig.LevelReward reward) {
+        SkillDefinitionConfig skillDefinitionConfig = DataLoaders.SKILL_DEFINITION_LOADER.getItems().get(reward.reward());
+        if (skillDefinitionConfig == null) {
+            return null;
+        }
+        return DataGenUtil.generateDeterministicId(Identifier.of(skillDefinitionConfig.id()));
+    }
+
     /**
      * Reset all rewards for the player and reapply based on class and level.
+     * Inside a {@link SkillTransaction} of the player, the refresh runs once after it commits.
      */
     public static void refreshRewards(ServerPlayerEntity player) {
+        if (SkillTransaction.deferRefresh(player)) {
+            return;
+        }
+        SkillTransaction.run(player, ClassRewardHandler::stageRewards);
+    }
+
+    /**
+     * Stage the class rewards of the transaction's player: clear them and reapply based on class and level.
+     */
+    public static void stageRewards(SkillTransaction transaction) {
+        ServerPlayerEntity player = transaction.getPlayer();
         if (player instanceof IClassPlayer classPlayer) {
             var classId = classPlayer.onepiece$getOnePieceClass();
             if (classId != null) {
                 OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER, "Refreshing rewards for player {} (class {})",
                         player.getName().getString(), classId);
-                clearRewards(player, classId);
-                applyRewards(player, classId);
+                clearRewards(transaction, classId);
+                applyRewards(transaction, classId);
             } else {
                 OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER,"No class found for player {}. Skipping refresh.",
                         player.getName().getString());
@@ -1,6 +1,7 @@
 package de.one_piece_api;
 
 import de.one_piece_api.ability.handler.PassiveAbilityHandler;
+import de.one_piece_api.data.ProgressionIndex;
 import de.one_piece_api.data.loader.DataLoaders;
 import de.one_piece_api.data.experience.ItemExperienceSource;
 import de.one_piece_api.data.experience.TimeExperienceSource;
@@ -8,6 +9,20 @@ import de.one_piece_api.event.ServerEvents;
 import de.one_piece_api.init.MyCommands;
 import de.one_piece_api.init.MyRewards;
 import de.one_piece_api.init.MyServerPayloads;
+import de.one_piece_api.network.InboundStateCoalescer;
+import de.one_piece_api.network.NetworkStatsDumper;
+import de.one_piece_api.network.ParticleBatcher;
+import de.one_piece_api.network.PlayerNetworkStats;
+import de.one_piece_api.network.StaminaSync;
+import de.one_piece_api.spell.AreaDeliveryExecutor;
+import de.one_piece_api.spell.CastStateStore;
+import de.one_piece_api.stats.GameplayStats;
+import de.one_piece_api.stats.StatsExporter;
+import de.one_piece_api.util.AttributeRefresher;
+import de.one_piece_api.util.BulkCommandExecutor;
+import de.one_piece_api.util.PlayerRuntimeState;
+import de.one_piece_api.util.WorkScheduler;
+import de.one_piece_api.util.helper.SkillUnlockIndex;
 import net.fabricmc.api.DedicatedServerModInitializer;
 
 public class FabricServer implements DedicatedServerModInitializer {
@@ -21,12 +36,28 @@ public class FabricServer implements DedicatedServerModInitializer {
         ItemExperienceSource.register();
 
         MyServerPayloads.registerReceiver();
+        InboundStateCoalescer.register();
+        PlayerNetworkStats.register();
+        NetworkStatsDumper.register();
+        GameplayStats.register();
+        StatsExporter.register();
+        StaminaSync.register();
+        ParticleBatcher.register();
+        WorkScheduler.register();
+        BulkCommandExecutor.register();
+        AttributeRefresher.register();
         MyCommands.register();
         MyRewards.register();
         DataLoaders.register();
 
         ServerEvents.register();
         PassiveAbilityHandler.init();
+        CastStateStore.register();
+        SkillUnlockIndex.register();
+        ProgressionIndex.register();
+        // Last, so disconnect handlers above still see the state
+        PlayerRuntimeState.register();
+        AreaDeliveryExecutor.register();
 
 
 
@@ -1,10 +1,13 @@
 package de.one_piece_api.ability;
 
+import de.one_piece_api.config.PassiveAbilityConfig;
+import de.one_piece_api.data.loader.DataLoaders;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.effect.StatusEffect;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +18,9 @@ import java.util.function.Predicate;
  * <p>
  * Unlike spells, passive abilities are lightweight and designed specifically
  * for continuous or conditional effects without the overhead of the spell system.
+ * <p>
+ * The {@link ApplyPolicy} and refresh threshold can be overridden per ability by
+ * a {@link PassiveAbilityConfig} data file with the same id.
  */
 public class PassiveAbility {
     private final Identifier id;
@@ -23,6 +29,18 @@ public class PassiveAbility {
     private final Predicate<LivingEntity> condition;
     private final List<Effect> effects;
     private final int checkInterval; // How often to check condition (in ticks)
+    private final ApplyPolicy applyPolicy;
+    private final int refreshThreshold;
+
+    /**
+     * When status effects of an ability are applied again while the entity still has them.
+     */
+    public enum ApplyPolicy {
+        /** Apply on every check */
+        ALWAYS,
+        /** Apply only when the remaining duration is about to run out or the amplifier differs */
+        REFRESH_NEAR_EXPIRY
+    }
 
     private PassiveAbility(Builder builder) {
         this.id = builder.id;
@@ -31,6 +49,8 @@ public class PassiveAbility {
         this.condition = builder.condition;
         this.effects = builder.effects;
         this.checkInterval = builder.checkInterval;
+        this.applyPolicy = builder.applyPolicy;
+        this.refreshThreshold = builder.refreshThreshold;
     }
 
     /**
@@ -49,8 +69,18 @@ public class PassiveAbility {
      * @param entity the entity to apply effects to
      */
     public void applyEffects(LivingEntity entity) {
+        applyEffects(entity, 1);
+    }
+
+    /**
+     * Applies all effects to an entity that is ticked every {@code elapsedTicks} ticks.
+     *
+     * @param entity the entity to apply effects to
+     * @param elapsedTicks ticks since the previous tick
+     */
+    public void applyEffects(LivingEntity entity, int elapsedTicks) {
         for (Effect effect : effects) {
-            effect.apply(entity);
+            effect.apply(entity, this, elapsedTicks);
         }
     }
 
@@ -62,9 +92,21 @@ public class PassiveAbility {
      * @param tickCount the current tick count
      */
     public void tick(LivingEntity entity, long tickCount) {
-        if (tickCount % checkInterval == 0) {
+        tick(entity, tickCount, 1);
+    }
+
+    /**
+     * Ticks the ability after {@code elapsedTicks} ticks without a tick, e.g. when the
+     * entity was ticked at a slower rate. Checks once if any check was due in between.
+     *
+     * @param entity the entity
+     * @param tickCount the current tick count
+     * @param elapsedTicks ticks since the previous tick
+     */
+    public void tick(LivingEntity entity, long tickCount, int elapsedTicks) {
+        if (tickCount / checkInterval != (tickCount - elapsedTicks) / checkInterval) {
             if (shouldActivate(entity)) {
-                applyEffects(entity);
+                applyEffects(entity, elapsedTicks);
             }
         }
     }
@@ -75,39 +117,96 @@ public class PassiveAbility {
     public String getDescription() { return description; }
     public int getCheckInterval() { return checkInterval; }
 
+    /**
+     * Gets the apply policy, preferring the data file override.
+     */
+    public ApplyPolicy getApplyPolicy() {
+        PassiveAbilityConfig config = DataLoaders.PASSIVE_ABILITY_LOADER.getItems().get(id);
+        return config != null ? config.applyPolicy().orElse(applyPolicy) : applyPolicy;
+    }
+
+    /**
+     * Gets the remaining duration in ticks at which status effects are refreshed,
+     * preferring the data file override. Never below the time until the next check,
+     * so effects do not run out in between. An entity ticked every {@code elapsedTicks}
+     * ticks, e.g. an AFK player or one deferred by the scheduler, is expected to wait
+     * as long again before its next check.
+     *
+     * @param elapsedTicks ticks since the previous tick
+     */
+    public int getRefreshThreshold(int elapsedTicks) {
+        PassiveAbilityConfig config = DataLoaders.PASSIVE_ABILITY_LOADER.getItems().get(id);
+        int threshold = config != null ? config.refreshThreshold().orElse(refreshThreshold) : refreshThreshold;
+        return Math.max(threshold, elapsedTicks + checkInterval);
+    }
+
     /**
      * Represents an effect that can be applied by a passive ability.
      */
     public interface Effect {
         void apply(LivingEntity entity);
+
+        /**
+         * Applies the effect on behalf of an ability, so it can follow the ability's settings.
+         *
+         * @param elapsedTicks ticks since the entity's previous tick
+         */
+        default void apply(LivingEntity entity, PassiveAbility ability, int elapsedTicks) {
+            apply(entity);
+        }
     }
 
     /**
      * Status effect implementation.
+     * <p>
+     * The effect instance is built once. Entities receive a copy, because an
+     * added instance is owned and ticked down by the entity.
      */
     public static class StatusEffectEffect implements Effect {
-        private final RegistryEntry<StatusEffect> effect;
-        private final int duration;
-        private final int amplifier;
-        private final boolean ambient;
-        private final boolean showParticles;
-        private final boolean showIcon;
+        private final StatusEffectInstance template;
 
         public StatusEffectEffect(RegistryEntry<StatusEffect> effect, int duration, int amplifier,
                                   boolean ambient, boolean showParticles, boolean showIcon) {
-            this.effect = effect;
-            this.duration = duration;
-            this.amplifier = amplifier;
-            this.ambient = ambient;
-            this.showParticles = showParticles;
-            this.showIcon = showIcon;
+            this.template = new StatusEffectInstance(
+                    effect, duration, amplifier, ambient, showParticles, showIcon
+            );
         }
 
         @Override
         public void apply(LivingEntity entity) {
-            entity.addStatusEffect(new StatusEffectInstance(
-                    effect, duration, amplifier, ambient, showParticles, showIcon
-            ));
+            entity.addStatusEffect(createInstance());
+        }
+
+        @Override
+        public void apply(LivingEntity entity, PassiveAbility ability, int elapsedTicks) {
+            if (shouldApply(entity.getStatusEffect(template.getEffectType()), ability, elapsedTicks)) {
+                apply(entity);
+            }
+        }
+
+        /**
+         * Whether the effect is applied while the entity has {@code current}, following the ability's policy.
+         */
+        boolean shouldApply(@Nullable StatusEffectInstance current, PassiveAbility ability, int elapsedTicks) {
+            return ability.getApplyPolicy() != ApplyPolicy.REFRESH_NEAR_EXPIRY
+                    || needsRefresh(current, ability.getRefreshThreshold(elapsedTicks));
+        }
+
+        /**
+         * Creates the instance an entity receives.
+         */
+        StatusEffectInstance createInstance() {
+            return new StatusEffectInstance(template);
+        }
+
+        /**
+         * Whether applying again would change anything, avoiding the effect packet and callbacks otherwise.
+         */
+        private boolean needsRefresh(@Nullable StatusEffectInstance current, int threshold) {
+            if (current == null || current.getAmplifier() != template.getAmplifier()) {
+                return true;
+            }
+            return !current.isInfinite() && current.getDuration() <= threshold;
         }
     }
 
@@ -137,6 +236,8 @@ public class PassiveAbility {
         private Predicate<LivingEntity> condition = entity -> true;
         private final List<Effect> effects = new ArrayList<>();
         private int checkInterval = 1; // Check every tick by default
+        private ApplyPolicy applyPolicy = ApplyPolicy.REFRESH_NEAR_EXPIRY;
+        private int refreshThreshold = 0; // Raised to the time until the next check
 
         public Builder(Identifier id) {
             this.id = id;
@@ -202,6 +303,19 @@ public class PassiveAbility {
             return this;
         }
 
+        /**
+         * Sets when status effects are applied again while the entity still has them.
+         * Default is {@link ApplyPolicy#REFRESH_NEAR_EXPIRY} with the time until the next check as threshold.
+         *
+         * @param policy the apply policy
+         * @param refreshThreshold remaining duration in ticks below which effects are refreshed
+         */
+        public Builder applyPolicy(ApplyPolicy policy, int refreshThreshold) {
+            this.applyPolicy = policy;
+            this.refreshThreshold = refreshThreshold;
+            return this;
+        }
+
         /**
          * Builds the passive ability.
          */
@@ -44,9 +44,16 @@ public class PlayerAbilities {
      * Ticks all active abilities for the player.
      */
     public void tick(PlayerEntity player, long tickCount) {
+        tick(player, tickCount, 1);
+    }
+
+    /**
+     * Ticks all active abilities for the player after {@code elapsedTicks} ticks without a tick.
+     */
+    public void tick(PlayerEntity player, long tickCount, int elapsedTicks) {
         for (Identifier abilityId : activeAbilities) {
             PassiveAbilityRegistry.get(abilityId).ifPresent(ability -> {
-                ability.tick(player, tickCount);
+                ability.tick(player, tickCount, elapsedTicks);
             });
         }
     }
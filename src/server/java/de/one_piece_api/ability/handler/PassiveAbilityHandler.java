@@ -1,38 +1,41 @@
 package de.one_piece_api.ability.handler;
 
+import de.one_piece_api.OnePieceRPG;
 import de.one_piece_api.ability.PlayerAbilities;
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import de.one_piece_api.config.ActivityConfig;
+import de.one_piece_api.mixin_interface.IXpPlayer;
+import de.one_piece_api.util.PlayerRuntimeState;
+import de.one_piece_api.util.WorkScheduler;
 import net.minecraft.server.network.ServerPlayerEntity;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Handles ticking of passive abilities for all players.
  */
 public class PassiveAbilityHandler {
-    private static long tickCount = 0;
 
     public static void init() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
-            tickCount++;
+        WorkScheduler.schedule(OnePieceRPG.id("passive_abilities"), 5, 1000, PassiveAbilityHandler::tick);
+    }
 
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                PlayerAbilities abilities = getPlayerAbilities(player);
-                abilities.tick(player, tickCount);
-            }
-        });
+    /**
+     * Ticks the passive abilities of a player. Scheduled through {@link WorkScheduler},
+     * checks that were due while the player was deferred are done at once.
+     * AFK players are only checked every {@link ActivityConfig#idlePassiveIntervalTicks()}.
+     */
+    private static boolean tick(ServerPlayerEntity player, int elapsedTicks) {
+        int idleInterval = ActivityConfig.get().idlePassiveIntervalTicks();
+        if (elapsedTicks < idleInterval && player instanceof IXpPlayer xpPlayer && xpPlayer.onepiece$isAfk()) {
+            return false;
+        }
+        getPlayerAbilities(player).tick(player, WorkScheduler.getTick(), elapsedTicks);
+        return true;
     }
 
     /**
      * Gets the PlayerAbilities for a player.
-     * You should implement this using Fabric's component system for proper persistence.
-     * For now, this is a simple in-memory solution.
+     * They live in the player's runtime state and are granted again by the skill rewards on join.
      */
-    private static final Map<UUID, PlayerAbilities> PLAYER_DATA = new HashMap<>();
-
     public static PlayerAbilities getPlayerAbilities(ServerPlayerEntity player) {
-        return PLAYER_DATA.computeIfAbsent(player.getUuid(), k -> new PlayerAbilities());
+        return PlayerRuntimeState.get(player).getAbilities();
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package de.one_piece_api.config;
+
+import de.one_piece_api.data.loader.DataLoaders;
+import net.puffish.skillsmod.api.config.ConfigContext;
+import net.puffish.skillsmod.api.json.JsonElement;
+import net.puffish.skillsmod.api.json.JsonObject;
+import net.puffish.skillsmod.api.util.Problem;
+import net.puffish.skillsmod.api.util.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Player activity tracking loaded from {@code data/one_piece_api/activity.json}.
+ * <p>
+ * Every field is optional and falls back to the value in {@link #DEFAULT}.
+ *
+ * <h3>JSON Format:</h3>
+ * <pre>{@code
+ * {
+ *   "idle_timeout_seconds": 300,
+ *   "idle_passive_interval_ticks": 1
+ * }
+ * }</pre>
+ *
+ * @param idleTimeoutSeconds seconds without movement, looking around, interaction or chat
+ *                           after which a player is considered AFK, {@code 0} disables AFK detection
+ * @param idlePassiveIntervalTicks interval at which passive abilities of AFK players are checked,
+ *                                 {@code 1} keeps the normal rate. Should stay below the duration of
+ *                                 the status effects granted by passives, or they run out in between
+ */
+public record ActivityConfig(
+        int idleTimeoutSeconds,
+        int idlePassiveIntervalTicks
+) {
+
+    public static final ActivityConfig DEFAULT = new ActivityConfig(300, 1);
+
+    /**
+     * Gets the loaded activity configuration, or {@link #DEFAULT} if none is loaded.
+     *
+     * @return the active activity configuration
+     */
+    public static ActivityConfig get() {
+        return DataLoaders.ACTIVITY.getData().orElse(DEFAULT);
+    }
+
+    /**
+     * Gets the idle timeout in ticks, {@code 0} if AFK detection is disabled.
+     */
+    public int idleTimeoutTicks() {
+        return idleTimeoutSeconds * 20;
+    }
+
+    /**
+     * Parses an {@link ActivityConfig} from a JSON element.
+     *
+     * @param jsonElement the JSON element containing the configuration
+     * @param context the configuration context for parsing
+     * @return a {@link Result} containing either the parsed config or a {@link Problem} describing the parsing error
+     */
+    public static Result<ActivityConfig, Problem> parse(JsonElement jsonElement, ConfigContext context) {
+        return jsonElement.getAsObject().andThen(ActivityConfig::parse);
+    }
+
+    private static Result<ActivityConfig, Problem> parse(JsonObject rootObject) {
+        List<Problem> problems = new ArrayList<>();
+
+        int idleTimeoutSeconds = parseInt(rootObject, "idle_timeout_seconds", DEFAULT.idleTimeoutSeconds(), problems);
+        int idlePassiveIntervalTicks = parseInt(rootObject, "idle_passive_interval_ticks", DEFAULT.idlePassiveIntervalTicks(), problems);
+
+        if (problems.isEmpty()) {
+            return Result.success(new ActivityConfig(
+                    Math.max(0, idleTimeoutSeconds),
+                    Math.max(1, idlePassiveIntervalTicks)
+            ));
+        } else {
+            return Result.failure(Problem.combine(problems));
+        }
+    }
+
+    private static int parseInt(JsonObject obj, String key, int fallback, List<Problem> problems) {
+        return obj.get(key)
+                .getSuccess()
+                .flatMap(element -> element.getAsInt().ifFailure(problems::add).getSuccess())
+                .orElse(fallback);
+    }
+}
@@ -0,0 +1,110 @@
+package de.one_piece_api.config;
+
+import de.one_piece_api.data.loader.DataLoaders;
+import net.puffish.skillsmod.api.config.ConfigContext;
+import net.puffish.skillsmod.api.json.JsonElement;
+import net.puffish.skillsmod.api.json.JsonObject;
+import net.puffish.skillsmod.api.util.Problem;
+import net.puffish.skillsmod.api.util.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Server-side network tuning loaded from {@code data/one_piece_api/network.json}.
+ * <p>
+ * Every field is optional and falls back to the value in {@link #DEFAULT}.
+ *
+ * <h3>JSON Format:</h3>
+ * <pre>{@code
+ * {
+ *   "state_packets_per_second": 20,
+ *   "stats_dump_interval_seconds": 0,
+ *   "stats_dump_format": "csv",
+ *   "stamina_resync_interval_ticks": 100,
+ *   "stamina_tolerance": 0.5,
+ *   "particle_budget_per_tick": 512
+ * }
+ * }</pre>
+ *
+ * @param statePacketsPerSecond maximum combat mode and hotbar packets accepted per player per second,
+ *                              packets above the budget are dropped and the client is resynced
+ * @param statsDumpIntervalSeconds interval of the periodic network statistics dump, {@code 0} disables it
+ * @param statsDumpFormat format of the statistics dump, either {@code csv} or {@code json}
+ * @param staminaResyncIntervalTicks ticks after which a changing stamina is corrected even without drift,
+ *                                   bounding the client prediction error caused by latency
+ * @param staminaTolerance difference between the client prediction and the server value that triggers a correction
+ * @param particleBudgetPerTick maximum batched particles sent to a player per tick, emissions above the budget are dropped
+ */
+public record NetworkConfig(
+        int statePacketsPerSecond,
+        int statsDumpIntervalSeconds,
+        String statsDumpFormat,
+        int staminaResyncIntervalTicks,
+        float staminaTolerance,
+        int particleBudgetPerTick
+) {
+
+    public static final NetworkConfig DEFAULT = new NetworkConfig(20, 0, "csv", 100, 0.5f, 512);
+
+    /**
+     * Gets the loaded network configuration, or {@link #DEFAULT} if none is loaded.
+     *
+     * @return the active network configuration
+     */
+    public static NetworkConfig get() {
+        return DataLoaders.NETWORK.getData().orElse(DEFAULT);
+    }
+
+    /**
+     * Parses a {@link NetworkConfig} from a JSON element.
+     *
+     * @param jsonElement the JSON element containing the configuration
+     * @param context the configuration context for parsing
+     * @return a {@link Result} containing either the parsed config or a {@link Problem} describing the parsing error
+     */
+    public static Result<NetworkConfig, Problem> parse(JsonElement jsonElement, ConfigContext context) {
+        return jsonElement.getAsObject().andThen(NetworkConfig::parse);
+    }
+
+    private static Result<NetworkConfig, Problem> parse(JsonObject rootObject) {
+        List<Problem> problems = new ArrayList<>();
+
+        int statePacketsPerSecond = parseInt(rootObject, "state_packets_per_second", DEFAULT.statePacketsPerSecond(), problems);
+        int statsDumpIntervalSeconds = parseInt(rootObject, "stats_dump_interval_seconds", DEFAULT.statsDumpIntervalSeconds(), problems);
+        String statsDumpFormat = rootObject.get("stats_dump_format")
+                .getSuccess()
+                .flatMap(element -> element.getAsString().ifFailure(problems::add).getSuccess())
+                .orElse(DEFAULT.statsDumpFormat());
+        int staminaResyncIntervalTicks = parseInt(rootObject, "stamina_resync_interval_ticks", DEFAULT.staminaResyncIntervalTicks(), problems);
+        float staminaTolerance = rootObject.get("stamina_tolerance")
+                .getSuccess()
+                .flatMap(element -> element.getAsFloat().ifFailure(problems::add).getSuccess())
+                .orElse(DEFAULT.staminaTolerance());
+        int particleBudgetPerTick = parseInt(rootObject, "particle_budget_per_tick", DEFAULT.particleBudgetPerTick(), problems);
+
+        if (!statsDumpFormat.equals("csv") && !statsDumpFormat.equals("json")) {
+            problems.add(Problem.message("Expected stats_dump_format to be 'csv' or 'json' but got '" + statsDumpFormat + "'"));
+        }
+
+        if (problems.isEmpty()) {
+            return Result.success(new NetworkConfig(
+                    Math.max(1, statePacketsPerSecond),
+                    Math.max(0, statsDumpIntervalSeconds),
+                    statsDumpFormat,
+                    Math.max(1, staminaResyncIntervalTicks),
+                    Math.max(0, staminaTolerance),
+                    Math.max(0, particleBudgetPerTick)
+            ));
+        } else {
+            return Result.failure(Problem.combine(problems));
+        }
+    }
+
+    private static int parseInt(JsonObject obj, String key, int fallback, List<Problem> problems) {
+        return obj.get(key)
+                .getSuccess()
+                .flatMap(element -> element.getAsInt().ifFailure(problems::add).getSuccess())
+                .orElse(fallback);
+    }
+}
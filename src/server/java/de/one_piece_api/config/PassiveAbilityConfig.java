@@ -0,0 +1,66 @@
+package de.one_piece_api.config;
+
+import de.one_piece_api.ability.PassiveAbility;
+import net.puffish.skillsmod.api.config.ConfigContext;
+import net.puffish.skillsmod.api.json.JsonElement;
+import net.puffish.skillsmod.api.json.JsonObject;
+import net.puffish.skillsmod.api.util.Problem;
+import net.puffish.skillsmod.api.util.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Per-ability overrides loaded from {@code data/<namespace>/passive_ability/<path>.json},
+ * where the file name matches the id of the registered {@link PassiveAbility}.
+ * <p>
+ * Every field is optional and falls back to the value set in the ability's builder.
+ *
+ * <h3>JSON Format:</h3>
+ * <pre>{@code
+ * {
+ *   "apply_policy": "refresh_near_expiry",
+ *   "refresh_threshold": 40
+ * }
+ * }</pre>
+ *
+ * @param applyPolicy when status effects of the ability are applied again
+ * @param refreshThreshold remaining duration in ticks below which status effects are refreshed
+ */
+public record PassiveAbilityConfig(
+        Optional<PassiveAbility.ApplyPolicy> applyPolicy,
+        Optional<Integer> refreshThreshold
+) {
+
+    public static Result<PassiveAbilityConfig, Problem> parse(JsonElement jsonElement, ConfigContext context) {
+        return jsonElement.getAsObject().andThen(PassiveAbilityConfig::parse);
+    }
+
+    private static Result<PassiveAbilityConfig, Problem> parse(JsonObject rootObject) {
+        List<Problem> problems = new ArrayList<>();
+
+        Optional<PassiveAbility.ApplyPolicy> applyPolicy = rootObject.get("apply_policy")
+                .getSuccess()
+                .flatMap(element -> element.getAsString().ifFailure(problems::add).getSuccess())
+                .flatMap(name -> {
+                    try {
+                        return Optional.of(PassiveAbility.ApplyPolicy.valueOf(name.toUpperCase(Locale.ROOT)));
+                    } catch (IllegalArgumentException e) {
+                        problems.add(Problem.message("Expected apply_policy to be 'always' or 'refresh_near_expiry' but got '" + name + "'"));
+                        return Optional.empty();
+                    }
+                });
+        Optional<Integer> refreshThreshold = rootObject.get("refresh_threshold")
+                .getSuccess()
+                .flatMap(element -> element.getAsInt().ifFailure(problems::add).getSuccess())
+                .map(value -> Math.max(0, value));
+
+        if (problems.isEmpty()) {
+            return Result.success(new PassiveAbilityConfig(applyPolicy, refreshThreshold));
+        } else {
+            return Result.failure(Problem.combine(problems));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package de.one_piece_api.config;
+
+import de.one_piece_api.data.loader.DataLoaders;
+import net.minecraft.util.Identifier;
+import net.puffish.skillsmod.api.config.ConfigContext;
+import net.puffish.skillsmod.api.json.JsonElement;
+import net.puffish.skillsmod.api.json.JsonObject;
+import net.puffish.skillsmod.api.util.Problem;
+import net.puffish.skillsmod.api.util.Result;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-tick work budgets loaded from {@code data/one_piece_api/scheduler.json}.
+ * <p>
+ * Every field is optional. Systems without a budget entry use the default budget
+ * they were registered with in {@link de.one_piece_api.util.WorkScheduler}.
+ *
+ * <h3>JSON Format:</h3>
+ * <pre>{@code
+ * {
+ *   "adaptive": true,
+ *   "budgets": [
+ *     { "system": "one_piece_api:xp_time", "micros": 500 },
+ *     { "system": "one_piece_api:passive_abilities", "micros": 1000 }
+ *   ]
+ * }
+ * }</pre>
+ *
+ * @param adaptive whether budgets shrink while the server is running behind
+ * @param budgetsMicros budget per system in microseconds per tick
+ */
+public record SchedulerConfig(
+        boolean adaptive,
+        Map<Identifier, Integer> budgetsMicros
+) {
+
+    public static final SchedulerConfig DEFAULT = new SchedulerConfig(true, Map.of());
+
+    /**
+     * Gets the loaded scheduler configuration, or {@link #DEFAULT} if none is loaded.
+     *
+     * @return the active scheduler configuration
+     */
+    public static SchedulerConfig get() {
+        return DataLoaders.SCHEDULER.getData().orElse(DEFAULT);
+    }
+
+    /**
+     * Parses a {@link SchedulerConfig} from a JSON element.
+     *
+     * @param jsonElement the JSON element containing the configuration
+     * @param context the configuration context for parsing
+     * @return a {@link Result} containing either the parsed config or a {@link Problem} describing the parsing error
+     */
+    public static Result<SchedulerConfig, Problem> parse(JsonElement jsonElement, ConfigContext context) {
+        return jsonElement.getAsObject().andThen(SchedulerConfig::parse);
+    }
+
+    private static Result<SchedulerConfig, Problem> parse(JsonObject rootObject) {
+        List<Problem> problems = new ArrayList<>();
+
+        boolean adaptive = rootObject.get("adaptive")
+                .getSuccess()
+                .flatMap(element -> element.getAsBoolean().ifFailure(problems::add).getSuccess())
+                .orElse(DEFAULT.adaptive());
+
+        Map<Identifier, Integer> budgets = new HashMap<>();
+        rootObject.get("budgets")
+                .getSuccess()
+                .flatMap(element -> element.getAsArray().ifFailure(problems::add).getSuccess())
+                .ifPresent(array -> array.getAsList((i, element) -> parseBudget(element))
+                        .mapFailure(Problem::combine)
+                        .ifFailure(problems::add)
+                        .getSuccess()
+                        .ifPresent(entries -> entries.forEach(entry -> budgets.put(entry.getKey(), entry.getValue()))));
+
+        if (problems.isEmpty()) {
+            return Result.success(new SchedulerConfig(adaptive, Map.copyOf(budgets)));
+        } else {
+            return Result.failure(Problem.combine(problems));
+        }
+    }
+
+    private static Result<Map.Entry<Identifier, Integer>, Problem> parseBudget(JsonElement element) {
+        return element.getAsObject().andThen(object -> {
+            List<Problem> problems = new ArrayList<>();
+            var system = object.get("system")
+                    .andThen(e -> e.getAsString().mapSuccess(Identifier::of))
+                    .ifFailure(problems::add)
+                    .getSuccess();
+            var micros = object.get("micros")
+                    .andThen(JsonElement::getAsInt)
+                    .ifFailure(problems::add)
+                    .getSuccess();
+            if (problems.isEmpty()) {
+                return Result.success(Map.entry(system.orElseThrow(), Math.max(0, micros.orElseThrow())));
+            } else {
+                return Result.failure(Problem.combine(problems));
+            }
+        });
+    }
+}
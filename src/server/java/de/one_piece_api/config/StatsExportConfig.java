@@ -0,0 +1,88 @@
+package de.one_piece_api.config;
+
+import de.one_piece_api.data.loader.DataLoaders;
+import net.puffish.skillsmod.api.config.ConfigContext;
+import net.puffish.skillsmod.api.json.JsonElement;
+import net.puffish.skillsmod.api.json.JsonObject;
+import net.puffish.skillsmod.api.util.Problem;
+import net.puffish.skillsmod.api.util.Result;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gameplay statistics export loaded from {@code data/one_piece_api/stats_export.json}.
+ * <p>
+ * Every field is optional and falls back to the value in {@link #DEFAULT}.
+ *
+ * <h3>JSON Format:</h3>
+ * <pre>{@code
+ * {
+ *   "interval_seconds": 0,
+ *   "max_file_kilobytes": 10240,
+ *   "max_files": 5,
+ *   "buffer_size": 16
+ * }
+ * }</pre>
+ *
+ * @param intervalSeconds interval between two snapshots, {@code 0} disables the periodic export
+ * @param maxFileKilobytes size after which the export file is rotated
+ * @param maxFiles number of rotated files kept besides the current one
+ * @param bufferSize snapshots waiting for the writer, further snapshots are dropped until it catches up
+ */
+public record StatsExportConfig(
+        int intervalSeconds,
+        int maxFileKilobytes,
+        int maxFiles,
+        int bufferSize
+) {
+
+    public static final StatsExportConfig DEFAULT = new StatsExportConfig(0, 10240, 5, 16);
+
+    /**
+     * Gets the loaded export configuration, or {@link #DEFAULT} if none is loaded.
+     *
+     * @return the active export configuration
+     */
+    public static StatsExportConfig get() {
+        return DataLoaders.STATS_EXPORT.getData().orElse(DEFAULT);
+    }
+
+    /**
+     * Parses a {@link StatsExportConfig} from a JSON element.
+     *
+     * @param jsonElement the JSON element containing the configuration
+     * @param context the configuration context for parsing
+     * @return a {@link Result} containing either the parsed config or a {@link Problem} describing the parsing error
+     */
+    public static Result<StatsExportConfig, Problem> parse(JsonElement jsonElement, ConfigContext context) {
+        return jsonElement.getAsObject().andThen(StatsExportConfig::parse);
+    }
+
+    private static Result<StatsExportConfig, Problem> parse(JsonObject rootObject) {
+        List<Problem> problems = new ArrayList<>();
+
+        int intervalSeconds = parseInt(rootObject, "interval_seconds", DEFAULT.intervalSeconds(), problems);
+        int maxFileKilobytes = parseInt(rootObject, "max_file_kilobytes", DEFAULT.maxFileKilobytes(), problems);
+        int maxFiles = parseInt(rootObject, "max_files", DEFAULT.maxFiles(), problems);
+        int bufferSize = parseInt(rootObject, "buffer_size", DEFAULT.bufferSize(), problems);
+
+        if (problems.isEmpty()) {
+            return Result.success(new StatsExportConfig(
+                    Math.max(0, intervalSeconds),
+                    Math.max(1, maxFileKilobytes),
+                    Math.max(0, maxFiles),
+                    Math.max(1, bufferSize)
+            ));
+        } else {
+            return Result.failure(Problem.combine(problems));
+        }
+    }
+
+    private static int parseInt(JsonObject obj, String key, int fallback, List<Problem> problems) {
+        return obj.get(key)
+                .getSuccess()
+                .flatMap(element -> element.getAsInt().ifFailure(problems::add).getSuccess())
+                .orElse(fallback);
+    }
+}
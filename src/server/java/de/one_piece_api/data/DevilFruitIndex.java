@@ -0,0 +1,289 @@
+package de.one_piece_api.data;
+
+import de.one_piece_api.OnePieceRPG;
+import de.one_piece_api.item.DevilFruitItem;
+import de.one_piece_api.mixin_interface.IDevilFruitPlayer;
+import de.one_piece_api.util.PlayerDataStore;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.nbt.NbtSizeTracker;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
+import net.minecraft.util.WorldSavePath;
+import net.minecraft.world.PersistentState;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * World-level index of eaten devil fruits, stored with the overworld data.
+ * <p>
+ * The fruit of a player lives in the player's NBT, which is only loaded while
+ * the player is online. This index maps every eaten fruit to its owners and the
+ * time they ate it, and every owner back to the fruit, so checks like
+ * "is this fruit taken" don't depend on the owner being online.
+ * <p>
+ * Fruits are not unique, so a fruit can have several owners. They are kept in
+ * the order they ate the fruit and none of them replaces another.
+ * <p>
+ * It is updated when a fruit is eaten or cleared and corrected when a player joins.
+ * {@link #rebuild} restores it from the player data files.
+ */
+public class DevilFruitIndex extends PersistentState {
+
+    private static final String NAME = OnePieceRPG.MOD_ID + "_devil_fruits";
+
+    private static final Type<DevilFruitIndex> TYPE = new Type<>(
+            DevilFruitIndex::new,
+            DevilFruitIndex::fromNbt,
+            null
+    );
+
+    /**
+     * Owner of a devil fruit.
+     *
+     * @param player the UUID of the player who ate the fruit
+     * @param eatenAt epoch milliseconds the fruit was eaten at, {@code 0} if unknown
+     */
+    public record Owner(UUID player, long eatenAt) {
+    }
+
+    private final Map<Identifier, List<Owner>> owners = new HashMap<>();
+    private final Map<UUID, Identifier> fruits = new HashMap<>();
+
+    /**
+     * Gets the index of the server.
+     */
+    public static DevilFruitIndex get(MinecraftServer server) {
+        return server.getOverworld().getPersistentStateManager().getOrCreate(TYPE, NAME);
+    }
+
+    /**
+     * Gets the owners of a fruit, in the order they ate it.
+     *
+     * @return the owners, empty if nobody ate the fruit
+     */
+    public List<Owner> getOwners(Identifier fruit) {
+        List<Owner> result = owners.get(fruit);
+        return result != null ? Collections.unmodifiableList(result) : List.of();
+    }
+
+    /**
+     * Checks whether a player has eaten the fruit.
+     */
+    public boolean isTaken(Identifier fruit) {
+        return owners.containsKey(fruit);
+    }
+
+    /**
+     * Gets the fruit a player has eaten.
+     *
+     * @return the fruit, or {@code null} if the player has none
+     */
+    @Nullable
+    public Identifier getFruit(UUID player) {
+        return fruits.get(player);
+    }
+
+    /**
+     * Gets the number of players with a fruit.
+     */
+    public int size() {
+        return fruits.size();
+    }
+
+    /**
+     * Records that a player ate a fruit, replacing the player's previous fruit.
+     * Other owners of the fruit are kept.
+     */
+    public void put(UUID player, Identifier fruit, long eatenAt) {
+        if (fruit.equals(DevilFruitItem.DEFAULT_DEVIL_FRUIT)) {
+            remove(player);
+            return;
+        }
+        if (fruit.equals(fruits.get(player))) {
+            return;
+        }
+        remove(player);
+        add(player, fruit, eatenAt);
+        markDirty();
+    }
+
+    /**
+     * Removes the fruit of a player.
+     */
+    public void remove(UUID player) {
+        Identifier fruit = fruits.remove(player);
+        if (fruit == null) {
+            return;
+        }
+        List<Owner> fruitOwners = owners.get(fruit);
+        if (fruitOwners != null) {
+            fruitOwners.removeIf(owner -> owner.player().equals(player));
+            if (fruitOwners.isEmpty()) {
+                owners.remove(fruit);
+            }
+        }
+        markDirty();
+    }
+
+    private void add(UUID player, Identifier fruit, long eatenAt) {
+        List<Owner> fruitOwners = owners.computeIfAbsent(fruit, id -> new ArrayList<>(1));
+        if (!fruitOwners.isEmpty()) {
+            OnePieceRPG.LOGGER.info("Devil fruit {} is now owned by {} players", fruit, fruitOwners.size() + 1);
+        }
+        fruitOwners.add(new Owner(player, eatenAt));
+        fruits.put(player, fruit);
+    }
+
+    /**
+     * Corrects the entry of an online player from the fruit in the player's NBT,
+     * e.g. after the player data was edited while the player was offline.
+     */
+    public void sync(ServerPlayerEntity player) {
+        if (!(player instanceof IDevilFruitPlayer devilFruitPlayer)) {
+            return;
+        }
+        Identifier fruit = parseFruit(devilFruitPlayer.onepiece$getDevilFruit());
+        if (fruit == null) {
+            remove(player.getUuid());
+        } else if (!fruit.equals(fruits.get(player.getUuid()))) {
+            put(player.getUuid(), fruit, 0);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the player data files of the world. Files are read
+     * off the server thread; online players use their live state instead of the file.
+     * Eat times are kept for entries that did not change.
+     *
+     * @return completes on the server thread with the number of indexed owners
+     */
+    public static CompletableFuture<Integer> rebuild(MinecraftServer server) {
+        Path directory = server.getSavePath(WorldSavePath.PLAYERDATA);
+        return CompletableFuture.supplyAsync(() -> readPlayerData(directory), Util.getIoWorkerExecutor())
+                .thenApplyAsync(stored -> {
+                    Map<UUID, Identifier> current = new HashMap<>(stored);
+                    for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+                        if (player instanceof IDevilFruitPlayer devilFruitPlayer) {
+                            Identifier fruit = parseFruit(devilFruitPlayer.onepiece$getDevilFruit());
+                            if (fruit == null) {
+                                current.remove(player.getUuid());
+                            } else {
+                                current.put(player.getUuid(), fruit);
+                            }
+                        }
+                    }
+
+                    DevilFruitIndex index = get(server);
+                    Map<UUID, Long> eatenAt = new HashMap<>();
+                    index.owners.forEach((fruit, fruitOwners) -> fruitOwners.forEach(owner -> {
+                        if (fruit.equals(current.get(owner.player()))) {
+                            eatenAt.put(owner.player(), owner.eatenAt());
+                        }
+                    }));
+                    index.owners.clear();
+                    index.fruits.clear();
+                    current.forEach((player, fruit) -> index.add(player, fruit, eatenAt.getOrDefault(player, 0L)));
+                    index.owners.values().forEach(DevilFruitIndex::sortByEatenAt);
+                    index.markDirty();
+                    return index.size();
+                }, server);
+    }
+
+    private static Map<UUID, Identifier> readPlayerData(Path directory) {
+        Map<UUID, Identifier> result = new HashMap<>();
+        if (!Files.isDirectory(directory)) {
+            return result;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.dat")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                UUID player;
+                try {
+                    player = UUID.fromString(name.substring(0, name.length() - ".dat".length()));
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+                try {
+                    NbtCompound nbt = NbtIo.readCompressed(file, NbtSizeTracker.ofUnlimitedBytes());
+                    NbtCompound data = PlayerDataStore.upgrade(nbt);
+                    Identifier fruit = parseFruit(data.getCompound(PlayerDataStore.DEVIL_FRUIT).getString("id"));
+                    if (fruit != null) {
+                        result.put(player, fruit);
+                    }
+                } catch (IOException e) {
+                    OnePieceRPG.LOGGER.warn("Failed to read player data {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            OnePieceRPG.LOGGER.error("Failed to list player data in {}", directory, e);
+        }
+        return result;
+    }
+
+    /**
+     * Sorts owners by the time they ate the fruit, unknown times last.
+     */
+    private static void sortByEatenAt(List<Owner> fruitOwners) {
+        fruitOwners.sort(Comparator.comparingLong(owner -> owner.eatenAt() > 0 ? owner.eatenAt() : Long.MAX_VALUE));
+    }
+
+    @Nullable
+    private static Identifier parseFruit(@Nullable String fruit) {
+        if (fruit == null || fruit.isEmpty()) {
+            return null;
+        }
+        Identifier id = Identifier.tryParse(fruit);
+        return id == null || id.equals(DevilFruitItem.DEFAULT_DEVIL_FRUIT) ? null : id;
+    }
+
+    static DevilFruitIndex fromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        DevilFruitIndex index = new DevilFruitIndex();
+        NbtList list = nbt.getList("Fruits", NbtElement.COMPOUND_TYPE);
+        for (int i = 0; i < list.size(); i++) {
+            NbtCompound entry = list.getCompound(i);
+            Identifier fruit = Identifier.tryParse(entry.getString("Fruit"));
+            if (fruit == null || !entry.containsUuid("Owner")) {
+                continue;
+            }
+            UUID player = entry.getUuid("Owner");
+            if (index.fruits.containsKey(player)) {
+                continue;
+            }
+            index.owners.computeIfAbsent(fruit, id -> new ArrayList<>(1)).add(new Owner(player, entry.getLong("EatenAt")));
+            index.fruits.put(player, fruit);
+        }
+        return index;
+    }
+
+    @Override
+    public NbtCompound writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registryLookup) {
+        NbtList list = new NbtList();
+        owners.forEach((fruit, fruitOwners) -> fruitOwners.forEach(owner -> {
+            NbtCompound entry = new NbtCompound();
+            entry.putString("Fruit", fruit.toString());
+            entry.putUuid("Owner", owner.player());
+            entry.putLong("EatenAt", owner.eatenAt());
+            list.add(entry);
+        }));
+        nbt.put("Fruits", list);
+        return nbt;
+    }
+}
@@ -0,0 +1,503 @@
+package de.one_piece_api.data;
+
+import com.mojang.authlib.GameProfile;
+import de.one_piece_api.OnePieceRPG;
+import de.one_piece_api.event.EventRegistry;
+import de.one_piece_api.mixin_interface.IClassPlayer;
+import de.one_piece_api.mixin_interface.IXpPlayer;
+import de.one_piece_api.util.OnePieceCategory;
+import de.one_piece_api.util.PlayerDataStore;
+import de.one_piece_api.util.WorkScheduler;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtSizeTracker;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
+import net.minecraft.util.WorldSavePath;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Progression of every player that ever played, kept in a memory-mapped file so players
+ * can be ranked without loading their player data.
+ * <p>
+ * The file {@code data/one_piece_api_progression.bin} in the world holds a small header and one
+ * fixed-width record per player. A player keeps their slot for the life of the file, so an
+ * update writes only that record. Records are updated on level-up, class change and logout.
+ * XP gained between level-ups reaches the index within {@value #REFRESH_TICKS} ticks, when
+ * the {@link WorkScheduler} finds it changed. {@link #rebuild} restores the records from the
+ * player data files.
+ * <p>
+ * The records are also kept in memory, sorted per {@link Metric} for all players and
+ * per class. An update moves one entry, and the top {@code k} are read in {@code O(k)}.
+ */
+public class ProgressionIndex {
+
+    private static final String FILE_NAME = OnePieceRPG.MOD_ID + "_progression.bin";
+
+    private static final int MAGIC = 0x4F505049;
+    private static final int FORMAT = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = 128;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int REFRESH_TICKS = 20 * 30;
+
+    // Record layout
+    private static final int UUID_MOST = 0;
+    private static final int UUID_LEAST = 8;
+    private static final int LEVEL = 16;
+    private static final int XP = 20;
+    private static final int UPDATED_AT = 24;
+    private static final int NAME = 32;
+    private static final int NAME_BYTES = 16;
+    private static final int CLASS = NAME + 1 + NAME_BYTES;
+    private static final int CLASS_BYTES = RECORD_SIZE - CLASS - 1;
+
+    /**
+     * Values players are ranked by. Ties are broken by the other value, then by UUID.
+     */
+    public enum Metric {
+        LEVEL(Comparator.comparingInt(Entry::level).thenComparingInt(Entry::xp)),
+        XP(Comparator.comparingInt(Entry::xp).thenComparingInt(Entry::level));
+
+        private final Comparator<Entry> comparator;
+
+        Metric(Comparator<Entry> comparator) {
+            this.comparator = comparator.reversed().thenComparing(Entry::player);
+        }
+    }
+
+    /**
+     * A record of the index.
+     *
+     * @param player the player's UUID
+     * @param name the last known name, may be empty
+     * @param classId the class, {@code null} if none was chosen
+     * @param level the level in the One Piece category
+     * @param xp the total experience in the One Piece category
+     * @param updatedAt epoch milliseconds of the last update
+     */
+    public record Entry(UUID player, String name, @Nullable Identifier classId, int level, int xp, long updatedAt) {
+    }
+
+    /**
+     * Result of a {@link #rebuild}.
+     *
+     * @param players the number of players in the index
+     * @param skipped player files without progression data, their records were left as they were
+     */
+    public record RebuildResult(int players, int skipped) {
+    }
+
+    /**
+     * Entries sorted by every metric.
+     */
+    private static final class Leaderboard {
+        private final Map<Metric, NavigableSet<Entry>> sorted = new EnumMap<>(Metric.class);
+
+        private Leaderboard() {
+            for (Metric metric : Metric.values()) {
+                sorted.put(metric, new TreeSet<>(metric.comparator));
+            }
+        }
+
+        private void add(Entry entry) {
+            sorted.values().forEach(set -> set.add(entry));
+        }
+
+        private void remove(Entry entry) {
+            sorted.values().forEach(set -> set.remove(entry));
+        }
+
+        private boolean isEmpty() {
+            return sorted.get(Metric.LEVEL).isEmpty();
+        }
+
+        private List<Entry> top(Metric metric, int count) {
+            List<Entry> result = new ArrayList<>(count);
+            Iterator<Entry> iterator = sorted.get(metric).iterator();
+            while (result.size() < count && iterator.hasNext()) {
+                result.add(iterator.next());
+            }
+            return result;
+        }
+    }
+
+    @Nullable
+    private static ProgressionIndex instance;
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private final List<Entry> entries = new ArrayList<>();
+    private final Object2IntMap<UUID> slots = new Object2IntOpenHashMap<>();
+    private final Leaderboard all = new Leaderboard();
+    private final Map<Identifier, Leaderboard> byClass = new HashMap<>();
+
+    private ProgressionIndex(FileChannel channel) throws IOException {
+        this.channel = channel;
+        slots.defaultReturnValue(-1);
+        int count = 0;
+        if (channel.size() >= HEADER_SIZE) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) == MAGIC && header.getInt(4) == FORMAT && header.getInt(8) == RECORD_SIZE) {
+                // The count is written after the record, so a torn write leaves the record out
+                count = (int) Math.min(header.getInt(12), (channel.size() - HEADER_SIZE) / RECORD_SIZE);
+            } else {
+                OnePieceRPG.LOGGER.warn("Progression index has an unknown format, starting a new one");
+            }
+        }
+        capacity = Math.max(INITIAL_CAPACITY, count);
+        buffer = map(capacity);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, FORMAT);
+        buffer.putInt(8, RECORD_SIZE);
+        buffer.putInt(12, count);
+        for (int slot = 0; slot < count; slot++) {
+            Entry entry = readRecord(slot);
+            entries.add(entry);
+            slots.put(entry.player(), slot);
+            addRanked(entry);
+        }
+    }
+
+    public static void register() {
+        ServerLifecycleEvents.SERVER_STARTED.register(ProgressionIndex::open);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> close());
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> update(handler.getPlayer()));
+        EventRegistry.LEVEL_UP.register((player, categoryId, oldLevel, newLevel) -> {
+            if (categoryId.equals(OnePieceCategory.ID)) {
+                update(player, getClassId(player), newLevel);
+            }
+        });
+        EventRegistry.CLASS_UPDATE.register((player, oldClassId, newClassId) ->
+                update(player, parseClass(newClassId.toString()), getLevel(player)));
+        WorkScheduler.schedule(OnePieceRPG.id("progression_index"), -10, 100, ProgressionIndex::refresh);
+    }
+
+    /**
+     * Gets the index of the running server.
+     *
+     * @return the index, or {@code null} if no server is running or the file could not be opened
+     */
+    @Nullable
+    public static ProgressionIndex get() {
+        return instance;
+    }
+
+    /**
+     * Writes the current progression of an online player.
+     */
+    public static void update(ServerPlayerEntity player) {
+        update(player, getClassId(player), getLevel(player));
+    }
+
+    private static void update(ServerPlayerEntity player, @Nullable Identifier classId, int level) {
+        if (instance != null) {
+            instance.put(new Entry(player.getUuid(), player.getGameProfile().getName(), classId,
+                    level, getXp(player), System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Writes the progression of an online player whose XP or level changed since the last update.
+     * Scheduled through {@link WorkScheduler}, at most every {@value #REFRESH_TICKS} ticks per player.
+     */
+    private static boolean refresh(ServerPlayerEntity player, int elapsedTicks) {
+        if (elapsedTicks < REFRESH_TICKS) {
+            return false;
+        }
+        if (instance != null) {
+            Entry entry = instance.getEntry(player.getUuid());
+            if (entry == null || entry.xp() != getXp(player) || entry.level() != getLevel(player)) {
+                update(player);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the best players by a metric.
+     *
+     * @param metric the value to rank by
+     * @param classId only rank players of this class, or {@code null} for all players
+     * @param count the number of players
+     * @return at most {@code count} entries, best first
+     */
+    public List<Entry> top(Metric metric, @Nullable Identifier classId, int count) {
+        Leaderboard leaderboard = classId == null ? all : byClass.get(classId);
+        return leaderboard != null ? leaderboard.top(metric, count) : List.of();
+    }
+
+    @Nullable
+    public Entry getEntry(UUID player) {
+        int slot = slots.getInt(player);
+        return slot >= 0 ? entries.get(slot) : null;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(Entry entry) {
+        int slot = slots.getInt(entry.player());
+        if (slot >= 0) {
+            Entry previous = entries.get(slot);
+            if (entry.name().isEmpty()) {
+                entry = new Entry(entry.player(), previous.name(), entry.classId(), entry.level(), entry.xp(), entry.updatedAt());
+            }
+            removeRanked(previous);
+            entries.set(slot, entry);
+        } else {
+            slot = entries.size();
+            if (slot >= capacity) {
+                grow();
+            }
+            entries.add(entry);
+            slots.put(entry.player(), slot);
+        }
+        addRanked(entry);
+        writeRecord(slot, entry);
+        buffer.putInt(12, entries.size());
+    }
+
+    private void addRanked(Entry entry) {
+        all.add(entry);
+        if (entry.classId() != null) {
+            byClass.computeIfAbsent(entry.classId(), id -> new Leaderboard()).add(entry);
+        }
+    }
+
+    private void removeRanked(Entry entry) {
+        all.remove(entry);
+        if (entry.classId() != null) {
+            Leaderboard leaderboard = byClass.get(entry.classId());
+            if (leaderboard != null) {
+                leaderboard.remove(entry);
+                if (leaderboard.isEmpty()) {
+                    byClass.remove(entry.classId());
+                }
+            }
+        }
+    }
+
+    // File access
+
+    private static void open(MinecraftServer server) {
+        Path file = server.getSavePath(WorldSavePath.ROOT).resolve("data").resolve(FILE_NAME);
+        try {
+            Files.createDirectories(file.getParent());
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            instance = new ProgressionIndex(channel);
+        } catch (IOException e) {
+            OnePieceRPG.LOGGER.error("Failed to open progression index {}", file, e);
+            instance = null;
+        }
+    }
+
+    private static void close() {
+        if (instance == null) {
+            return;
+        }
+        try {
+            instance.buffer.force();
+            instance.channel.close();
+        } catch (IOException e) {
+            OnePieceRPG.LOGGER.error("Failed to close progression index", e);
+        }
+        instance = null;
+    }
+
+    private MappedByteBuffer map(int records) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) records * RECORD_SIZE);
+    }
+
+    private void grow() {
+        try {
+            buffer.force();
+            capacity *= 2;
+            buffer = map(capacity);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to grow progression index", e);
+        }
+    }
+
+    private Entry readRecord(int slot) {
+        int base = HEADER_SIZE + slot * RECORD_SIZE;
+        UUID player = new UUID(buffer.getLong(base + UUID_MOST), buffer.getLong(base + UUID_LEAST));
+        String classId = readString(base + CLASS);
+        return new Entry(
+                player,
+                readString(base + NAME),
+                classId.isEmpty() ? null : Identifier.tryParse(classId),
+                buffer.getInt(base + LEVEL),
+                buffer.getInt(base + XP),
+                buffer.getLong(base + UPDATED_AT)
+        );
+    }
+
+    private void writeRecord(int slot, Entry entry) {
+        int base = HEADER_SIZE + slot * RECORD_SIZE;
+        buffer.putLong(base + UUID_MOST, entry.player().getMostSignificantBits());
+        buffer.putLong(base + UUID_LEAST, entry.player().getLeastSignificantBits());
+        buffer.putInt(base + LEVEL, entry.level());
+        buffer.putInt(base + XP, entry.xp());
+        buffer.putLong(base + UPDATED_AT, entry.updatedAt());
+        writeString(base + NAME, NAME_BYTES, entry.name());
+        String classId = entry.classId() != null ? entry.classId().toString() : "";
+        if (!writeString(base + CLASS, CLASS_BYTES, classId)) {
+            OnePieceRPG.LOGGER.warn("Class id {} is too long for the progression index", classId);
+        }
+    }
+
+    private String readString(int offset) {
+        byte[] bytes = new byte[Byte.toUnsignedInt(buffer.get(offset))];
+        buffer.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private boolean writeString(int offset, int maxBytes, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        boolean fits = bytes.length <= maxBytes;
+        if (!fits) {
+            bytes = new byte[0];
+        }
+        buffer.put(offset, (byte) bytes.length);
+        buffer.put(offset + 1, bytes);
+        return fits;
+    }
+
+    // Player data
+
+    @Nullable
+    private static Identifier getClassId(ServerPlayerEntity player) {
+        if (player instanceof IClassPlayer classPlayer) {
+            return parseClass(classPlayer.onepiece$getOnePieceClass().toString());
+        }
+        return null;
+    }
+
+    private static int getLevel(ServerPlayerEntity player) {
+        return player instanceof IXpPlayer xpPlayer ? xpPlayer.onepiece$getLevel() : 0;
+    }
+
+    private static int getXp(ServerPlayerEntity player) {
+        return player instanceof IXpPlayer xpPlayer ? xpPlayer.onepiece$getXp() : 0;
+    }
+
+    @Nullable
+    private static Identifier parseClass(String classId) {
+        if (classId.isEmpty()) {
+            return null;
+        }
+        Identifier id = Identifier.tryParse(classId);
+        return id == null || id.equals(Identifier.ofVanilla("empty")) ? null : id;
+    }
+
+    /**
+     * Rebuilds all records from the player data files of the world. The files are read on the
+     * IO worker, online players are taken from their live state. Names are looked up in the
+     * user cache and kept from the old record if unknown.
+     * <p>
+     * Level and XP are only in files saved by this version. Older files are skipped instead
+     * of being indexed at level 0, and their players are indexed on their next logout.
+     *
+     * @return a future completed on the server thread
+     */
+    public static CompletableFuture<RebuildResult> rebuild(MinecraftServer server) {
+        Path directory = server.getSavePath(WorldSavePath.PLAYERDATA);
+        List<Path> skipped = new ArrayList<>();
+        return CompletableFuture.supplyAsync(() -> readPlayerData(directory, skipped), Util.getIoWorkerExecutor())
+                .thenApplyAsync(offline -> {
+                    ProgressionIndex index = instance;
+                    if (index == null) {
+                        throw new IllegalStateException("Progression index is not open");
+                    }
+                    if (!skipped.isEmpty()) {
+                        OnePieceRPG.LOGGER.warn("Skipped {} player files without progression data: {}", skipped.size(), skipped);
+                    }
+                    for (Entry entry : offline) {
+                        if (server.getPlayerManager().getPlayer(entry.player()) != null) {
+                            continue;
+                        }
+                        String name = server.getUserCache() != null
+                                ? server.getUserCache().getByUuid(entry.player()).map(GameProfile::getName).orElse("")
+                                : "";
+                        index.put(new Entry(entry.player(), name, entry.classId(), entry.level(), entry.xp(), entry.updatedAt()));
+                    }
+                    server.getPlayerManager().getPlayerList().forEach(ProgressionIndex::update);
+                    return new RebuildResult(index.size(), skipped.size());
+                }, server);
+    }
+
+    /**
+     * Reads the records of all player files.
+     *
+     * @param skipped receives the files without level and XP
+     */
+    private static List<Entry> readPlayerData(Path directory, List<Path> skipped) {
+        List<Entry> result = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return result;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.dat")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                UUID player;
+                try {
+                    player = UUID.fromString(name.substring(0, name.length() - ".dat".length()));
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+                try {
+                    NbtCompound data = PlayerDataStore.upgrade(NbtIo.readCompressed(file, NbtSizeTracker.ofUnlimitedBytes()));
+                    NbtCompound xp = data.getCompound(PlayerDataStore.XP);
+                    if (!xp.contains("level", NbtElement.INT_TYPE) || !xp.contains("total", NbtElement.INT_TYPE)) {
+                        skipped.add(file.getFileName());
+                        continue;
+                    }
+                    result.add(new Entry(
+                            player,
+                            "",
+                            parseClass(data.getCompound(PlayerDataStore.CLASS).getString("id")),
+                            xp.getInt("level"),
+                            xp.getInt("total"),
+                            Files.getLastModifiedTime(file).toMillis()
+                    ));
+                } catch (IOException e) {
+                    OnePieceRPG.LOGGER.warn("Failed to read player data {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            OnePieceRPG.LOGGER.error("Failed to list player data in {}", directory, e);
+        }
+        return result;
+    }
+}
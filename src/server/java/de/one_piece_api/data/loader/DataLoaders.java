@@ -26,6 +26,7 @@ public class DataLoaders {
     public static final MultiFileLoader<SkillDefinitionConfig> SKILL_DEFINITION_LOADER = add(new MultiFileLoader<>("skill_definition", de.one_piece_api.config.skill.SkillDefinitionConfig::parse));
     public static final MultiFileLoader<SkillConnectionsConfig> CONNECTIONS_LOADER = add(new MultiFileLoader<>("connections", ConnectionsConfig::parse2));
     public static final MultiFileLoader<SkillsConfig> SKILL_LOADER = add(new MultiFileLoader<>("skill_tree", SkillTreeEntryConfig::parse));
+    public static final MultiFileLoader<PassiveAbilityConfig> PASSIVE_ABILITY_LOADER = add(new MultiFileLoader<>("passive_ability", PassiveAbilityConfig::parse));
 
     // Single file loader - loads only one specific file
     public static final SingleFileLoader<AttributeScalingConfig> ATTRIBUTE_SCALING =
@@ -34,6 +35,30 @@ public class DataLoaders {
                     AttributeScalingConfig::parse
             ));
 
+    public static final SingleFileLoader<NetworkConfig> NETWORK =
+            add(new SingleFileLoader<>(
+                    OnePieceRPG.id("network.json"),
+                    NetworkConfig::parse
+            ));
+
+    public static final SingleFileLoader<ActivityConfig> ACTIVITY =
+            add(new SingleFileLoader<>(
+                    OnePieceRPG.id("activity.json"),
+                    ActivityConfig::parse
+            ));
+
+    public static final SingleFileLoader<SchedulerConfig> SCHEDULER =
+            add(new SingleFileLoader<>(
+                    OnePieceRPG.id("scheduler.json"),
+                    SchedulerConfig::parse
+            ));
+
+    public static final SingleFileLoader<StatsExportConfig> STATS_EXPORT =
+            add(new SingleFileLoader<>(
+                    OnePieceRPG.id("stats_export.json"),
+                    StatsExportConfig::parse
+            ));
+
     public static void register() {
         ServerLifecycleEvents.SERVER_STARTING.register(server -> {
             LOADER_LIST.forEach(loader -> {
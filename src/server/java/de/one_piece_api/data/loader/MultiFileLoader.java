@@ -1,5 +1,7 @@
 package de.one_piece_api.data.loader;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import de.one_piece_api.OnePieceRPG;
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.util.Identifier;
@@ -8,13 +10,18 @@ import net.puffish.skillsmod.api.json.JsonElement;
 import net.puffish.skillsmod.api.json.JsonPath;
 import net.puffish.skillsmod.api.util.Problem;
 import net.puffish.skillsmod.api.util.Result;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 public class MultiFileLoader<T> extends BaseLoader<T> {
     private final Map<Identifier, T> items = new HashMap<>();
+    private final Map<Identifier, HashCode> fingerprints = new HashMap<>();
     private final String folderName;
 
     public MultiFileLoader(String folderName, BiFunction<JsonElement, ConfigContext, Result<T, Problem>> parser) {
@@ -31,6 +38,17 @@ public class MultiFileLoader<T> extends BaseLoader<T> {
         return items;
     }
 
+    /**
+     * Gets a hash of the file an item was loaded from. It changes when a reload changes the
+     * file, even where the parsed items can't be compared.
+     *
+     * @return the hash, or {@code null} if no item with the id is loaded
+     */
+    @Nullable
+    public HashCode getFingerprint(Identifier id) {
+        return fingerprints.get(id);
+    }
+
     @Override
     public void reload(ResourceManager manager) {
         if (server == null) {
@@ -38,6 +56,7 @@ public class MultiFileLoader<T> extends BaseLoader<T> {
         }
 
         items.clear();
+        fingerprints.clear();
         HashMap<String, Integer> loaded = new HashMap<>();
         HashMap<String, Integer> failed = new HashMap<>();
 
@@ -51,7 +70,8 @@ public class MultiFileLoader<T> extends BaseLoader<T> {
             ConfigContext context = createContext();
 
             try (var reader = resource.getReader()) {
-                JsonElement root = JsonElement.parseReader(reader, JsonPath.create(fileId.toString()))
+                String content = reader.lines().collect(Collectors.joining("\n"));
+                JsonElement root = JsonElement.parseReader(new StringReader(content), JsonPath.create(fileId.toString()))
                         .getSuccess()
                         .orElseThrow();
                 Result<T, Problem> result = parser.apply(root, context);
@@ -61,6 +81,7 @@ public class MultiFileLoader<T> extends BaseLoader<T> {
                 });
                 result.getSuccess().ifPresent(item -> {
                     items.put(id, item);
+                    fingerprints.put(id, Hashing.murmur3_128().hashString(content, StandardCharsets.UTF_8));
                     loaded.merge(fileId.getNamespace(), 1, Integer::sum);
                 });
             } catch (Exception e) {
@@ -4,11 +4,11 @@ import de.one_piece_api.ClassRewardHandler;
 import de.one_piece_api.OnePieceRPG;
 import de.one_piece_api.config.DevilFruitConfig;
 import de.one_piece_api.config.XpTimeConfig;
+import de.one_piece_api.data.DevilFruitIndex;
 import de.one_piece_api.data.experience.ItemExperienceSource;
 import de.one_piece_api.data.experience.TimeExperienceSource;
 import de.one_piece_api.data.loader.CategoryLoader;
 import de.one_piece_api.data.loader.DataLoaders;
-import de.one_piece_api.init.MyAttributes;
 import de.one_piece_api.init.MyCommands;
 import de.one_piece_api.init.MyDataComponentTypes;
 import de.one_piece_api.mixin_interface.IClassPlayer;
@@ -16,8 +16,18 @@ import de.one_piece_api.mixin_interface.IDevilFruitPlayer;
 import de.one_piece_api.mixin_interface.IStaminaPlayer;
 import de.one_piece_api.mixin_interface.IXpPlayer;
 import de.one_piece_api.network.payload.DevilFruitPayload;
+import de.one_piece_api.network.ServerPacketHandler;
+import de.one_piece_api.network.StaminaSync;
 import de.one_piece_api.network.payload.SyncStylesPayload;
+import de.one_piece_api.stats.GameplayStats;
+import de.one_piece_api.util.AttributeRefresher;
 import de.one_piece_api.util.OnePieceCategory;
+import de.one_piece_api.util.PlayerRuntimeState;
+import de.one_piece_api.util.WorkScheduler;
+import de.one_piece_api.util.helper.SkillUnlockIndex;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import net.fabricmc.fabric.api.entity.event.v1.ServerEntityWorldChangeEvents;
+import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.networking.v1.PacketSender;
@@ -30,6 +40,7 @@ import net.minecraft.screen.ScreenHandlerListener;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayNetworkHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 import net.puffish.skillsmod.api.SkillsAPI;
@@ -39,14 +50,12 @@ import java.util.*;
 
 public class ServerEvents {
 
-    // Track which screen handlers already have our listener
-    private static final WeakHashMap<ScreenHandler, Boolean> trackedHandlers = new WeakHashMap<>();
-    private static final Map<UUID, Map<Integer, ItemStack>> processedStacks = new HashMap<>();
-
     public static void register() {
         ServerTickEvents.START_SERVER_TICK.register(ServerEvents::onServerTick);
         ServerPlayConnectionEvents.JOIN.register(ServerEvents::onPlayerJoin);
         ServerPlayConnectionEvents.DISCONNECT.register(ServerEvents::onPlayerDisconnect);
+        ServerPlayerEvents.AFTER_RESPAWN.register(ServerEvents::onPlayerRespawn);
+        ServerEntityWorldChangeEvents.AFTER_PLAYER_CHANGE_WORLD.register(ServerEvents::onPlayerChangeWorld);
 
         ServerLifecycleEvents.SERVER_STARTING.register(ServerEvents::onServerStarted);
         ServerLifecycleEvents.END_DATA_PACK_RELOAD.register(ServerEvents::onEndDataPackReload);
@@ -54,6 +63,9 @@ public class ServerEvents {
         EventRegistry.DEVIL_FRUIT_EATEN.register(ServerEvents::onDevilFruitEaten);
         EventRegistry.LEVEL_UP.register(ServerEvents::onLevelUp);
         EventRegistry.CLASS_UPDATE.register(ClassRewardHandler::onClassUpdate);
+
+        WorkScheduler.schedule(OnePieceRPG.id("screen_listeners"), 10, 200, ServerEvents::trackScreenHandler);
+        WorkScheduler.schedule(OnePieceRPG.id("xp_time"), 0, 500, ServerEvents::handleXpTime);
     }
 
 
@@ -62,31 +74,15 @@ public class ServerEvents {
      */
     public static void onLevelUp(ServerPlayerEntity player, Identifier categoryId,
                                  int oldLevel, int newLevel) {
-        // Load attribute scaling configuration and update player attributes
-        DataLoaders.ATTRIBUTE_SCALING.getData().ifPresentOrElse(attributeScalingConfig -> {
-            // Update all stamina-related attributes based on the new level
-            var maxStaminaAttr = player.getAttributeInstance(MyAttributes.MAX_STAMINA);
-            var baseRegenAttr = player.getAttributeInstance(MyAttributes.STAMINA_BASE_REGEN);
-            var crouchMultAttr = player.getAttributeInstance(MyAttributes.STAMINA_CROUCH_MULT);
-            var crouchAddAttr = player.getAttributeInstance(MyAttributes.STAMINA_CROUCH_ADD);
-            if (maxStaminaAttr != null) {
-                maxStaminaAttr.setBaseValue(attributeScalingConfig.evaluateMaxStamina(newLevel));
-            }
-            if (baseRegenAttr != null) {
-                baseRegenAttr.setBaseValue(attributeScalingConfig.evaluateStaminaBaseRegen(newLevel));
-            }
-            if (crouchMultAttr != null) {
-                crouchMultAttr.setBaseValue(attributeScalingConfig.evaluateStaminaCrouchMultiplier(newLevel));
-            }
-            if (crouchAddAttr != null) {
-                crouchAddAttr.setBaseValue(attributeScalingConfig.evaluateStaminaCrouchAdditive(newLevel));
-            }
-            OnePieceRPG.LOGGER.debug("Updated attributes for player {} at level {}",
-                    player.getName().getString(), newLevel);
-        }, () -> {
+        // Update player attributes from the cached per-level values
+        int changed = AttributeRefresher.apply(player, newLevel);
+        if (changed < 0) {
             OnePieceRPG.LOGGER.warn("Attribute scaling configuration not loaded for player {}",
                     player.getName().getString());
-        });
+        } else {
+            OnePieceRPG.LOGGER.debug("Updated {} attributes for player {} at level {}",
+                    changed, player.getName().getString(), newLevel);
+        }
         if (categoryId.equals(OnePieceCategory.ID)) {
             ClassRewardHandler.refreshRewards(player);
         }
@@ -98,6 +94,8 @@ public class ServerEvents {
         if (serverPlayerEntity instanceof IDevilFruitPlayer player) {
             player.onepiece$setDevilFruit(identifier.toString());
         }
+        DevilFruitIndex.get(serverPlayerEntity.getServer())
+                .put(serverPlayerEntity.getUuid(), identifier, System.currentTimeMillis());
         var config = DataLoaders.DEVIL_FRUIT_LOADER.getItems().get(identifier);
         if (config == null) {
             config = DevilFruitConfig.DEFAULT;
@@ -107,6 +105,7 @@ public class ServerEvents {
 
     private static void onServerStarted(MinecraftServer minecraftServer) {
         reloadCategoryData();
+        SkillUnlockIndex.rebuild(minecraftServer);
     }
 
     private static void onEndDataPackReload(MinecraftServer server, LifecycledResourceManager resourceManager, boolean success) {
@@ -117,6 +116,7 @@ public class ServerEvents {
             });
 
             reloadCategoryData();
+            SkillUnlockIndex.rebuild(server);
         }
     }
 
@@ -134,42 +134,40 @@ public class ServerEvents {
         server.getPlayerManager().getPlayerList().forEach(ServerEvents::onServerPlayerTick);
     }
 
-    private static final Map<UUID, Integer> playerTickCounters = new HashMap<>();
-    private static final int TICKS_PER_HOUR = 20 * 60 * 60; // 20 ticks/sec * 60 sec * 60 min
-
     private static void onServerPlayerTick(ServerPlayerEntity player) {
-        UUID playerId = player.getUuid();
-        int currentTicks = playerTickCounters.getOrDefault(playerId, 0) + 1;
-
         if (player instanceof IStaminaPlayer staminaPlayer) {
             staminaPlayer.onepiece$updateStamina();
         }
+    }
 
-        // Handle new XP time system
-        if (player instanceof IXpPlayer xpPlayer) {
-            handleXpTimeTick(player, xpPlayer);
-        }
-
-
+    /**
+     * Attaches the item listener to a newly opened screen. Scheduled through {@link WorkScheduler}.
+     */
+    private static boolean trackScreenHandler(ServerPlayerEntity player, int elapsedTicks) {
         ScreenHandler currentHandler = player.currentScreenHandler;
-        if (currentHandler != null && !trackedHandlers.containsKey(currentHandler)) {
+        if (currentHandler != null && PlayerRuntimeState.get(player)
+                .trackScreenHandler(currentHandler, currentHandler == player.playerScreenHandler)) {
             addListenerToHandler(player, currentHandler);
-            trackedHandlers.put(currentHandler, true);
         }
+        return true;
     }
 
     /**
-     * Handles time-based XP gain with per-player configuration and AFK detection
+     * Handles time-based XP gain with per-player configuration and AFK detection.
+     * Scheduled through {@link WorkScheduler}, ticks deferred by the scheduler are caught up.
      */
-    private static void handleXpTimeTick(ServerPlayerEntity player, IXpPlayer xpPlayer) {
+    private static boolean handleXpTime(ServerPlayerEntity player, int elapsedTicks) {
+        if (!(player instanceof IXpPlayer xpPlayer)) {
+            return true;
+        }
         // Check if player is AFK
         if (xpPlayer.onepiece$isAfk()) {
-            return; // Don't give XP to AFK players
+            return true; // Don't give XP to AFK players
         }
 
         XpTimeConfig config = xpPlayer.onepiece$getXpTimeConfig();
         int currentTicks = xpPlayer.onepiece$getTicksSinceLastXp();
-        currentTicks++;
+        currentTicks += elapsedTicks;
 
         if (currentTicks >= config.getIntervalTicks()) {
 
@@ -178,37 +176,56 @@ public class ServerEvents {
             player.sendMessage(Text.literal(message), false);
 
             // Also give XP through the skills system for compatibility
+            int xpBefore = xpPlayer.onepiece$getXp();
             SkillsAPI.updateExperienceSources(
                     player,
                     TimeExperienceSource.class,
                     experienceSource -> experienceSource.getValue(player, config.getXpAmount())
             );
+            GameplayStats.recordXp(TimeExperienceSource.ID, xpPlayer.onepiece$getXp() - xpBefore);
 
             // Reset timer
             xpPlayer.onepiece$resetXpTimer();
         } else {
             xpPlayer.onepiece$setTicksSinceLastXp(currentTicks);
         }
+        return true;
     }
 
     private static void onPlayerJoin(ServerPlayNetworkHandler handler, PacketSender sender, MinecraftServer server) {
         ServerPlayerEntity player = handler.getPlayer();
-        processedStacks.put(player.getUuid(), new HashMap<>());
+        if (player instanceof IXpPlayer xpPlayer) {
+            xpPlayer.onepiece$updateActivity();
+        }
 
         // Add listener to player's inventory screen
-        addListenerToHandler(player, player.playerScreenHandler);
-        trackedHandlers.put(player.playerScreenHandler, true);
+        if (PlayerRuntimeState.get(player).trackScreenHandler(player.playerScreenHandler, true)) {
+            addListenerToHandler(player, player.playerScreenHandler);
+        }
 
         var packet = new SyncStylesPayload(DataLoaders.STYLE_LOADER.getItems());
         ServerPlayNetworking.send(player, packet);
+        ServerPacketHandler.sendSpellHotbar(player);
+        DevilFruitIndex.get(server).sync(player);
 
         ClassRewardHandler.refreshRewards(player);
     }
 
-    private static void onPlayerDisconnect(ServerPlayNetworkHandler handler, MinecraftServer server) {
-        UUID playerId = handler.getPlayer().getUuid();
-        processedStacks.remove(playerId);
+    /**
+     * The client recreates its player entity on respawn and world change,
+     * which drops the owner-only hotbar and stamina, so they are resent afterwards.
+     * A respawned server player is a new entity and is picked up by {@link StaminaSync} on its own.
+     */
+    private static void onPlayerRespawn(ServerPlayerEntity oldPlayer, ServerPlayerEntity newPlayer, boolean alive) {
+        ServerPacketHandler.sendSpellHotbar(newPlayer);
+    }
+
+    private static void onPlayerChangeWorld(ServerPlayerEntity player, ServerWorld origin, ServerWorld destination) {
+        ServerPacketHandler.sendSpellHotbar(player);
+        StaminaSync.resend(player);
+    }
 
+    private static void onPlayerDisconnect(ServerPlayNetworkHandler handler, MinecraftServer server) {
         ClassRewardHandler.clearRewards(handler.getPlayer());
     }
 
@@ -216,28 +233,21 @@ public class ServerEvents {
         handler.addListener(new ScreenHandlerListener() {
             @Override
             public void onSlotUpdate(ScreenHandler screenHandler, int slotId, ItemStack stack) {
+                Int2ObjectMap<ItemStack> playerStacks = PlayerRuntimeState.get(player).getProcessedStacks();
                 if (stack.contains(MyDataComponentTypes.XP) && stack.getCount() > 0) {
-                    UUID playerId = player.getUuid();
-                    Map<Integer, ItemStack> playerStacks = processedStacks.get(playerId);
-
-                    if (playerStacks != null) {
-                        ItemStack previousStack = playerStacks.get(slotId);
+                    ItemStack previousStack = playerStacks.get(slotId);
 
-                        boolean shouldProcess = previousStack == null ||
-                                previousStack.isEmpty() ||
-                                !ItemStack.areEqual(stack, previousStack) ||
-                                stack.getCount() > previousStack.getCount();
+                    boolean shouldProcess = previousStack == null ||
+                            previousStack.isEmpty() ||
+                            !ItemStack.areEqual(stack, previousStack) ||
+                            stack.getCount() > previousStack.getCount();
 
-                        if (shouldProcess) {
-                            onItemWithComponentAdded(player, screenHandler, stack.copy(), slotId);
-                            playerStacks.put(slotId, stack.copy());
-                        }
+                    if (shouldProcess) {
+                        onItemWithComponentAdded(player, screenHandler, stack.copy(), slotId);
+                        playerStacks.put(slotId, stack.copy());
                     }
                 } else {
-                    Map<Integer, ItemStack> playerStacks = processedStacks.get(player.getUuid());
-                    if (playerStacks != null) {
-                        playerStacks.remove(slotId);
-                    }
+                    playerStacks.remove(slotId);
                 }
             }
 
@@ -256,11 +266,14 @@ public class ServerEvents {
         if (data == null) {
             return;
         }
+        IXpPlayer xpPlayer = (IXpPlayer) player;
+        int xpBefore = xpPlayer.onepiece$getXp();
         SkillsAPI.updateExperienceSources(
                 player,
                 ItemExperienceSource.class,
                 experienceSource -> experienceSource.getValue(player, stack)
         );
+        GameplayStats.recordXp(ItemExperienceSource.ID, xpPlayer.onepiece$getXp() - xpBefore);
         stack.remove(MyDataComponentTypes.XP);
         handler.setStackInSlot(slotId, handler.nextRevision(), stack);
     }
@@ -1,5 +1,6 @@
 package de.one_piece_api.init;
 
+import com.mojang.authlib.GameProfile;
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.arguments.IntegerArgumentType;
@@ -12,11 +13,26 @@ import com.mojang.brigadier.suggestion.SuggestionsBuilder;
 import de.one_piece_api.OnePieceRPG;
 import de.one_piece_api.config.DevilFruitConfig;
 import de.one_piece_api.config.XpTimeConfig;
+import de.one_piece_api.data.DevilFruitIndex;
+import de.one_piece_api.data.ProgressionIndex;
 import de.one_piece_api.data.loader.DataLoaders;
 import de.one_piece_api.item.DevilFruitItem;
 import de.one_piece_api.mixin_interface.IDevilFruitPlayer;
 import de.one_piece_api.mixin_interface.IXpPlayer;
+import de.one_piece_api.network.InboundStateCoalescer;
+import de.one_piece_api.network.NetworkStats;
+import de.one_piece_api.network.NetworkStatsDumper;
+import de.one_piece_api.network.ParticleBatcher;
+import de.one_piece_api.network.PlayerNetworkStats;
 import de.one_piece_api.network.payload.DevilFruitPayload;
+import de.one_piece_api.reward.RewardSync;
+import de.one_piece_api.stats.StatsExporter;
+import de.one_piece_api.util.AttributeRefresher;
+import de.one_piece_api.util.BulkCommandExecutor;
+import de.one_piece_api.util.PlayerRuntimeState;
+import de.one_piece_api.util.WorkScheduler;
+import de.one_piece_api.util.helper.SkillHelper;
+import de.one_piece_api.util.helper.SkillUnlockIndex;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.command.CommandRegistryAccess;
@@ -24,11 +40,14 @@ import net.minecraft.command.argument.EntityArgumentType;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
@@ -59,7 +78,7 @@ public class MyCommands {
     }
 
     /**
-     * Executes an action on players (self or selected)
+     * Executes an action on players (self or selected), see {@link BulkCommandExecutor}
      */
     private static int executeOnPlayers(CommandContext<ServerCommandSource> context,
                                         BiFunction<ServerCommandSource, ServerPlayerEntity, Integer> action) {
@@ -71,14 +90,8 @@ public class MyCommands {
             return 0;
         }
 
-        int successCount = 0;
-        for (ServerPlayerEntity player : players) {
-            if (action.apply(source, player) == Command.SINGLE_SUCCESS) {
-                successCount++;
-            }
-        }
-
-        return successCount > 0 ? Command.SINGLE_SUCCESS : 0;
+        // Selectors like @a are spread across ticks, a single player is served right away
+        return BulkCommandExecutor.execute(source, context.getInput(), List.copyOf(players), action);
     }
 
     private static void registerCommands(CommandDispatcher<ServerCommandSource> dispatcher, CommandRegistryAccess registryAccess, CommandManager.RegistrationEnvironment environment) {
@@ -124,6 +137,17 @@ public class MyCommands {
                         .then(CommandManager.argument("players", EntityArgumentType.players())
                                 .executes(MyCommands::clearDevilFruit)
                         )
+                )
+                // /devilfruit owner <fruit>
+                .then(CommandManager.literal("owner")
+                        .then(CommandManager.argument("fruit", StringArgumentType.string())
+                                .suggests(MyCommands::suggestFruits)
+                                .executes(MyCommands::queryFruitOwner)
+                        )
+                )
+                // /devilfruit repair_index
+                .then(CommandManager.literal("repair_index")
+                        .executes(MyCommands::repairFruitIndex)
                 );
         dispatcher.register(fruitBuilder);
 
@@ -251,16 +275,94 @@ public class MyCommands {
                         .then(CommandManager.argument("players", EntityArgumentType.players())
                                 .executes(MyCommands::queryPlayerXp)
                         )
+                )
+                // /onepiece skills respec [@players]
+                .then(CommandManager.literal("skills")
+                        .then(CommandManager.literal("respec")
+                                .executes(MyCommands::respecSkills)
+                                .then(CommandManager.argument("players", EntityArgumentType.players())
+                                        .executes(MyCommands::respecSkills)
+                                )
+                        )
+                        // /onepiece skills grant_all [@players]
+                        .then(CommandManager.literal("grant_all")
+                                .executes(MyCommands::grantAllSkills)
+                                .then(CommandManager.argument("players", EntityArgumentType.players())
+                                        .executes(MyCommands::grantAllSkills)
+                                )
+                        )
+                        // /onepiece skills check [@players]
+                        .then(CommandManager.literal("check")
+                                .executes(MyCommands::checkSkills)
+                                .then(CommandManager.argument("players", EntityArgumentType.players())
+                                        .executes(MyCommands::checkSkills)
+                                )
+                        )
+                )
+                // /onepiece top <level|xp> [count] [class]
+                .then(CommandManager.literal("top")
+                        // /onepiece top rebuild
+                        .then(CommandManager.literal("rebuild")
+                                .executes(MyCommands::rebuildProgressionIndex)
+                        )
+                        .then(CommandManager.argument("metric", StringArgumentType.word())
+                                .suggests(MyCommands::suggestMetrics)
+                                .executes(MyCommands::queryTop)
+                                .then(CommandManager.argument("count", IntegerArgumentType.integer(1, 100))
+                                        .executes(MyCommands::queryTop)
+                                        .then(CommandManager.argument("class", StringArgumentType.string())
+                                                .suggests(MyCommands::suggestClasses)
+                                                .executes(MyCommands::queryTop)
+                                        )
+                                )
+                        )
+                )
+                // /onepiece stats export
+                .then(CommandManager.literal("stats")
+                        .then(CommandManager.literal("export")
+                                .executes(MyCommands::exportStats)
+                        )
+                )
+                // /onepiece tasks
+                .then(CommandManager.literal("tasks")
+                        .executes(MyCommands::queryTasks)
+                        // /onepiece tasks cancel <id>
+                        .then(CommandManager.literal("cancel")
+                                .then(CommandManager.argument("id", IntegerArgumentType.integer(1))
+                                        .executes(MyCommands::cancelTask)
+                                )
+                        )
+                )
+                // /onepiece scheduler
+                .then(CommandManager.literal("scheduler")
+                        .executes(MyCommands::queryScheduler)
+                )
+                // /onepiece network
+                .then(CommandManager.literal("network")
+                        .executes(MyCommands::queryNetwork)
+                        // /onepiece network players [@players]
+                        .then(CommandManager.literal("players")
+                                .executes(MyCommands::queryPlayerNetwork)
+                                .then(CommandManager.argument("players", EntityArgumentType.players())
+                                        .executes(MyCommands::queryPlayerNetwork)
+                                )
+                        )
+                        // /onepiece network reset
+                        .then(CommandManager.literal("reset")
+                                .executes(MyCommands::resetNetwork)
+                        )
+                        // /onepiece network dump
+                        .then(CommandManager.literal("dump")
+                                .executes(MyCommands::dumpNetwork)
+                        )
                 );
         dispatcher.register(onepieceBuilder);
     }
 
     // ==================== DEVIL FRUIT IMPLEMENTATIONS ====================
 
-    private static final Set<ServerPlayerEntity> allowedSecondFruit = new HashSet<>();
-
     public static boolean canEatSecondFruit(ServerPlayerEntity player) {
-        return allowedSecondFruit.contains(player);
+        return PlayerRuntimeState.get(player).isSecondFruitAllowed();
     }
 
     private static int giveDevilFruit(CommandContext<ServerCommandSource> context) {
@@ -283,7 +385,7 @@ public class MyCommands {
 
     private static int allowSecondFruit(CommandContext<ServerCommandSource> context) {
         return executeOnPlayers(context, (source, player) -> {
-            allowedSecondFruit.add(player);
+            PlayerRuntimeState.get(player).setSecondFruitAllowed(true);
             player.sendMessage(Text.literal("§6[Special Permission] §aYou can now eat a second Devil Fruit!"), false);
             return Command.SINGLE_SUCCESS;
         });
@@ -291,7 +393,7 @@ public class MyCommands {
 
     private static int disallowSecondFruit(CommandContext<ServerCommandSource> context) {
         return executeOnPlayers(context, (source, player) -> {
-            allowedSecondFruit.remove(player);
+            PlayerRuntimeState.get(player).setSecondFruitAllowed(false);
             return Command.SINGLE_SUCCESS;
         });
     }
@@ -321,7 +423,8 @@ public class MyCommands {
             if (player instanceof IDevilFruitPlayer dfPlayer) {
                 dfPlayer.onepiece$setDevilFruit(DevilFruitItem.DEFAULT_DEVIL_FRUIT.toString());
                 ServerPlayNetworking.send(player, new DevilFruitPayload(DevilFruitItem.DEFAULT_DEVIL_FRUIT, DevilFruitConfig.DEFAULT));
-                allowedSecondFruit.remove(player);
+                PlayerRuntimeState.get(player).setSecondFruitAllowed(false);
+                DevilFruitIndex.get(source.getServer()).remove(player.getUuid());
                 player.sendMessage(Text.literal("§cYour Devil Fruit powers have been removed!"), false);
                 return Command.SINGLE_SUCCESS;
             }
@@ -329,6 +432,46 @@ public class MyCommands {
         });
     }
 
+    private static int queryFruitOwner(CommandContext<ServerCommandSource> context) {
+        Identifier fruitIdentifier = Identifier.tryParse(StringArgumentType.getString(context, "fruit"));
+        if (fruitIdentifier == null) {
+            context.getSource().sendError(Text.literal("Invalid devil fruit ID!"));
+            return 0;
+        }
+
+        MinecraftServer server = context.getSource().getServer();
+        List<DevilFruitIndex.Owner> owners = DevilFruitIndex.get(server).getOwners(fruitIdentifier);
+        if (owners.isEmpty()) {
+            context.getSource().sendFeedback(() -> Text.literal("§e" + fruitIdentifier + "§7 has not been eaten"), false);
+            return Command.SINGLE_SUCCESS;
+        }
+
+        for (DevilFruitIndex.Owner owner : owners) {
+            String name = server.getUserCache() != null
+                    ? server.getUserCache().getByUuid(owner.player()).map(GameProfile::getName).orElse(owner.player().toString())
+                    : owner.player().toString();
+            String eatenAt = owner.eatenAt() > 0 ? Instant.ofEpochMilli(owner.eatenAt()).toString() : "unknown";
+            context.getSource().sendFeedback(() -> Text.literal(
+                    "§e" + fruitIdentifier + "§7 was eaten by §f" + name + "§7 at §f" + eatenAt
+            ), false);
+        }
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int repairFruitIndex(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        source.sendFeedback(() -> Text.literal("§7Rebuilding devil fruit index from player data..."), false);
+        DevilFruitIndex.rebuild(source.getServer()).whenComplete((size, throwable) -> {
+            if (throwable != null) {
+                OnePieceRPG.LOGGER.error("Failed to rebuild devil fruit index", throwable);
+                source.sendError(Text.literal("Failed to rebuild devil fruit index: " + throwable.getMessage()));
+            } else {
+                source.sendFeedback(() -> Text.literal("§aDevil fruit index rebuilt with §e" + size + "§a devil fruit owners"), true);
+            }
+        });
+        return Command.SINGLE_SUCCESS;
+    }
+
     // ==================== XP TIME IMPLEMENTATIONS ====================
 
     private static int setPlayerXpTime(CommandContext<ServerCommandSource> context) {
@@ -379,15 +522,13 @@ public class MyCommands {
 
     // ==================== ITEM XP LOCK SYSTEM ====================
 
-    private static final Set<ServerPlayerEntity> xpLockedPlayers = new HashSet<>();
-
     public static boolean isPlayerLocked(ServerPlayerEntity player) {
-        return xpLockedPlayers.contains(player);
+        return PlayerRuntimeState.get(player).isItemXpLocked();
     }
 
     private static int lockPlayer(CommandContext<ServerCommandSource> context) {
         return executeOnPlayers(context, (source, player) -> {
-            xpLockedPlayers.add(player);
+            PlayerRuntimeState.get(player).setItemXpLocked(true);
             source.sendFeedback(() -> Text.literal("§aLocked Item XP for §e" + player.getName()), false);
             return Command.SINGLE_SUCCESS;
         });
@@ -395,7 +536,7 @@ public class MyCommands {
 
     private static int unlockPlayer(CommandContext<ServerCommandSource> context) {
         return executeOnPlayers(context, (source, player) -> {
-            xpLockedPlayers.remove(player);
+            PlayerRuntimeState.get(player).setItemXpLocked(false);
             source.sendFeedback(() -> Text.literal("§aUnlocked Item XP for §e" + player.getName()), false);
             return Command.SINGLE_SUCCESS;
         });
@@ -554,8 +695,240 @@ public class MyCommands {
         });
     }
 
+    // ==================== SKILL MANAGEMENT ====================
+
+    private static int respecSkills(CommandContext<ServerCommandSource> context) {
+        return executeOnPlayers(context, (source, player) -> {
+            SkillHelper.respec(player);
+            source.sendFeedback(() -> Text.literal("§aReset skills of §e" + player.getName().getString()), true);
+            return Command.SINGLE_SUCCESS;
+        });
+    }
+
+    private static int grantAllSkills(CommandContext<ServerCommandSource> context) {
+        return executeOnPlayers(context, (source, player) -> {
+            SkillHelper.grantAll(player);
+            source.sendFeedback(() -> Text.literal("§aUnlocked all skills for §e" + player.getName().getString()), true);
+            return Command.SINGLE_SUCCESS;
+        });
+    }
+
+    private static int checkSkills(CommandContext<ServerCommandSource> context) {
+        return executeOnPlayers(context, (source, player) -> {
+            List<String> mismatches = SkillUnlockIndex.check(player);
+            if (mismatches.isEmpty()) {
+                source.sendFeedback(() -> Text.literal("§aSkill mirror of §e" + player.getName().getString()
+                        + "§a is consistent (§f" + SkillUnlockIndex.size() + "§a skills)"), false);
+            } else {
+                source.sendFeedback(() -> Text.literal("§cRepaired §f" + mismatches.size() + "§c mismatched skills of §e"
+                        + player.getName().getString() + "§c: §f" + String.join(", ", mismatches)), false);
+            }
+            return Command.SINGLE_SUCCESS;
+        });
+    }
+
+    // ==================== LEADERBOARDS ====================
+
+    private static int queryTop(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        ProgressionIndex index = ProgressionIndex.get();
+        if (index == null) {
+            source.sendError(Text.literal("Progression index is not available!"));
+            return 0;
+        }
+
+        ProgressionIndex.Metric metric;
+        try {
+            metric = ProgressionIndex.Metric.valueOf(StringArgumentType.getString(context, "metric").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            source.sendError(Text.literal("Unknown metric! Use level or xp"));
+            return 0;
+        }
+        int count;
+        try {
+            count = IntegerArgumentType.getInteger(context, "count");
+        } catch (IllegalArgumentException e) {
+            count = 10;
+        }
+        Identifier classId;
+        try {
+            classId = Identifier.tryParse(StringArgumentType.getString(context, "class"));
+            if (classId == null) {
+                source.sendError(Text.literal("Invalid class ID!"));
+                return 0;
+            }
+        } catch (IllegalArgumentException e) {
+            classId = null;
+        }
+
+        List<ProgressionIndex.Entry> entries = index.top(metric, classId, count);
+        StringBuilder builder = new StringBuilder("§6Top " + entries.size() + " by " + metric.name().toLowerCase(Locale.ROOT));
+        if (classId != null) {
+            builder.append(" §7(").append(classId).append(")");
+        }
+        builder.append("§6:");
+        for (int i = 0; i < entries.size(); i++) {
+            ProgressionIndex.Entry entry = entries.get(i);
+            builder.append("\n  §e").append(i + 1).append(". §f")
+                    .append(entry.name().isEmpty() ? entry.player().toString() : entry.name())
+                    .append(" §7level §f").append(entry.level())
+                    .append(" §7xp §f").append(entry.xp());
+            if (classId == null && entry.classId() != null) {
+                builder.append(" §7").append(entry.classId());
+            }
+        }
+
+        String message = builder.toString();
+        source.sendFeedback(() -> Text.literal(message), false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int rebuildProgressionIndex(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        source.sendFeedback(() -> Text.literal("§7Rebuilding progression index from player data..."), false);
+        ProgressionIndex.rebuild(source.getServer()).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                OnePieceRPG.LOGGER.error("Failed to rebuild progression index", throwable);
+                source.sendError(Text.literal("Failed to rebuild progression index: " + throwable.getMessage()));
+            } else {
+                source.sendFeedback(() -> Text.literal("§aProgression index rebuilt with §e" + result.players() + "§a players"), true);
+                if (result.skipped() > 0) {
+                    source.sendFeedback(() -> Text.literal("§e" + result.skipped()
+                            + "§7 player files have no progression data yet, they are indexed on the player's next logout"), false);
+                }
+            }
+        });
+        return Command.SINGLE_SUCCESS;
+    }
+
+    // ==================== GAMEPLAY STATISTICS ====================
+
+    private static int exportStats(CommandContext<ServerCommandSource> context) {
+        if (!StatsExporter.snapshot(context.getSource().getServer())) {
+            context.getSource().sendError(Text.literal("Statistics export is still writing, try again later"));
+            return 0;
+        }
+        context.getSource().sendFeedback(() -> Text.literal("§aWriting gameplay statistics to §eone_piece_api/stats/stats.jsonl"), false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    // ==================== BULK COMMANDS ====================
+
+    private static int queryTasks(CommandContext<ServerCommandSource> context) {
+        List<BulkCommandExecutor.Task> tasks = BulkCommandExecutor.getTasks();
+        if (tasks.isEmpty()) {
+            context.getSource().sendFeedback(() -> Text.literal("§7No commands running"), false);
+            return Command.SINGLE_SUCCESS;
+        }
+        StringBuilder builder = new StringBuilder("§6Running Commands:");
+        for (BulkCommandExecutor.Task task : tasks) {
+            builder.append("\n  §e#").append(task.getId())
+                    .append(" §f/").append(task.getCommand())
+                    .append(" §7").append(task.getDone()).append("/").append(task.getTotal()).append(" players");
+        }
+
+        String message = builder.toString();
+        context.getSource().sendFeedback(() -> Text.literal(message), false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int cancelTask(CommandContext<ServerCommandSource> context) {
+        int id = IntegerArgumentType.getInteger(context, "id");
+        if (BulkCommandExecutor.cancel(id) == null) {
+            context.getSource().sendError(Text.literal("No running command with id " + id));
+            return 0;
+        }
+        return Command.SINGLE_SUCCESS;
+    }
+
+    // ==================== SCHEDULER STATISTICS ====================
+
+    private static int queryScheduler(CommandContext<ServerCommandSource> context) {
+        StringBuilder builder = new StringBuilder("§6Scheduler Statistics:");
+        for (WorkScheduler.Job job : WorkScheduler.getSystems()) {
+            WorkScheduler.Snapshot stats = job.snapshot();
+            builder.append("\n  §e").append(job.getId())
+                    .append("§7 runs: §f").append(stats.runs())
+                    .append(" §7(").append(stats.runs() > 0 ? stats.nanos() / stats.runs() : 0).append("ns avg)")
+                    .append("§7 deferred: §f").append(stats.deferred())
+                    .append("§7 latency: §f").append(String.format(Locale.ROOT, "%.2f", stats.averageLatency()))
+                    .append(" §7avg, §f").append(stats.maxLatency()).append(" §7max ticks");
+        }
+        AttributeRefresher.Progress refresh = AttributeRefresher.getProgress();
+        builder.append("\n  §e").append(AttributeRefresher.ID)
+                .append("§7 refreshed: §f").append(refresh.total() - refresh.pending()).append("/").append(refresh.total())
+                .append("§7 attributes changed: §f").append(refresh.changedAttributes())
+                .append("§7 rewards refreshed: §f").append(refresh.rewardRefreshes());
+
+        String message = builder.toString();
+        context.getSource().sendFeedback(() -> Text.literal(message), false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    // ==================== NETWORK STATISTICS ====================
+
+    private static int queryNetwork(CommandContext<ServerCommandSource> context) {
+        Map<String, NetworkStats.Snapshot> payloads = NetworkStats.snapshot();
+        StringBuilder builder = new StringBuilder("§6Network Statistics:");
+        payloads.forEach((key, stats) -> builder.append("\n  §e").append(key)
+                .append("§7 out: §f").append(stats.encodedPackets()).append(" / ").append(stats.encodedBytes()).append("B")
+                .append(" §7(").append(stats.encodeNanos() / 1000).append("µs)")
+                .append("§7 in: §f").append(stats.decodedPackets()).append(" / ").append(stats.decodedBytes()).append("B")
+                .append(" §7(").append(stats.decodeNanos() / 1000).append("µs)"));
+        builder.append("\n  §7State packets received: §f").append(InboundStateCoalescer.getReceived())
+                .append("§7, coalesced: §f").append(InboundStateCoalescer.getCoalesced())
+                .append("§7, dropped: §f").append(InboundStateCoalescer.getDropped());
+        builder.append("\n  §7Batched particles sent: §f").append(ParticleBatcher.getSent())
+                .append("§7, dropped: §f").append(ParticleBatcher.getDropped());
+        builder.append("\n  §7Spell container updates from rewards: §f").append(RewardSync.getFlushed())
+                .append("§7, suppressed duplicates: §f").append(RewardSync.getSuppressed());
+
+        String message = builder.toString();
+        context.getSource().sendFeedback(() -> Text.literal(message), false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int queryPlayerNetwork(CommandContext<ServerCommandSource> context) {
+        return executeOnPlayers(context, (source, player) -> {
+            PlayerNetworkStats.Snapshot stats = PlayerNetworkStats.get(player.getUuid());
+            source.sendFeedback(() -> Text.literal(
+                    player.getName().getString() + "'s Network:\n" +
+                            "  §7Sent: §f" + stats.sentPackets() + " packets, ~" + stats.sentBytes() + "B\n" +
+                            "  §7Received: §f" + stats.receivedPackets() + " packets, ~" + stats.receivedBytes() + "B"
+            ), false);
+            return Command.SINGLE_SUCCESS;
+        });
+    }
+
+    private static int resetNetwork(CommandContext<ServerCommandSource> context) {
+        NetworkStats.reset();
+        PlayerNetworkStats.reset();
+        context.getSource().sendFeedback(() -> Text.literal("§aNetwork statistics reset"), true);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private static int dumpNetwork(CommandContext<ServerCommandSource> context) {
+        Path file = NetworkStatsDumper.dump(context.getSource().getServer());
+        context.getSource().sendFeedback(() -> Text.literal("§aWriting network statistics to §e" + file), false);
+        return Command.SINGLE_SUCCESS;
+    }
+
     // ==================== UTILITY ====================
 
+    private static CompletableFuture<Suggestions> suggestMetrics(CommandContext<ServerCommandSource> context, SuggestionsBuilder builder) {
+        for (ProgressionIndex.Metric metric : ProgressionIndex.Metric.values()) {
+            builder.suggest(metric.name().toLowerCase(Locale.ROOT));
+        }
+        return builder.buildFuture();
+    }
+
+    private static CompletableFuture<Suggestions> suggestClasses(CommandContext<ServerCommandSource> context, SuggestionsBuilder builder) {
+        for (Identifier id : DataLoaders.CLASS_LOADER.getItems().keySet()) {
+            builder.suggest("\"" + id.toString() + "\"");
+        }
+        return builder.buildFuture();
+    }
+
     private static CompletableFuture<Suggestions> suggestFruits(CommandContext<ServerCommandSource> context, SuggestionsBuilder builder) {
         Set<Identifier> fruits = DataLoaders.DEVIL_FRUIT_LOADER.getItems().keySet();
         for (Identifier id : fruits) {
@@ -1,6 +1,7 @@
 package de.one_piece_api.init;
 
 import de.one_piece_api.reward.PassiveAbilityReward;
+import de.one_piece_api.reward.RewardSync;
 import de.one_piece_api.reward.SpellContainerReward;
 
 public class MyRewards {
@@ -8,5 +9,6 @@ public class MyRewards {
     public static void register() {
         SpellContainerReward.register();
         PassiveAbilityReward.register();
+        RewardSync.register();
     }
 }
@@ -7,12 +7,12 @@ import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 public class MyServerPayloads {
 
     public static void registerReceiver() {
-        ServerPlayNetworking.registerGlobalReceiver(SetCombatModePayload.TYPE, ServerPacketHandler::handleSetCombatModePayload);
-        ServerPlayNetworking.registerGlobalReceiver(DevilFruitPayload.Request.TYPE, ServerPacketHandler::handleDevilFruitRequest);
-        ServerPlayNetworking.registerGlobalReceiver(ClassConfigPayload.Request.TYPE, ServerPacketHandler::handleClassConfigRequest);
-        ServerPlayNetworking.registerGlobalReceiver(SetSpellsPayload.TYPE, ServerPacketHandler::handleSetSpellsPayload);
-        ServerPlayNetworking.registerGlobalReceiver(SetClassPayload.TYPE, ServerPacketHandler::handleSetClassPayload);
-        ServerPlayNetworking.registerGlobalReceiver(UiPayload.TYPE, ServerPacketHandler::handleUi);
+        ServerPlayNetworking.registerGlobalReceiver(SetCombatModePayload.TYPE, PlayerNetworkStats.counted(ServerPacketHandler::handleSetCombatModePayload));
+        ServerPlayNetworking.registerGlobalReceiver(DevilFruitPayload.Request.TYPE, PlayerNetworkStats.counted(ServerPacketHandler::handleDevilFruitRequest));
+        ServerPlayNetworking.registerGlobalReceiver(ClassConfigPayload.Request.TYPE, PlayerNetworkStats.counted(ServerPacketHandler::handleClassConfigRequest));
+        ServerPlayNetworking.registerGlobalReceiver(SetSpellSlotPayload.TYPE, PlayerNetworkStats.counted(ServerPacketHandler::handleSetSpellSlotPayload));
+        ServerPlayNetworking.registerGlobalReceiver(SetClassPayload.TYPE, PlayerNetworkStats.counted(ServerPacketHandler::handleSetClassPayload));
+        ServerPlayNetworking.registerGlobalReceiver(UiPayload.TYPE, PlayerNetworkStats.counted(ServerPacketHandler::handleUi));
     }
 
 }
@@ -0,0 +1,30 @@
+package de.one_piece_api.mixin;
+
+import de.one_piece_api.network.PacketBundler;
+import de.one_piece_api.network.PlayerNetworkStats;
+import net.minecraft.network.PacketCallbacks;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.s2c.common.CustomPayloadS2CPacket;
+import net.minecraft.server.network.ServerCommonNetworkHandler;
+import net.minecraft.server.network.ServerPlayNetworkHandler;
+import org.jetbrains.annotations.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerCommonNetworkHandler.class)
+public class ServerCommonNetworkHandlerMixin {
+
+    @Inject(method = "send", at = @At("HEAD"), cancellable = true)
+    private void onSend(Packet<?> packet, @Nullable PacketCallbacks callbacks, CallbackInfo ci) {
+        if ((Object) this instanceof ServerPlayNetworkHandler handler) {
+            if (packet instanceof CustomPayloadS2CPacket customPayload) {
+                PlayerNetworkStats.recordSent(handler.player, customPayload.payload());
+            }
+            if (PacketBundler.hold(handler, packet, callbacks)) {
+                ci.cancel();
+            }
+        }
+    }
+}
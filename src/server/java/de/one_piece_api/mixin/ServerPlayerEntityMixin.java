@@ -2,8 +2,10 @@ package de.one_piece_api.mixin;
 
 import de.one_piece_api.mixin_interface.IClassPlayer;
 import de.one_piece_api.mixin_interface.ICombatPlayer;
+import de.one_piece_api.mixin_interface.IRuntimePlayer;
 import de.one_piece_api.mixin_interface.ISpellPlayer;
 import de.one_piece_api.mixin_interface.IXpPlayer;
+import de.one_piece_api.util.PlayerRuntimeState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.spell_engine.internals.container.SpellContainerSource;
@@ -14,13 +16,21 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(ServerPlayerEntity.class)
-public class ServerPlayerEntityMixin {
+public class ServerPlayerEntityMixin implements IRuntimePlayer {
+
+    @Unique
+    private PlayerRuntimeState onepiece$runtimeState = new PlayerRuntimeState();
 
     @Unique
     private ServerPlayerEntity getSelf() {
         return (ServerPlayerEntity)(Object)this;
     }
 
+    @Override
+    public PlayerRuntimeState onepiece$getRuntimeState() {
+        return onepiece$runtimeState;
+    }
+
     @Inject(method = "copyFrom", at = @At("TAIL"))
     public void onCopyFrom(ServerPlayerEntity oldPlayer, boolean alive, CallbackInfo ci) {
         PlayerEntity thisPlayer = this.getSelf();
@@ -41,8 +51,12 @@ public class ServerPlayerEntityMixin {
         thisSpellPlayer.onepiece$setSelectedSpellIds(thatSpellPlayer.onepiece$getSelectedSpellIds());
         thisXpPlayer.onepiece$setXpTimeConfig(thatXpPlayer.onepiece$getXpTimeConfig());
         thisXpPlayer.onepiece$setTicksSinceLastXp(thatXpPlayer.onepiece$getTicksSinceLastXp());
+        thisXpPlayer.onepiece$updateActivity();
         thisCombatPlayer.onepiece$setCombatMode(thatCombatPlayer.onepiece$isCombatMode());
 
+        this.onepiece$runtimeState = ((IRuntimePlayer) oldPlayer).onepiece$getRuntimeState();
+        this.onepiece$runtimeState.onRespawn();
+
         SpellContainerSource.Owner thisOwner = (SpellContainerSource.Owner) this.getSelf();
         SpellContainerSource.Owner thatOwner = (SpellContainerSource.Owner) oldPlayer;
         thisOwner.setSpellContainers(thatOwner.getSpellContainers());
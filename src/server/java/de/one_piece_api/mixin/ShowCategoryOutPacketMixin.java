@@ -2,11 +2,13 @@ package de.one_piece_api.mixin;
 
 import de.one_piece_api.mixin_interface.ISkillTypeProvider;
 import de.one_piece_api.mixin_interface.StyledConnection;
+import de.one_piece_api.network.NetworkStats;
 import net.minecraft.network.PacketByteBuf;
 import net.puffish.skillsmod.common.SkillConnection;
 import net.puffish.skillsmod.config.skill.SkillConfig;
 import net.puffish.skillsmod.server.network.packets.out.ShowCategoryOutPacket;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -14,6 +16,11 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(value = ShowCategoryOutPacket.class, remap = false)
 public class ShowCategoryOutPacketMixin {
 
+    @Unique
+    private static final String CONNECTION_STATS_KEY = "s2c/puffish_skills:show_category#connection_style";
+    @Unique
+    private static final String SKILL_STATS_KEY = "s2c/puffish_skills:show_category#skill_type";
+
     @Inject(
             method = "write(Lnet/minecraft/network/PacketByteBuf;Lnet/puffish/skillsmod/common/SkillConnection;)V",
             at = @At("TAIL"),
@@ -22,9 +29,12 @@ public class ShowCategoryOutPacketMixin {
     private static void write(PacketByteBuf buf, SkillConnection skill, CallbackInfo ci) {
         StyledConnection styled = (StyledConnection) (Object) skill;
         if (styled == null) return;
+        int start = buf.writerIndex();
+        long time = System.nanoTime();
         var style = styled.onepiece$getStyle();
         buf.writeBoolean(style.isPresent());
         style.ifPresent(buf::writeIdentifier);
+        NetworkStats.recordEncoded(CONNECTION_STATS_KEY, buf.writerIndex() - start, System.nanoTime() - time);
     }
 
     @Inject(
@@ -35,6 +45,9 @@ public class ShowCategoryOutPacketMixin {
     private static void write(PacketByteBuf buf, SkillConfig skill, CallbackInfo ci) {
         ISkillTypeProvider styled = (ISkillTypeProvider) (Object) skill;
         if (styled == null) return;
+        int start = buf.writerIndex();
+        long time = System.nanoTime();
         buf.writeEnumConstant(styled.onepiece$getSkillType());
+        NetworkStats.recordEncoded(SKILL_STATS_KEY, buf.writerIndex() - start, System.nanoTime() - time);
     }
 }
\ No newline at end of file
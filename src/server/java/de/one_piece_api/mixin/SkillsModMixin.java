@@ -1,6 +1,9 @@
 package de.one_piece_api.mixin;
 
 import de.one_piece_api.event.EventRegistry;
+import de.one_piece_api.util.OnePieceCategory;
+import de.one_piece_api.util.helper.SkillTransaction;
+import de.one_piece_api.util.helper.SkillUnlockIndex;
 import de.one_piece_api.util.interfaces.ICategoryAccessor;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
@@ -40,4 +43,51 @@ public abstract class SkillsModMixin implements ICategoryAccessor {
             }
         }
     }
+
+    // Keep the skill unlock mirror in sync, a committing transaction rebuilds it once afterwards
+
+    @Inject(
+            method = "unlockSkill(Lnet/minecraft/server/network/ServerPlayerEntity;Lnet/minecraft/util/Identifier;Ljava/lang/String;)V",
+            at = @At("TAIL"),
+            remap = false
+    )
+    private void onUnlockSkill(ServerPlayerEntity player, Identifier categoryId, String skillId, CallbackInfo ci) {
+        if (categoryId.equals(OnePieceCategory.ID) && !SkillTransaction.isCommitting(player)) {
+            SkillUnlockIndex.set(player, skillId, true);
+        }
+    }
+
+    @Inject(
+            method = "lockSkill(Lnet/minecraft/server/network/ServerPlayerEntity;Lnet/minecraft/util/Identifier;Ljava/lang/String;)V",
+            at = @At("TAIL"),
+            remap = false
+    )
+    private void onLockSkill(ServerPlayerEntity player, Identifier categoryId, String skillId, CallbackInfo ci) {
+        if (categoryId.equals(OnePieceCategory.ID) && !SkillTransaction.isCommitting(player)) {
+            SkillUnlockIndex.set(player, skillId, false);
+        }
+    }
+
+    @Inject(
+            method = "tryUnlockSkill(Lnet/minecraft/server/network/ServerPlayerEntity;Lnet/minecraft/util/Identifier;Ljava/lang/String;Z)V",
+            at = @At("TAIL"),
+            remap = false
+    )
+    private void onTryUnlockSkill(ServerPlayerEntity player, Identifier categoryId, String skillId, boolean force, CallbackInfo ci) {
+        if (categoryId.equals(OnePieceCategory.ID) && !SkillTransaction.isCommitting(player)) {
+            // The unlock may have been refused, read the result back
+            SkillUnlockIndex.resync(player, skillId);
+        }
+    }
+
+    @Inject(
+            method = "resetSkills(Lnet/minecraft/server/network/ServerPlayerEntity;Lnet/minecraft/util/Identifier;)V",
+            at = @At("TAIL"),
+            remap = false
+    )
+    private void onResetSkills(ServerPlayerEntity player, Identifier categoryId, CallbackInfo ci) {
+        if (categoryId.equals(OnePieceCategory.ID) && !SkillTransaction.isCommitting(player)) {
+            SkillUnlockIndex.rebuild(player);
+        }
+    }
 }
\ No newline at end of file
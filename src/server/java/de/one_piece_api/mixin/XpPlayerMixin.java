@@ -1,8 +1,10 @@
 package de.one_piece_api.mixin;
 
+import de.one_piece_api.config.ActivityConfig;
 import de.one_piece_api.config.XpTimeConfig;
 import de.one_piece_api.mixin_interface.IXpPlayer;
 import de.one_piece_api.util.OnePieceCategory;
+import de.one_piece_api.util.PlayerDataStore;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
@@ -33,10 +35,6 @@ public abstract class XpPlayerMixin implements IXpPlayer {
     @Unique
     private long onepiece$lastActivityTick = 0;
 
-    // AFK threshold: 5 minutes without activity
-    @Unique
-    private static final int AFK_THRESHOLD_TICKS = 5 * 60 * 20;
-
 
     @Unique
     private ServerPlayerEntity onepiece$getXpSelf() {
@@ -76,37 +74,50 @@ public abstract class XpPlayerMixin implements IXpPlayer {
 
     @Override
     public void onepiece$updateActivity() {
-        ServerPlayerEntity player = (ServerPlayerEntity) (Object) this;
-        this.onepiece$lastActivityTick = player.getWorld().getTime();
+        this.onepiece$lastActivityTick = onepiece$getXpSelf().server.getTicks();
     }
 
     @Override
     public boolean onepiece$isAfk() {
-        return false;
-        /*
-        ServerPlayerEntity player = (ServerPlayerEntity) (Object) this;
-        long currentTick = player.getWorld().getTime();
-        return (currentTick - onepiece$lastActivityTick) > AFK_THRESHOLD_TICKS;*/
+        int timeout = ActivityConfig.get().idleTimeoutTicks();
+        if (timeout <= 0) {
+            return false;
+        }
+        return onepiece$getXpSelf().server.getTicks() - onepiece$lastActivityTick > timeout;
+    }
+
+    /**
+     * Vanilla marks movement, looking around, interactions and chat as player actions
+     * for the idle kick, which are the same actions that end being AFK.
+     */
+    @Inject(method = "updateLastActionTime", at = @At("TAIL"))
+    private void onUpdateLastActionTime(CallbackInfo ci) {
+        onepiece$updateActivity();
     }
 
     @Inject(method = "writeCustomDataToNbt", at = @At("TAIL"))
     private void writeXpData(NbtCompound nbt, CallbackInfo ci) {
-        NbtCompound xpData = new NbtCompound();
-        xpData.putInt("ticksSinceLastXp", onepiece$ticksSinceLastXp);
-        xpData.put("xpTimeConfig", onepiece$xpTimeConfig.toNbt());
-        nbt.put("onepiece_xp_data", xpData);
+        // The XP timer advances nearly every tick, not worth tracking
+        PlayerDataStore store = PlayerDataStore.get(onepiece$getXpSelf());
+        store.markDirty(PlayerDataStore.XP);
+        store.write(nbt, PlayerDataStore.XP, xpData -> {
+            xpData.putInt("ticksSinceLastXp", onepiece$ticksSinceLastXp);
+            xpData.put("xpTimeConfig", onepiece$xpTimeConfig.toNbt());
+            // Not read back, kept for offline tools like the progression index rebuild
+            xpData.putInt("level", onepiece$getLevel());
+            xpData.putInt("total", onepiece$getXp());
+        });
     }
 
     @Inject(method = "readCustomDataFromNbt", at = @At("TAIL"))
     private void readXpData(NbtCompound nbt, CallbackInfo ci) {
-        if (nbt.contains("onepiece_xp_data")) {
-            NbtCompound xpData = nbt.getCompound("onepiece_xp_data");
+        PlayerDataStore.get(onepiece$getXpSelf()).read(PlayerDataStore.XP, xpData -> {
             onepiece$ticksSinceLastXp = xpData.getInt("ticksSinceLastXp");
 
             if (xpData.contains("xpTimeConfig")) {
                 onepiece$xpTimeConfig = XpTimeConfig.fromNbt(xpData.getCompound("xpTimeConfig"));
             }
-        }
+        });
     }
 
 
@@ -165,6 +176,14 @@ public abstract class XpPlayerMixin implements IXpPlayer {
                 .map(experience -> experience.getTotal(player)).orElse(0);
     }
 
+    @Override
+    public int onepiece$getLevel() {
+        var player = onepiece$getXpSelf();
+        return SkillsAPI.getCategory(OnePieceCategory.ID)
+                .flatMap(Category::getExperience)
+                .map(experience -> experience.getLevel(player)).orElse(0);
+    }
+
     @Override
     public void onepiece$setSkillPoints(int i, Identifier source) {
         var player = onepiece$getXpSelf();
@@ -0,0 +1,14 @@
+package de.one_piece_api.mixin_interface;
+
+import de.one_piece_api.util.PlayerRuntimeState;
+
+/**
+ * Interface for accessing the server-only runtime state of a player
+ */
+public interface IRuntimePlayer {
+
+    /**
+     * Get the runtime state of the player, kept across respawns and disposed on disconnect
+     */
+    PlayerRuntimeState onepiece$getRuntimeState();
+}
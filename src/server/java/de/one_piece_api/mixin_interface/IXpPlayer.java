@@ -54,6 +54,11 @@ public interface IXpPlayer {
 
     int onepiece$getXp();
 
+    /**
+     * Get the level in the One Piece category
+     */
+    int onepiece$getLevel();
+
     void onepiece$addXp(int amount);
 
     void onepiece$setXp(int newXp);
@@ -0,0 +1,220 @@
+package de.one_piece_api.network;
+
+import de.one_piece_api.OnePieceRPG;
+import de.one_piece_api.config.NetworkConfig;
+import de.one_piece_api.mixin_interface.ICombatPlayer;
+import de.one_piece_api.mixin_interface.ISpellPlayer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.spell_engine.api.spell.registry.SpellRegistry;
+import net.spell_engine.internals.container.SpellContainerSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces client state payloads (combat mode and hotbar slots) per player.
+ * <p>
+ * Fabric runs the payload handlers on the server thread, like every access to this class.
+ * Handlers only record the payload: the latest combat mode and the latest value per
+ * hotbar slot are kept, and they are applied once at the end of the server tick. This turns a burst of
+ * combat toggles into at most one {@link SpellContainerSource#update} per tick.
+ * <p>
+ * Each player also has a packet budget per second ({@link NetworkConfig#statePacketsPerSecond()}).
+ * Packets above the budget are dropped and the client is resynced with the
+ * authoritative server state at the next flush.
+ */
+public class InboundStateCoalescer {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final Map<UUID, PlayerState> STATES = new HashMap<>();
+
+    private static long totalReceived = 0;
+    private static long totalCoalesced = 0;
+    private static long totalDropped = 0;
+
+    /**
+     * Per-player packet counters.
+     *
+     * @param received packets accepted within the budget
+     * @param coalesced packets that were overwritten by a later packet before being applied
+     * @param dropped packets rejected because the budget was exhausted
+     */
+    public record Stats(long received, long coalesced, long dropped) {
+    }
+
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(InboundStateCoalescer::flush);
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> STATES.remove(handler.getPlayer().getUuid()));
+    }
+
+    /**
+     * Records the latest requested combat mode for the player.
+     */
+    public static void offerCombatMode(ServerPlayerEntity player, boolean mode) {
+        PlayerState state = getState(player);
+        if (!state.tryConsume()) {
+            return;
+        }
+        if (state.hasCombatMode) {
+            state.markCoalesced();
+        }
+        state.hasCombatMode = true;
+        state.combatMode = mode;
+    }
+
+    /**
+     * Records the latest requested spell for a hotbar slot.
+     *
+     * @param rawId the spell registry raw id, or {@code -1} to clear the slot
+     */
+    public static void offerSpellSlot(ServerPlayerEntity player, int slot, int rawId) {
+        if (slot < 0 || slot >= Math.min(Integer.SIZE, OnePieceRPG.getSpellSlots(player))) {
+            return;
+        }
+        PlayerState state = getState(player);
+        if (!state.tryConsume()) {
+            return;
+        }
+        if ((state.dirtySlots & (1 << slot)) != 0) {
+            state.markCoalesced();
+        }
+        state.dirtySlots |= 1 << slot;
+        state.pendingSlots[slot] = rawId;
+    }
+
+    public static long getReceived() {
+        return totalReceived;
+    }
+
+    public static long getCoalesced() {
+        return totalCoalesced;
+    }
+
+    public static long getDropped() {
+        return totalDropped;
+    }
+
+    /**
+     * Gets the packet counters of a connected player.
+     */
+    public static Stats getStats(UUID player) {
+        PlayerState state = STATES.get(player);
+        if (state == null) {
+            return new Stats(0, 0, 0);
+        }
+        return new Stats(state.received, state.coalesced, state.dropped);
+    }
+
+    private static PlayerState getState(ServerPlayerEntity player) {
+        return STATES.computeIfAbsent(player.getUuid(), k -> new PlayerState());
+    }
+
+    private static void flush(MinecraftServer server) {
+        if (STATES.isEmpty()) {
+            return;
+        }
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            PlayerState state = STATES.get(player.getUuid());
+            if (state != null) {
+                apply(player, state);
+            }
+        }
+    }
+
+    private static void apply(ServerPlayerEntity player, PlayerState state) {
+        if (!state.hasCombatMode && state.dirtySlots == 0 && !state.resync) {
+            return;
+        }
+        boolean hasCombatMode = state.hasCombatMode;
+        boolean combatMode = state.combatMode;
+        int dirtySlots = state.dirtySlots;
+        int[] slots = state.pendingSlots;
+        boolean resync = state.resync;
+        state.hasCombatMode = false;
+        state.dirtySlots = 0;
+        state.resync = false;
+
+        if (dirtySlots != 0 && player instanceof ISpellPlayer spellPlayer) {
+            var registry = SpellRegistry.from(player.getWorld());
+            for (int slot = 0; slot < slots.length; slot++) {
+                if ((dirtySlots & (1 << slot)) == 0) {
+                    continue;
+                }
+                int rawId = slots[slot];
+                String spellId = "";
+                if (rawId >= 0) {
+                    var entry = registry.getEntry(rawId);
+                    if (entry.isEmpty()) {
+                        // Client and server disagree about the slot, resend the authoritative hotbar
+                        resync = true;
+                        continue;
+                    }
+                    spellId = entry.get().getIdAsString();
+                }
+                spellPlayer.onepiece$setSelectedSpellId(slot, spellId);
+            }
+        }
+
+        if (hasCombatMode && player instanceof ICombatPlayer combatPlayer
+                && combatPlayer.onepiece$isCombatMode() != combatMode) {
+            combatPlayer.onepiece$setCombatMode(combatMode);
+            SpellContainerSource.update(player);
+        }
+
+        if (resync) {
+            ServerPacketHandler.sendSpellHotbar(player);
+            if (player instanceof ICombatPlayer combatPlayer) {
+                combatPlayer.onepiece$syncCombatMode();
+            }
+        }
+    }
+
+    private static class PlayerState {
+        private final int[] pendingSlots = new int[Integer.SIZE];
+        private int dirtySlots = 0;
+        private boolean hasCombatMode = false;
+        private boolean combatMode = false;
+        private boolean resync = false;
+
+        private long windowStart = System.nanoTime();
+        private int packetsInWindow = 0;
+
+        private long received = 0;
+        private long coalesced = 0;
+        private long dropped = 0;
+
+        /**
+         * Consumes one packet from the per-second budget.
+         *
+         * @return false if the budget is exhausted and the packet must be dropped
+         */
+        private boolean tryConsume() {
+            long now = System.nanoTime();
+            if (now - windowStart >= WINDOW_NANOS) {
+                windowStart = now;
+                packetsInWindow = 0;
+            }
+            if (packetsInWindow >= NetworkConfig.get().statePacketsPerSecond()) {
+                dropped++;
+                totalDropped++;
+                resync = true;
+                return false;
+            }
+            packetsInWindow++;
+            received++;
+            totalReceived++;
+            return true;
+        }
+
+        private void markCoalesced() {
+            coalesced++;
+            totalCoalesced++;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package de.one_piece_api.network;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import de.one_piece_api.OnePieceRPG;
+import de.one_piece_api.config.NetworkConfig;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Periodically writes {@link NetworkStats} and {@link PlayerNetworkStats} to the game directory.
+ * <p>
+ * CSV dumps append one row per payload to {@code one_piece_api/network-stats.csv},
+ * so releases can be compared over time. JSON dumps overwrite
+ * {@code one_piece_api/network-stats.json} with the latest snapshot including the
+ * online players. Files are written on the IO worker, never on the server thread.
+ */
+public class NetworkStatsDumper {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String CSV_HEADER = "timestamp,payload,encoded_packets,encoded_bytes,encode_ns,decoded_packets,decoded_bytes,decode_ns\n";
+
+    private static int ticksSinceDump = 0;
+
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(NetworkStatsDumper::onServerTick);
+    }
+
+    private static void onServerTick(MinecraftServer server) {
+        int interval = NetworkConfig.get().statsDumpIntervalSeconds();
+        if (interval <= 0) {
+            ticksSinceDump = 0;
+            return;
+        }
+        if (++ticksSinceDump < interval * 20) {
+            return;
+        }
+        ticksSinceDump = 0;
+        dump(server);
+    }
+
+    /**
+     * Snapshots the counters on the calling thread and writes them asynchronously.
+     *
+     * @return the file that will be written
+     */
+    public static Path dump(MinecraftServer server) {
+        boolean json = NetworkConfig.get().statsDumpFormat().equals("json");
+        Path file = FabricLoader.getInstance().getGameDir()
+                .resolve(OnePieceRPG.MOD_ID)
+                .resolve(json ? "network-stats.json" : "network-stats.csv");
+        Instant now = Instant.now();
+        Map<String, NetworkStats.Snapshot> payloads = NetworkStats.snapshot();
+        String content = json ? toJson(server, now, payloads) : toCsv(now, payloads);
+
+        Util.getIoWorkerExecutor().execute(() -> {
+            try {
+                Files.createDirectories(file.getParent());
+                if (json) {
+                    Files.writeString(file, content);
+                } else {
+                    boolean exists = Files.exists(file);
+                    try (Writer writer = Files.newBufferedWriter(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                        if (!exists) {
+                            writer.write(CSV_HEADER);
+                        }
+                        writer.write(content);
+                    }
+                }
+            } catch (IOException e) {
+                OnePieceRPG.LOGGER.error("Failed to write network statistics to {}", file, e);
+            }
+        });
+        return file;
+    }
+
+    private static String toCsv(Instant now, Map<String, NetworkStats.Snapshot> payloads) {
+        StringBuilder builder = new StringBuilder();
+        payloads.forEach((key, stats) -> builder
+                .append(now).append(',')
+                .append(key).append(',')
+                .append(stats.encodedPackets()).append(',')
+                .append(stats.encodedBytes()).append(',')
+                .append(stats.encodeNanos()).append(',')
+                .append(stats.decodedPackets()).append(',')
+                .append(stats.decodedBytes()).append(',')
+                .append(stats.decodeNanos()).append('\n'));
+        return builder.toString();
+    }
+
+    private static String toJson(MinecraftServer server, Instant now, Map<String, NetworkStats.Snapshot> payloads) {
+        JsonObject root = new JsonObject();
+        root.addProperty("timestamp", now.toString());
+
+        JsonObject payloadsJson = new JsonObject();
+        payloads.forEach((key, stats) -> {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("encoded_packets", stats.encodedPackets());
+            entry.addProperty("encoded_bytes", stats.encodedBytes());
+            entry.addProperty("encode_ns", stats.encodeNanos());
+            entry.addProperty("decoded_packets", stats.decodedPackets());
+            entry.addProperty("decoded_bytes", stats.decodedBytes());
+            entry.addProperty("decode_ns", stats.decodeNanos());
+            payloadsJson.add(key, entry);
+        });
+        root.add("payloads", payloadsJson);
+
+        JsonArray playersJson = new JsonArray();
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            PlayerNetworkStats.Snapshot stats = PlayerNetworkStats.get(player.getUuid());
+            JsonObject entry = new JsonObject();
+            entry.addProperty("uuid", player.getUuidAsString());
+            entry.addProperty("name", player.getName().getString());
+            entry.addProperty("sent_packets", stats.sentPackets());
+            entry.addProperty("sent_bytes", stats.sentBytes());
+            entry.addProperty("received_packets", stats.receivedPackets());
+            entry.addProperty("received_bytes", stats.receivedBytes());
+            playersJson.add(entry);
+        }
+        root.add("players", playersJson);
+
+        return GSON.toJson(root);
+    }
+}
@@ -0,0 +1,87 @@
+package de.one_piece_api.network;
+
+import net.minecraft.network.PacketCallbacks;
+import net.minecraft.network.listener.ClientPlayPacketListener;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.s2c.play.BundleS2CPacket;
+import net.minecraft.server.network.ServerPlayNetworkHandler;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds back the packets sent to a player while a batch runs on the server thread and
+ * sends them as one vanilla {@link BundleS2CPacket} when it ends.
+ * <p>
+ * The client applies a bundle in one go, so a batch of skill changes that makes
+ * SkillsMod send a payload per skill reaches the client as a single update instead of
+ * a stream of partial states. Packets with callbacks and nested bundles are not held,
+ * the held packets are sent before them to keep the order.
+ */
+public class PacketBundler {
+
+    /**
+     * Most packets the client accepts in one bundle.
+     */
+    private static final int MAX_BUNDLE_SIZE = 4096;
+
+    private static final Map<ServerPlayNetworkHandler, List<Packet<? super ClientPlayPacketListener>>> HELD = new HashMap<>();
+
+    /**
+     * Starts holding back the packets sent to the player. Nested calls join the running batch.
+     *
+     * @return {@code true} if this call started the batch and must {@link #end} it
+     */
+    public static boolean begin(ServerPlayerEntity player) {
+        return HELD.putIfAbsent(player.networkHandler, new ArrayList<>()) == null;
+    }
+
+    /**
+     * Sends the held packets of the player and stops holding them back.
+     */
+    public static void end(ServerPlayerEntity player) {
+        var held = HELD.remove(player.networkHandler);
+        if (held != null) {
+            send(player.networkHandler, held);
+        }
+    }
+
+    /**
+     * Called for every packet sent to a player.
+     *
+     * @return {@code true} if the packet was held back and must not be sent now
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean hold(ServerPlayNetworkHandler handler, Packet<?> packet, @Nullable PacketCallbacks callbacks) {
+        // Batches only run on the server thread, packets from other threads pass
+        if (!handler.player.server.isOnThread() || HELD.isEmpty()) {
+            return false;
+        }
+        var held = HELD.get(handler);
+        if (held == null) {
+            return false;
+        }
+        if (callbacks == null && !(packet instanceof BundleS2CPacket)) {
+            held.add((Packet<? super ClientPlayPacketListener>) packet);
+            return true;
+        }
+        // Bundles don't nest: send what is held first, then let the packet pass
+        HELD.remove(handler);
+        send(handler, held);
+        HELD.put(handler, new ArrayList<>());
+        return false;
+    }
+
+    /**
+     * Sends held packets. Always bundled, so payloads counted when they were held are not counted again.
+     */
+    private static void send(ServerPlayNetworkHandler handler, List<Packet<? super ClientPlayPacketListener>> packets) {
+        for (int start = 0; start < packets.size(); start += MAX_BUNDLE_SIZE) {
+            handler.sendPacket(new BundleS2CPacket(packets.subList(start, Math.min(packets.size(), start + MAX_BUNDLE_SIZE))));
+        }
+    }
+}
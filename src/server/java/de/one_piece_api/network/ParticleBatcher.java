@@ -0,0 +1,133 @@
+package de.one_piece_api.network;
+
+import de.one_piece_api.config.NetworkConfig;
+import de.one_piece_api.network.payload.ParticleBatchPayload;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects particle emissions during a tick and sends them as one
+ * {@link ParticleBatchPayload} per particle and spread to each nearby player.
+ * <p>
+ * This replaces {@link ServerWorld#spawnParticles} for effects hitting many targets,
+ * which sends one vanilla packet per emission and player. Emissions are visible in
+ * the same range as vanilla particles. Each player receives at most
+ * {@link NetworkConfig#particleBudgetPerTick()} particles per tick, the rest is dropped.
+ * Players without the payload registered receive vanilla packets within the same budget.
+ */
+public class ParticleBatcher {
+
+    private static final double VIEW_DISTANCE_SQUARED = 32 * 32;
+
+    private record Group(ParticleEffect effect, int count, float deltaX, float deltaY, float deltaZ, float speed) {
+        private int cost() {
+            return Math.max(1, count);
+        }
+    }
+
+    private static final Map<ServerWorld, Map<Group, DoubleArrayList>> PENDING = new HashMap<>();
+    private static final LongAdder sent = new LongAdder();
+    private static final LongAdder dropped = new LongAdder();
+
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(ParticleBatcher::flush);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> PENDING.clear());
+    }
+
+    /**
+     * Queues particles to be sent at the end of the tick, same arguments as {@link ServerWorld#spawnParticles}.
+     */
+    public static void spawnParticles(ServerWorld world, ParticleEffect effect,
+                                      double x, double y, double z, int count,
+                                      double deltaX, double deltaY, double deltaZ, double speed) {
+        Group group = new Group(effect, count, (float) deltaX, (float) deltaY, (float) deltaZ, (float) speed);
+        DoubleArrayList positions = PENDING.computeIfAbsent(world, k -> new LinkedHashMap<>())
+                .computeIfAbsent(group, k -> new DoubleArrayList());
+        positions.add(x);
+        positions.add(y);
+        positions.add(z);
+    }
+
+    /**
+     * Gets the number of particles sent to players since the server started.
+     */
+    public static long getSent() {
+        return sent.sum();
+    }
+
+    /**
+     * Gets the number of particles dropped because a player's budget was exhausted.
+     */
+    public static long getDropped() {
+        return dropped.sum();
+    }
+
+    private static void flush(MinecraftServer server) {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        int budget = NetworkConfig.get().particleBudgetPerTick();
+        DoubleArrayList visible = new DoubleArrayList();
+        for (Map.Entry<ServerWorld, Map<Group, DoubleArrayList>> worldEntry : PENDING.entrySet()) {
+            for (ServerPlayerEntity player : worldEntry.getKey().getPlayers()) {
+                int remaining = budget;
+                for (Map.Entry<Group, DoubleArrayList> groupEntry : worldEntry.getValue().entrySet()) {
+                    remaining = send(worldEntry.getKey(), player, groupEntry.getKey(), groupEntry.getValue(), remaining, visible);
+                }
+            }
+        }
+        PENDING.clear();
+    }
+
+    /**
+     * Sends the positions of a group the player can see, within the remaining budget.
+     *
+     * @return the budget left afterwards
+     */
+    private static int send(ServerWorld world, ServerPlayerEntity player, Group group, DoubleArrayList positions, int remaining, DoubleArrayList visible) {
+        visible.clear();
+        for (int i = 0; i < positions.size(); i += 3) {
+            double x = positions.getDouble(i);
+            double y = positions.getDouble(i + 1);
+            double z = positions.getDouble(i + 2);
+            if (player.squaredDistanceTo(x, y, z) > VIEW_DISTANCE_SQUARED) {
+                continue;
+            }
+            if (remaining < group.cost()) {
+                dropped.add(group.cost());
+                continue;
+            }
+            remaining -= group.cost();
+            visible.add(x);
+            visible.add(y);
+            visible.add(z);
+        }
+        if (visible.isEmpty()) {
+            return remaining;
+        }
+        sent.add((long) group.cost() * (visible.size() / 3));
+
+        if (ServerPlayNetworking.canSend(player, ParticleBatchPayload.TYPE)) {
+            ServerPlayNetworking.send(player, new ParticleBatchPayload(group.effect(), group.count(),
+                    group.deltaX(), group.deltaY(), group.deltaZ(), group.speed(), visible.toDoubleArray()));
+        } else {
+            for (int i = 0; i < visible.size(); i += 3) {
+                world.spawnParticles(player, group.effect(), false,
+                        visible.getDouble(i), visible.getDouble(i + 1), visible.getDouble(i + 2),
+                        group.count(), group.deltaX(), group.deltaY(), group.deltaZ(), group.speed());
+            }
+        }
+        return remaining;
+    }
+}
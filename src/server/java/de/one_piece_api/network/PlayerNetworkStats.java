@@ -0,0 +1,89 @@
+package de.one_piece_api.network;
+
+import de.one_piece_api.OnePieceRPG;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-player totals of the mod's payloads.
+ * <p>
+ * Packet counts are exact. Byte counts are attributed using the average payload
+ * size measured by {@link NetworkStats}, because encoding happens on the netty
+ * thread after the packet has left the player's context.
+ */
+public class PlayerNetworkStats {
+
+    private static final Map<UUID, Counter> PLAYERS = new ConcurrentHashMap<>();
+
+    /**
+     * Immutable view of one player's totals.
+     */
+    public record Snapshot(long sentPackets, long sentBytes, long receivedPackets, long receivedBytes) {
+    }
+
+    private static class Counter {
+        private final LongAdder sentPackets = new LongAdder();
+        private final LongAdder sentBytes = new LongAdder();
+        private final LongAdder receivedPackets = new LongAdder();
+        private final LongAdder receivedBytes = new LongAdder();
+    }
+
+    public static void register() {
+        // Entries only exist while connected, payloads encoded after the disconnect are not counted
+        ServerPlayConnectionEvents.INIT.register((handler, server) -> PLAYERS.put(handler.getPlayer().getUuid(), new Counter()));
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> PLAYERS.remove(handler.getPlayer().getUuid()));
+    }
+
+    /**
+     * Wraps a receiver so that every payload it receives is counted for the sending player.
+     */
+    public static <T extends CustomPayload> ServerPlayNetworking.PlayPayloadHandler<T> counted(ServerPlayNetworking.PlayPayloadHandler<T> handler) {
+        return (payload, context) -> {
+            recordReceived(context.player(), payload);
+            handler.receive(payload, context);
+        };
+    }
+
+    public static void recordReceived(ServerPlayerEntity player, CustomPayload payload) {
+        Counter counter = PLAYERS.get(player.getUuid());
+        if (counter == null) {
+            return;
+        }
+        counter.receivedPackets.increment();
+        counter.receivedBytes.add(NetworkStats.averageDecodedBytes(NetworkStats.key("c2s", payload.getId())));
+    }
+
+    public static void recordSent(ServerPlayerEntity player, CustomPayload payload) {
+        if (!payload.getId().id().getNamespace().equals(OnePieceRPG.MOD_ID)) {
+            return;
+        }
+        Counter counter = PLAYERS.get(player.getUuid());
+        if (counter == null) {
+            return;
+        }
+        counter.sentPackets.increment();
+        counter.sentBytes.add(NetworkStats.averageEncodedBytes(NetworkStats.key("s2c", payload.getId())));
+    }
+
+    public static Snapshot get(UUID player) {
+        Counter counter = PLAYERS.get(player);
+        if (counter == null) {
+            return new Snapshot(0, 0, 0, 0);
+        }
+        return new Snapshot(
+                counter.sentPackets.sum(), counter.sentBytes.sum(),
+                counter.receivedPackets.sum(), counter.receivedBytes.sum()
+        );
+    }
+
+    public static void reset() {
+        PLAYERS.replaceAll((player, counter) -> new Counter());
+    }
+}
@@ -1,12 +1,10 @@
 package de.one_piece_api.network;
 
-import de.one_piece_api.ClassRewardHandler;
 import de.one_piece_api.OnePieceRPG;
 import de.one_piece_api.config.DevilFruitConfig;
 import de.one_piece_api.data.loader.DataLoaders;
 import de.one_piece_api.event.EventRegistry;
 import de.one_piece_api.mixin_interface.IClassPlayer;
-import de.one_piece_api.mixin_interface.ICombatPlayer;
 import de.one_piece_api.mixin_interface.ISpellPlayer;
 import de.one_piece_api.network.payload.*;
 import de.one_piece_api.util.helper.SkillHelper;
@@ -17,7 +15,6 @@ import net.spell_engine.api.spell.fx.ParticleBatch;
 import net.spell_engine.client.util.Color;
 import net.spell_engine.fx.ParticleHelper;
 import net.spell_engine.fx.SpellEngineParticles;
-import net.spell_engine.internals.container.SpellContainerSource;
 
 public class ServerPacketHandler {
 
@@ -37,23 +34,21 @@ public class ServerPacketHandler {
 
     public static void handleSetCombatModePayload(SetCombatModePayload payload, ServerPlayNetworking.Context context) {
         OnePieceRPG.debug(OnePieceRPG.SERVER_PAYLOAD_MARKER, "{} swapped combat mode: {}", context.player().getName().getString(), payload.mode());
+        InboundStateCoalescer.offerCombatMode(context.player(), payload.mode());
+    }
 
-        context.server().execute(() -> {
-            if (context.player() instanceof ICombatPlayer player) {
-                player.onepiece$setCombatMode(payload.mode());
-                SpellContainerSource.update(context.player());
-            }
-        });
-
+    public static void handleSetSpellSlotPayload(SetSpellSlotPayload payload, ServerPlayNetworking.Context context) {
+        OnePieceRPG.debug(OnePieceRPG.SERVER_PAYLOAD_MARKER, "{} set spell slot {}: {}", context.player().getName().getString(), payload.slot(), payload.rawId());
+        InboundStateCoalescer.offerSpellSlot(context.player(), payload.slot(), payload.rawId());
     }
 
-    public static void handleSetSpellsPayload(SetSpellsPayload payload, ServerPlayNetworking.Context context) {
-        OnePieceRPG.debug(OnePieceRPG.SERVER_PAYLOAD_MARKER, "{} swapped spell hotbar: {}", context.player().getName().getString(), payload.spells());
-        context.server().execute(() -> {
-            if (context.player() instanceof ISpellPlayer player) {
-                player.onepiece$setSelectedSpellIds(payload.spells());
-            }
-        });
+    /**
+     * Sends the full spell hotbar to its owner. Other players never receive hotbar data.
+     */
+    public static void sendSpellHotbar(ServerPlayerEntity player) {
+        if (player instanceof ISpellPlayer spellPlayer) {
+            ServerPlayNetworking.send(player, new SpellHotbarPayload(spellPlayer.onepiece$getSelectedSpellRawIds()));
+        }
     }
 
     public static void handleClassConfigRequest(ClassConfigPayload.Request request, ServerPlayNetworking.Context context) {
@@ -99,7 +94,6 @@ public class ServerPacketHandler {
             switch (uiPayload.ui()) {
                 case "reset" -> {
                     SkillHelper.respec(player);
-                    ClassRewardHandler.refreshRewards(player);
                     ParticleHelper.sendBatches(player, RESET_PARTICLES);
                     context.responseSender().sendPacket(uiPayload);
                 }
@@ -0,0 +1,114 @@
+package de.one_piece_api.network;
+
+import de.one_piece_api.config.NetworkConfig;
+import de.one_piece_api.init.MyAttributes;
+import de.one_piece_api.mixin_interface.IStaminaPlayer;
+import de.one_piece_api.network.payload.StaminaPayload;
+import de.one_piece_api.util.StaminaCostTable;
+import de.one_piece_api.util.StaminaModel;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Sends stamina corrections to the owning player only, instead of every tracking client.
+ * <p>
+ * The client predicts regeneration with the same {@link StaminaModel} as the server.
+ * For every player the server keeps a shadow model of what the client predicts. The shadow
+ * only knows what was sent: it starts from the quantized value of the last correction and
+ * regenerates with the attributes and boost state of that moment. Sneaking or attribute
+ * changes reach the client at a different time than the server, so the shadow treats
+ * them as unknown and lets the drift check catch their effect. A correction is sent when:
+ * <ul>
+ *     <li>stamina changed outside regeneration (spell costs, penalties, commands)</li>
+ *     <li>the prediction drifted by more than {@link NetworkConfig#staminaTolerance()}</li>
+ *     <li>the prediction and the real value disagree about a gameplay threshold:
+ *         empty, full, or the cost of a selected spell</li>
+ *     <li>{@link NetworkConfig#staminaResyncIntervalTicks()} passed while stamina was changing,
+ *         which bounds drift caused by latency on the client</li>
+ * </ul>
+ * State is keyed by the player entity, so a respawned player starts unsynced.
+ */
+public class StaminaSync {
+
+    private static final Map<ServerPlayerEntity, State> STATES = new WeakHashMap<>();
+
+    private static class State {
+        private final StaminaModel predicted = new StaminaModel();
+        @Nullable
+        private StaminaModel.Attributes attributes;
+        private boolean boosted = false;
+        private boolean synced = false;
+        private double sentStamina = 0;
+        private int ticksSinceSent = 0;
+    }
+
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(StaminaSync::onServerTick);
+    }
+
+    /**
+     * Forces the current stamina to be sent on the next tick, e.g. after the client recreated its player.
+     */
+    public static void resend(ServerPlayerEntity player) {
+        STATES.remove(player);
+    }
+
+    private static void onServerTick(MinecraftServer server) {
+        NetworkConfig config = NetworkConfig.get();
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            if (player instanceof IStaminaPlayer staminaPlayer) {
+                tick(player, staminaPlayer, config);
+            }
+        }
+    }
+
+    private static void tick(ServerPlayerEntity player, IStaminaPlayer staminaPlayer, NetworkConfig config) {
+        State state = STATES.computeIfAbsent(player, k -> new State());
+        StaminaModel actual = staminaPlayer.onepiece$getStaminaModel();
+
+        if (!state.synced || actual.getRevision() != state.predicted.getRevision()) {
+            send(player, staminaPlayer, state, actual);
+            return;
+        }
+
+        state.predicted.tick(state.attributes, state.boosted);
+        state.ticksSinceSent++;
+
+        double predicted = state.predicted.get();
+        double stamina = actual.get();
+        if (Math.abs(predicted - stamina) > config.staminaTolerance()
+                || crossesThreshold(player, predicted, stamina)
+                || (state.ticksSinceSent >= config.staminaResyncIntervalTicks() && stamina != state.sentStamina)) {
+            send(player, staminaPlayer, state, actual);
+        }
+    }
+
+    private static void send(ServerPlayerEntity player, IStaminaPlayer staminaPlayer, State state, StaminaModel actual) {
+        StaminaPayload payload = new StaminaPayload((float) actual.get(), actual.getRegenTicks(), actual.getBoostTicks());
+        ServerPlayNetworking.send(player, payload);
+        // Same state the client restores from the payload
+        state.predicted.copyFrom(actual);
+        state.predicted.restore(payload.stamina(), payload.regenTicks(), payload.boostTicks());
+        state.attributes = StaminaModel.Attributes.of(player);
+        state.boosted = staminaPlayer.onepiece$hasStaminaBoost();
+        state.synced = true;
+        state.sentStamina = actual.get();
+        state.ticksSinceSent = 0;
+    }
+
+    /**
+     * Whether the values disagree about being empty, being full, or which hotbar spells are affordable.
+     */
+    private static boolean crossesThreshold(ServerPlayerEntity player, double from, double to) {
+        double maxStamina = player.getAttributeValue(MyAttributes.MAX_STAMINA);
+        return (from > 0) != (to > 0)
+                || (from < maxStamina) != (to < maxStamina)
+                || StaminaCostTable.getAffordableSlots(player, from) != StaminaCostTable.getAffordableSlots(player, to);
+    }
+}
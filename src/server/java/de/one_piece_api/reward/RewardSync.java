@@ -0,0 +1,81 @@
+package de.one_piece_api.reward;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.spell_engine.internals.container.SpellContainerSource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Coalesces spell container updates caused by rewards.
+ * <p>
+ * A respec or a level-up updates many rewards of the same player in one tick.
+ * Instead of marking the player's spell containers dirty for every reward, the
+ * player is added to a dirty set that is flushed once at the end of the tick.
+ * Marks for a player that is already in the set are counted as suppressed.
+ */
+public class RewardSync {
+
+    private static final Set<ServerPlayerEntity> DIRTY = new LinkedHashSet<>();
+    private static long flushed = 0;
+    private static long suppressed = 0;
+
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(RewardSync::flush);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> DIRTY.clear());
+    }
+
+    /**
+     * Marks the player's spell containers dirty at the end of the tick.
+     */
+    public static void markSpellContainersDirty(ServerPlayerEntity player) {
+        if (!DIRTY.add(player)) {
+            suppressed++;
+        }
+    }
+
+    /**
+     * Performs a pending update of the player right away instead of at the end of the tick.
+     */
+    public static void flush(ServerPlayerEntity player) {
+        if (DIRTY.remove(player) && !player.isRemoved()) {
+            SpellContainerSource.setDirtyServerSide(player);
+            flushed++;
+        }
+    }
+
+    /**
+     * Gets the number of spell container updates performed since the server started.
+     */
+    public static long getFlushed() {
+        return flushed;
+    }
+
+    /**
+     * Gets the number of marks that were merged into an update already pending in the same tick.
+     */
+    public static long getSuppressed() {
+        return suppressed;
+    }
+
+    private static void flush(MinecraftServer server) {
+        if (DIRTY.isEmpty()) {
+            return;
+        }
+        // Copy first, the update may cause rewards to mark the player again
+        List<ServerPlayerEntity> players = new ArrayList<>(DIRTY);
+        DIRTY.clear();
+        for (ServerPlayerEntity player : players) {
+            if (player.isRemoved()) {
+                continue;
+            }
+            SpellContainerSource.setDirtyServerSide(player);
+            flushed++;
+        }
+    }
+}
@@ -59,7 +59,7 @@ public record SpellContainerReward(Identifier id, List<SpellContainer> container
             var index = Math.min(count - 1, this.containers.size() - 1);
             containers.put(id.toString(), this.containers.get(index));
         }
-        SpellContainerSource.setDirtyServerSide(player);
+        RewardSync.markSpellContainersDirty(player);
     }
 
     @Override
@@ -0,0 +1,253 @@
+package de.one_piece_api.spell;
+
+import de.one_piece_api.OnePieceRPG;
+import de.one_piece_api.mixin_interface.IAreaDelivery;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.TypeFilter;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import net.spell_engine.api.spell.Spell;
+import net.spell_engine.api.spell.event.SpellHandlers;
+import net.spell_engine.internals.SpellHelper;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Executes {@link AreaDelivery} spells, registered as the custom delivery {@link AreaDelivery#HANDLER}.
+ * <p>
+ * All shapes go through the same query over the tightest box around the shape, testing
+ * each entity against the shape geometry. World lookups are shared within a tick: a cast
+ * whose box lies inside the box of an earlier lookup in the same world reuses its entities,
+ * so bursts of casts around the same spot, like a multi-hit spell or several casters in a
+ * fight, cost one lookup. Entities are still tested at their current position.
+ */
+public class AreaDeliveryExecutor {
+
+    private static final Map<AreaDelivery, Boolean> VALIDATED = new WeakHashMap<>();
+
+    /**
+     * Lookups of the current tick, cleared at its end. Casts per tick are few, so a linear scan is enough.
+     */
+    private static final List<Lookup> LOOKUPS = new ArrayList<>();
+    private static final int MAX_LOOKUPS = 32;
+
+    private record Lookup(World world, Box bounds, List<LivingEntity> entities) {
+        boolean encloses(World world, Box box) {
+            return this.world == world
+                    && bounds.minX <= box.minX && bounds.minY <= box.minY && bounds.minZ <= box.minZ
+                    && bounds.maxX >= box.maxX && bounds.maxY >= box.maxY && bounds.maxZ >= box.maxZ;
+        }
+    }
+
+    interface Region {
+        Box bounds();
+
+        /**
+         * @return the distance relative to the reach of the shape between 0 and 1, or a negative value if outside
+         */
+        double distance(double x, double y, double z);
+    }
+
+    public static void register() {
+        SpellHandlers.registerCustomDelivery(AreaDelivery.HANDLER, AreaDeliveryExecutor::deliver);
+        ServerTickEvents.END_SERVER_TICK.register(server -> LOOKUPS.clear());
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            VALIDATED.clear();
+            LOOKUPS.clear();
+        });
+    }
+
+    private static boolean deliver(World world,
+                                   RegistryEntry<Spell> spellEntry,
+                                   PlayerEntity caster,
+                                   List<SpellHelper.DeliveryTarget> deliveryTargets,
+                                   SpellHelper.ImpactContext context,
+                                   @Nullable Vec3d position) {
+        if (!(world instanceof ServerWorld serverWorld)) return false;
+        Spell spell = spellEntry.value();
+        AreaDelivery area = spell.deliver.custom instanceof IAreaDelivery areaDelivery ? areaDelivery.onepiece$getArea() : null;
+        if (area == null || !isValid(spellEntry, area)) {
+            return false;
+        }
+        if (spell.impacts == null || spell.impacts.isEmpty()) {
+            return true;
+        }
+
+        List<Entity> targets = new ArrayList<>();
+        double[] distances = collect(serverWorld, caster, area, targets);
+        for (int i = 0; i < targets.size(); i++) {
+            float multiplier = area.falloffMultiplier(distances[i]);
+            SpellHelper.performImpacts(world, caster, targets.get(i), caster, spellEntry, spell.impacts,
+                    context.distance(multiplier));
+        }
+        return true;
+    }
+
+    /**
+     * Collects the living entities inside an area around the caster, for handlers that
+     * apply their own effects but want to share the entity lookup.
+     *
+     * @return the targets, nearest first if the area has a target cap
+     */
+    @SuppressWarnings("unchecked")
+    public static List<LivingEntity> collectTargets(ServerWorld world, LivingEntity caster, AreaDelivery area) {
+        List<Entity> targets = new ArrayList<>();
+        collect(world, caster, area, targets);
+        return (List<LivingEntity>) (List<?>) targets;
+    }
+
+    /**
+     * Fills the list with the targets of the area.
+     *
+     * @return the relative distance of each target, same order as the list
+     */
+    private static double[] collect(ServerWorld world, LivingEntity caster, AreaDelivery area, List<Entity> targets) {
+        Region region = region(caster.getEyePos(), caster.getRotationVec(1.0F),
+                caster.getPos().add(0, caster.getHeight() / 2, 0), area);
+        Box bounds = region.bounds();
+        DoubleArrayList distances = new DoubleArrayList();
+        for (LivingEntity entity : lookup(world, bounds)) {
+            // The target point lies within the entity box, so entities whose box misses the bounds can't be hit
+            if (!entity.isAlive() || entity.isSpectator() || (entity == caster && !area.include_caster)
+                    || !entity.getBoundingBox().intersects(bounds)) {
+                continue;
+            }
+            double distance = region.distance(entity.getX(), entity.getY() + entity.getStandingEyeHeight() / 2, entity.getZ());
+            if (distance >= 0) {
+                targets.add(entity);
+                distances.add(distance);
+            }
+        }
+
+        if (area.max_targets > 0 && targets.size() > area.max_targets) {
+            ConeQuery.selectNearest(targets, distances.elements(), area.max_targets);
+            targets.subList(area.max_targets, targets.size()).clear();
+        }
+        return distances.elements();
+    }
+
+    /**
+     * Gets the living entities whose box intersects the bounds, or those of an earlier
+     * lookup in the same tick whose bounds contain them.
+     */
+    private static List<LivingEntity> lookup(ServerWorld world, Box bounds) {
+        for (Lookup lookup : LOOKUPS) {
+            if (lookup.encloses(world, bounds)) {
+                return lookup.entities();
+            }
+        }
+        List<LivingEntity> entities = new ArrayList<>();
+        world.collectEntitiesByType(TypeFilter.instanceOf(LivingEntity.class), bounds, entity -> true, entities, Integer.MAX_VALUE);
+        if (LOOKUPS.size() < MAX_LOOKUPS) {
+            LOOKUPS.add(new Lookup(world, bounds, entities));
+        }
+        return entities;
+    }
+
+    /**
+     * Creates the geometry of an area.
+     *
+     * @param eyes the origin of cones and lines
+     * @param direction the direction of cones and lines, does not need to be normalized
+     * @param center the center of spheres and rings
+     */
+    static Region region(Vec3d eyes, Vec3d direction, Vec3d center, AreaDelivery area) {
+        Vec3d look = direction.normalize();
+        double range = area.range;
+
+        return switch (area.shape) {
+            case CONE -> {
+                ConeQuery cone = ConeQuery.of(eyes, look, range, Math.toRadians(area.angle / 2));
+                yield new Region() {
+                    public Box bounds() {
+                        return cone.bounds();
+                    }
+
+                    public double distance(double x, double y, double z) {
+                        return cone.contains(x, y, z) ? Math.sqrt(squaredDistance(eyes, x, y, z)) / range : -1;
+                    }
+                };
+            }
+            case SPHERE -> new Region() {
+                public Box bounds() {
+                    return Box.of(center, range * 2, range * 2, range * 2);
+                }
+
+                public double distance(double x, double y, double z) {
+                    double distanceSquared = squaredDistance(center, x, y, z);
+                    return distanceSquared <= range * range ? Math.sqrt(distanceSquared) / range : -1;
+                }
+            };
+            case LINE -> {
+                double radius = area.width / 2;
+                Vec3d end = eyes.add(look.multiply(range));
+                yield new Region() {
+                    public Box bounds() {
+                        return new Box(eyes, end).expand(radius);
+                    }
+
+                    public double distance(double x, double y, double z) {
+                        double along = (x - eyes.x) * look.x + (y - eyes.y) * look.y + (z - eyes.z) * look.z;
+                        along = Math.clamp(along, 0, range);
+                        double dx = x - (eyes.x + look.x * along);
+                        double dy = y - (eyes.y + look.y * along);
+                        double dz = z - (eyes.z + look.z * along);
+                        return dx * dx + dy * dy + dz * dz <= radius * radius ? along / range : -1;
+                    }
+                };
+            }
+            case RING -> {
+                double inner = area.inner_radius;
+                double halfHeight = area.width / 2;
+                yield new Region() {
+                    public Box bounds() {
+                        return Box.of(center, range * 2, area.width, range * 2);
+                    }
+
+                    public double distance(double x, double y, double z) {
+                        if (Math.abs(y - center.y) > halfHeight) {
+                            return -1;
+                        }
+                        double dx = x - center.x;
+                        double dz = z - center.z;
+                        double horizontalSquared = dx * dx + dz * dz;
+                        if (horizontalSquared > range * range || horizontalSquared < inner * inner) {
+                            return -1;
+                        }
+                        return (Math.sqrt(horizontalSquared) - inner) / (range - inner);
+                    }
+                };
+            }
+        };
+    }
+
+    private static double squaredDistance(Vec3d from, double x, double y, double z) {
+        double dx = x - from.x;
+        double dy = y - from.y;
+        double dz = z - from.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static boolean isValid(RegistryEntry<Spell> spellEntry, AreaDelivery area) {
+        return VALIDATED.computeIfAbsent(area, k -> {
+            List<String> problems = area.validate();
+            if (!problems.isEmpty()) {
+                OnePieceRPG.LOGGER.warn("Invalid area delivery of spell {}: {}",
+                        spellEntry.getIdAsString(), String.join(", ", problems));
+            }
+            return problems.isEmpty();
+        });
+    }
+}
@@ -0,0 +1,193 @@
+package de.one_piece_api.spell;
+
+import net.fabricmc.fabric.api.entity.event.v1.ServerEntityWorldChangeEvents;
+import net.fabricmc.fabric.api.entity.event.v1.ServerLivingEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.Identifier;
+import net.spell_engine.api.spell.Spell;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * State of running casts for custom spell deliveries, keyed by caster UUID and cast id.
+ * <p>
+ * A caster has at most one running cast. {@link #begin} starts a new cast and drops
+ * the state of the previous one. The state of a cast is removed when:
+ * <ul>
+ *     <li>its lifetime expires, usually the end of the channel ({@link #channelLifetime})</li>
+ *     <li>the handler calls {@link #end}</li>
+ *     <li>the caster disconnects, dies or changes dimension</li>
+ * </ul>
+ * Entries only hold the caster UUID, never the entity. Access happens on the server thread.
+ */
+public class CastStateStore {
+
+    /**
+     * Extra ticks a cast is kept after its cast duration, covering the release tick.
+     */
+    private static final int GRACE_TICKS = 5;
+
+    /**
+     * Typed key of a value stored for a cast.
+     */
+    public record Key<T>(Identifier id) {
+        public static <T> Key<T> of(Identifier id) {
+            return new Key<>(id);
+        }
+    }
+
+    private record CastId(UUID caster, int cast) {
+    }
+
+    private static class CastState {
+        private final Map<Key<?>, Object> values = new HashMap<>();
+        private final long expiresAt;
+
+        private CastState(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final Map<UUID, Integer> CURRENT_CASTS = new HashMap<>();
+    private static final Map<CastId, CastState> CASTS = new HashMap<>();
+    private static long tick = 0;
+    private static int nextCastId = 0;
+
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(server -> tick());
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> end(handler.getPlayer().getUuid()));
+        ServerEntityWorldChangeEvents.AFTER_PLAYER_CHANGE_WORLD.register((player, origin, destination) -> end(player.getUuid()));
+        ServerLivingEntityEvents.AFTER_DEATH.register((entity, damageSource) -> {
+            if (entity instanceof PlayerEntity) {
+                end(entity.getUuid());
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> clear());
+    }
+
+    /**
+     * Advances the store by one tick and removes expired casts.
+     */
+    static void tick() {
+        tick++;
+        if (!CASTS.isEmpty()) {
+            CASTS.entrySet().removeIf(entry -> {
+                if (entry.getValue().expiresAt > tick) {
+                    return false;
+                }
+                CURRENT_CASTS.remove(entry.getKey().caster(), entry.getKey().cast());
+                return true;
+            });
+        }
+    }
+
+    static void clear() {
+        CASTS.clear();
+        CURRENT_CASTS.clear();
+    }
+
+    /**
+     * Gets the lifetime of a cast that lasts until the end of the spell's cast or channel.
+     */
+    public static int channelLifetime(Spell spell) {
+        float duration = spell.active != null && spell.active.cast != null ? spell.active.cast.duration : 0;
+        return Math.round(duration * 20) + GRACE_TICKS;
+    }
+
+    /**
+     * Starts a new cast for the caster, dropping the state of its previous cast.
+     *
+     * @param lifetimeTicks ticks after which the state is removed
+     * @return the id of the new cast
+     */
+    public static int begin(PlayerEntity caster, int lifetimeTicks) {
+        return begin(caster.getUuid(), lifetimeTicks);
+    }
+
+    /**
+     * Starts a new cast for the caster with the given UUID.
+     *
+     * @see #begin(PlayerEntity, int)
+     */
+    public static int begin(UUID uuid, int lifetimeTicks) {
+        end(uuid);
+        int castId = nextCastId++;
+        CURRENT_CASTS.put(uuid, castId);
+        CASTS.put(new CastId(uuid, castId), new CastState(tick + Math.max(1, lifetimeTicks)));
+        return castId;
+    }
+
+    /**
+     * Stores a value for the caster's running cast. Does nothing if no cast is running.
+     */
+    public static <T> void put(PlayerEntity caster, Key<T> key, T value) {
+        put(caster.getUuid(), key, value);
+    }
+
+    public static <T> void put(UUID caster, Key<T> key, T value) {
+        CastState state = getState(caster);
+        if (state != null) {
+            state.values.put(key, value);
+        }
+    }
+
+    /**
+     * Gets a value of the caster's running cast.
+     *
+     * @return the value, or {@code null} if no cast is running or the value is not set
+     */
+    @Nullable
+    public static <T> T get(PlayerEntity caster, Key<T> key) {
+        return get(caster.getUuid(), key);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public static <T> T get(UUID caster, Key<T> key) {
+        CastState state = getState(caster);
+        return state != null ? (T) state.values.get(key) : null;
+    }
+
+    /**
+     * Ends the caster's running cast and removes its state.
+     */
+    public static void end(PlayerEntity caster) {
+        end(caster.getUuid());
+    }
+
+    /**
+     * Gets the number of casts with stored state, for diagnostics.
+     */
+    public static int size() {
+        return CASTS.size();
+    }
+
+    /**
+     * Gets the number of casters with a running cast, for diagnostics.
+     */
+    public static int casters() {
+        return CURRENT_CASTS.size();
+    }
+
+    @Nullable
+    private static CastState getState(UUID caster) {
+        Integer castId = CURRENT_CASTS.get(caster);
+        return castId != null ? CASTS.get(new CastId(caster, castId)) : null;
+    }
+
+    /**
+     * Ends the running cast of the caster with the given UUID.
+     */
+    public static void end(UUID caster) {
+        Integer castId = CURRENT_CASTS.remove(caster);
+        if (castId != null) {
+            CASTS.remove(new CastId(caster, castId));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package de.one_piece_api.spell;
+
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.List;
+
+/**
+ * Spatial query for a cone with a spherical cap (a spherical sector), used by spell deliveries.
+ * <p>
+ * The geometry is pure math: {@link #contains} rejects by squared distance and by
+ * the dot product against the precomputed cosine of the half angle, without
+ * {@code Math.acos} or square roots. {@link #bounds} is the tightest axis-aligned
+ * box around the sector, so the world lookup visits as few entities as possible.
+ * <p>
+ * {@link #selectNearest} keeps the nearest hits of a capped query using partial selection.
+ */
+public class ConeQuery {
+
+    private final Vec3d apex;
+    private final Vec3d direction;
+    private final double range;
+    private final double rangeSquared;
+    private final double cosHalfAngle;
+    private final double cosHalfAngleSquared;
+    private final double sinHalfAngle;
+
+    private ConeQuery(Vec3d apex, Vec3d direction, double range, double halfAngle) {
+        this.apex = apex;
+        this.direction = direction.normalize();
+        this.range = range;
+        this.rangeSquared = range * range;
+        this.cosHalfAngle = Math.cos(halfAngle);
+        this.cosHalfAngleSquared = cosHalfAngle * cosHalfAngle;
+        this.sinHalfAngle = Math.sin(halfAngle);
+    }
+
+    /**
+     * Creates a cone query.
+     *
+     * @param apex the tip of the cone
+     * @param direction the axis of the cone, does not need to be normalized
+     * @param range the radius of the spherical cap
+     * @param halfAngle the angle between the axis and the surface in radians, between 0 and π
+     */
+    public static ConeQuery of(Vec3d apex, Vec3d direction, double range, double halfAngle) {
+        return new ConeQuery(apex, direction, range, halfAngle);
+    }
+
+    public Vec3d apex() {
+        return apex;
+    }
+
+    public Vec3d direction() {
+        return direction;
+    }
+
+    public double range() {
+        return range;
+    }
+
+    /**
+     * Checks whether a point is inside the sector.
+     */
+    public boolean contains(Vec3d point) {
+        return contains(point.x, point.y, point.z);
+    }
+
+    public boolean contains(double x, double y, double z) {
+        double dx = x - apex.x;
+        double dy = y - apex.y;
+        double dz = z - apex.z;
+        double lengthSquared = dx * dx + dy * dy + dz * dz;
+        if (lengthSquared > rangeSquared) {
+            return false;
+        }
+        if (lengthSquared == 0) {
+            return true;
+        }
+        // dot >= cos * |d|, compared squared to avoid the square root
+        double dot = dx * direction.x + dy * direction.y + dz * direction.z;
+        if (cosHalfAngle >= 0) {
+            return dot >= 0 && dot * dot >= cosHalfAngleSquared * lengthSquared;
+        }
+        return dot >= 0 || dot * dot <= cosHalfAngleSquared * lengthSquared;
+    }
+
+    /**
+     * Computes the tightest axis-aligned box containing the sector.
+     * <p>
+     * Per axis, the farthest point of the cap is the axis direction itself if it lies
+     * within the half angle, otherwise the cap edge closest to it. The apex bounds the
+     * other side.
+     */
+    public Box bounds() {
+        return new Box(
+                apex.x - extent(-direction.x), apex.y - extent(-direction.y), apex.z - extent(-direction.z),
+                apex.x + extent(direction.x), apex.y + extent(direction.y), apex.z + extent(direction.z)
+        );
+    }
+
+    /**
+     * Gets how far the sector reaches from the apex along a world axis.
+     *
+     * @param axisCos the cosine between the cone axis and the world axis
+     */
+    private double extent(double axisCos) {
+        if (axisCos >= cosHalfAngle) {
+            return range;
+        }
+        // cos(α - θ) = cos α cos θ + sin α sin θ
+        double axisSin = Math.sqrt(Math.max(0, 1 - axisCos * axisCos));
+        return Math.max(0, range * (axisCos * cosHalfAngle + axisSin * sinHalfAngle));
+    }
+
+    /**
+     * Moves the {@code k} nearest entries to the front, ordered nearest first.
+     * Quickselect partitions in expected linear time, then only the front is sorted.
+     */
+    static <E> void selectNearest(List<E> entities, double[] distances, int k) {
+        k = Math.min(k, entities.size());
+        int left = 0;
+        int right = entities.size() - 1;
+        while (left < right) {
+            int pivot = partition(entities, distances, left, right, (left + right) >>> 1);
+            if (pivot == k - 1 || pivot == k) {
+                break;
+            } else if (pivot < k) {
+                left = pivot + 1;
+            } else {
+                right = pivot - 1;
+            }
+        }
+        // insertion sort of the selected prefix, k is small
+        for (int i = 1; i < k; i++) {
+            for (int j = i; j > 0 && distances[j - 1] > distances[j]; j--) {
+                swap(entities, distances, j, j - 1);
+            }
+        }
+    }
+
+    private static <E> int partition(List<E> entities, double[] distances, int left, int right, int pivotIndex) {
+        double pivot = distances[pivotIndex];
+        swap(entities, distances, pivotIndex, right);
+        int store = left;
+        for (int i = left; i < right; i++) {
+            if (distances[i] < pivot) {
+                swap(entities, distances, i, store++);
+            }
+        }
+        swap(entities, distances, store, right);
+        return store;
+    }
+
+    private static <E> void swap(List<E> entities, double[] distances, int a, int b) {
+        if (a == b) {
+            return;
+        }
+        double distance = distances[a];
+        distances[a] = distances[b];
+        distances[b] = distance;
+        entities.set(a, entities.set(b, entities.get(a)));
+    }
+}
@@ -0,0 +1,53 @@
+package de.one_piece_api.stats;
+
+import de.one_piece_api.event.EventRegistry;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.util.Identifier;
+
+import java.util.Map;
+
+/**
+ * Gameplay counters since the last {@link StatsExporter} snapshot.
+ * Updated and drained on the server thread only.
+ */
+public class GameplayStats {
+
+    private static final Object2LongMap<Identifier> XP_BY_SOURCE = new Object2LongOpenHashMap<>();
+    private static final Object2LongMap<Identifier> SPELL_CASTS = new Object2LongOpenHashMap<>();
+
+    public static void register() {
+        EventRegistry.SPELL_CAST.register((player, spellId) -> SPELL_CASTS.mergeLong(spellId, 1, Long::sum));
+    }
+
+    /**
+     * Records experience the One Piece category gained from an experience source. Callers pass
+     * the change of the total experience around the update, not the value the source computed,
+     * so caps and other categories using the source do not count.
+     */
+    public static void recordXp(Identifier source, int amount) {
+        if (amount > 0) {
+            XP_BY_SOURCE.mergeLong(source, amount, Long::sum);
+        }
+    }
+
+    /**
+     * Copies and resets the experience per source.
+     */
+    static Map<Identifier, Long> drainXp() {
+        return drain(XP_BY_SOURCE);
+    }
+
+    /**
+     * Copies and resets the casts per spell.
+     */
+    static Map<Identifier, Long> drainSpellCasts() {
+        return drain(SPELL_CASTS);
+    }
+
+    private static Map<Identifier, Long> drain(Object2LongMap<Identifier> counters) {
+        Map<Identifier, Long> copy = Map.copyOf(counters);
+        counters.clear();
+        return copy;
+    }
+}
@@ -0,0 +1,331 @@
+package de.one_piece_api.stats;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import de.one_piece_api.OnePieceRPG;
+import de.one_piece_api.config.StatsExportConfig;
+import de.one_piece_api.item.DevilFruitItem;
+import de.one_piece_api.mixin_interface.IClassPlayer;
+import de.one_piece_api.mixin_interface.IDevilFruitPlayer;
+import de.one_piece_api.mixin_interface.IXpPlayer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Periodically exports progression and economy statistics to
+ * {@code one_piece_api/stats/stats.jsonl} in the server directory, one JSON object per line.
+ * <p>
+ * The server thread only copies a compact record per online player and the
+ * {@link GameplayStats} counters into a ring buffer. Aggregation, serialization and file
+ * access happen on the IO worker, which drains the buffer. If the writer falls behind and the
+ * buffer is full, snapshots are skipped: the counters carry over and the skips are counted
+ * in the next written line. The file is
+ * rotated to {@code stats.1.jsonl}, {@code stats.2.jsonl}, ... once it exceeds the
+ * configured size.
+ */
+public class StatsExporter {
+
+    private static final Gson GSON = new Gson();
+
+    /**
+     * Progression of a player at the time of a snapshot.
+     */
+    public record PlayerRecord(UUID player, String name, String classId, String devilFruit, int level, int xp) {
+    }
+
+    /**
+     * Everything a line of the export is built from.
+     *
+     * @param time the time the snapshot was taken
+     * @param seconds seconds covered by the counters
+     * @param players the online players
+     * @param xpBySource experience granted per source since the previous snapshot
+     * @param spellCasts casts per spell since the previous snapshot
+     * @param dropped snapshots skipped before this one because the buffer was full
+     * @param config the export configuration at the time of the snapshot
+     */
+    public record Snapshot(Instant time, double seconds, List<PlayerRecord> players,
+                           Map<Identifier, Long> xpBySource, Map<Identifier, Long> spellCasts,
+                           long dropped, StatsExportConfig config) {
+    }
+
+    /**
+     * Bounded queue with one producer, the server thread, and one consumer, the writer.
+     */
+    static final class Ring<T> {
+        private final AtomicReferenceArray<T> slots;
+        private final AtomicLong head = new AtomicLong();
+        private final AtomicLong tail = new AtomicLong();
+
+        Ring(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        boolean offer(T value) {
+            long t = tail.get();
+            if (t - head.get() >= slots.length()) {
+                return false;
+            }
+            slots.set((int) (t % slots.length()), value);
+            tail.set(t + 1);
+            return true;
+        }
+
+        @Nullable
+        T poll() {
+            long h = head.get();
+            if (h >= tail.get()) {
+                return null;
+            }
+            T value = slots.getAndSet((int) (h % slots.length()), null);
+            head.set(h + 1);
+            return value;
+        }
+
+        boolean isFull() {
+            return tail.get() - head.get() >= slots.length();
+        }
+
+        boolean isEmpty() {
+            return head.get() >= tail.get();
+        }
+    }
+
+    /**
+     * Drains the current ring on an executor, with at most one drain running at a time.
+     */
+    static final class Drainer<T> {
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final Executor executor;
+        private final Supplier<Ring<T>> ring;
+        private final Consumer<T> consumer;
+
+        Drainer(Executor executor, Supplier<Ring<T>> ring, Consumer<T> consumer) {
+            this.executor = executor;
+            this.ring = ring;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Starts a drain unless one is running. Called after every offer.
+         */
+        void wake() {
+            if (running.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            Ring<T> current = ring.get();
+            T value;
+            while ((value = current.poll()) != null) {
+                consumer.accept(value);
+            }
+            running.set(false);
+            // A value offered after the last poll would otherwise wait for the next one
+            if (!current.isEmpty()) {
+                wake();
+            }
+        }
+    }
+
+    private static volatile Ring<Snapshot> ring = new Ring<>(StatsExportConfig.DEFAULT.bufferSize());
+    private static final Drainer<Snapshot> WRITER = new Drainer<>(
+            command -> Util.getIoWorkerExecutor().execute(command), () -> ring, StatsExporter::write);
+    private static int ticksSinceSnapshot = 0;
+    private static long lastSnapshotMillis = System.currentTimeMillis();
+    private static long dropped = 0;
+
+    public static void register() {
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> {
+            ring = new Ring<>(StatsExportConfig.get().bufferSize());
+            lastSnapshotMillis = System.currentTimeMillis();
+            dropped = 0;
+        });
+        ServerTickEvents.END_SERVER_TICK.register(StatsExporter::onServerTick);
+    }
+
+    private static void onServerTick(MinecraftServer server) {
+        int interval = StatsExportConfig.get().intervalSeconds();
+        if (interval <= 0) {
+            ticksSinceSnapshot = 0;
+            return;
+        }
+        if (++ticksSinceSnapshot < interval * 20) {
+            return;
+        }
+        ticksSinceSnapshot = 0;
+        snapshot(server);
+    }
+
+    /**
+     * Copies the current statistics into the buffer and wakes up the writer.
+     *
+     * @return {@code true} if the snapshot was buffered, {@code false} if the buffer was full
+     */
+    public static boolean snapshot(MinecraftServer server) {
+        if (ring.isFull()) {
+            // Counters keep accumulating into the next snapshot
+            dropped++;
+            return false;
+        }
+        List<ServerPlayerEntity> online = server.getPlayerManager().getPlayerList();
+        List<PlayerRecord> players = new ArrayList<>(online.size());
+        for (ServerPlayerEntity player : online) {
+            IXpPlayer xpPlayer = (IXpPlayer) player;
+            players.add(new PlayerRecord(
+                    player.getUuid(),
+                    player.getGameProfile().getName(),
+                    ((IClassPlayer) player).onepiece$getOnePieceClass().toString(),
+                    ((IDevilFruitPlayer) player).onepiece$getDevilFruit(),
+                    xpPlayer.onepiece$getLevel(),
+                    xpPlayer.onepiece$getXp()
+            ));
+        }
+
+        ring.offer(snapshot(players, System.currentTimeMillis(), StatsExportConfig.get()));
+        WRITER.wake();
+        return true;
+    }
+
+    /**
+     * Takes a snapshot of the copied players and the counters, resetting the counters
+     * and the dropped snapshots. Called on the server thread.
+     */
+    static Snapshot snapshot(List<PlayerRecord> players, long now, StatsExportConfig config) {
+        Snapshot snapshot = new Snapshot(
+                Instant.ofEpochMilli(now),
+                (now - lastSnapshotMillis) / 1000.0,
+                List.copyOf(players),
+                GameplayStats.drainXp(),
+                GameplayStats.drainSpellCasts(),
+                dropped,
+                config
+        );
+        lastSnapshotMillis = now;
+        dropped = 0;
+        return snapshot;
+    }
+
+    private static void write(Snapshot snapshot) {
+        Path directory = FabricLoader.getInstance().getGameDir().resolve(OnePieceRPG.MOD_ID).resolve("stats");
+        Path file = directory.resolve("stats.jsonl");
+        try {
+            Files.createDirectories(directory);
+            try (Writer writer = Files.newBufferedWriter(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(GSON.toJson(toJson(snapshot)));
+                writer.write('\n');
+            }
+            if (Files.size(file) > snapshot.config().maxFileKilobytes() * 1024L) {
+                rotate(directory, file, snapshot.config().maxFiles());
+            }
+        } catch (IOException e) {
+            OnePieceRPG.LOGGER.warn("Failed to write gameplay statistics to {}", file, e);
+        }
+    }
+
+    private static void rotate(Path directory, Path file, int maxFiles) throws IOException {
+        if (maxFiles <= 0) {
+            Files.delete(file);
+            return;
+        }
+        Files.deleteIfExists(directory.resolve("stats." + maxFiles + ".jsonl"));
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path rotated = directory.resolve("stats." + i + ".jsonl");
+            if (Files.exists(rotated)) {
+                Files.move(rotated, directory.resolve("stats." + (i + 1) + ".jsonl"), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, directory.resolve("stats.1.jsonl"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    static JsonObject toJson(Snapshot snapshot) {
+        JsonObject root = new JsonObject();
+        root.addProperty("timestamp", snapshot.time().toString());
+        root.addProperty("seconds", snapshot.seconds());
+        root.addProperty("online_players", snapshot.players().size());
+        root.addProperty("dropped_snapshots", snapshot.dropped());
+
+        // Levels per class
+        Map<String, int[]> classes = new TreeMap<>();
+        Map<String, Integer> fruits = new TreeMap<>();
+        String noFruit = DevilFruitItem.DEFAULT_DEVIL_FRUIT.toString();
+        for (PlayerRecord player : snapshot.players()) {
+            int[] levels = classes.computeIfAbsent(player.classId(), id -> new int[3]);
+            levels[0]++;
+            levels[1] += player.level();
+            levels[2] = Math.max(levels[2], player.level());
+            if (!player.devilFruit().isEmpty() && !player.devilFruit().equals(noFruit)) {
+                fruits.merge(player.devilFruit(), 1, Integer::sum);
+            }
+        }
+        JsonObject levelsPerClass = new JsonObject();
+        classes.forEach((classId, levels) -> {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("players", levels[0]);
+            entry.addProperty("average_level", (double) levels[1] / levels[0]);
+            entry.addProperty("max_level", levels[2]);
+            levelsPerClass.add(classId, entry);
+        });
+        root.add("levels_per_class", levelsPerClass);
+
+        JsonObject fruitDistribution = new JsonObject();
+        fruits.forEach(fruitDistribution::addProperty);
+        root.add("devil_fruits", fruitDistribution);
+
+        // XP per source, with the rate per hour over the covered time
+        double hours = snapshot.seconds() / 3600.0;
+        JsonObject xpPerSource = new JsonObject();
+        new TreeMap<>(snapshot.xpBySource()).forEach((source, amount) -> {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("total", amount);
+            entry.addProperty("per_hour", hours > 0 ? amount / hours : 0);
+            xpPerSource.add(source.toString(), entry);
+        });
+        root.add("xp_per_source", xpPerSource);
+
+        JsonObject spellCasts = new JsonObject();
+        new TreeMap<>(snapshot.spellCasts()).forEach((spell, casts) -> spellCasts.addProperty(spell.toString(), casts));
+        root.add("spell_casts", spellCasts);
+
+        JsonArray players = new JsonArray();
+        for (PlayerRecord player : snapshot.players()) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("uuid", player.player().toString());
+            entry.addProperty("name", player.name());
+            entry.addProperty("class", player.classId());
+            entry.addProperty("devil_fruit", player.devilFruit());
+            entry.addProperty("level", player.level());
+            entry.addProperty("xp", player.xp());
+            players.add(entry);
+        }
+        root.add("players", players);
+        return root;
+    }
+}
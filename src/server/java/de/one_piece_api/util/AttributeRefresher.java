@@ -0,0 +1,202 @@
+package de.one_piece_api.util;
+
+import com.google.common.hash.HashCode;
+import de.one_piece_api.ClassRewardHandler;
+import de.one_piece_api.OnePieceRPG;
+import de.one_piece_api.config.ClassConfig;
+import de.one_piece_api.config.attribute.AttributeScalingConfig;
+import de.one_piece_api.data.loader.DataLoaders;
+import de.one_piece_api.init.MyAttributes;
+import de.one_piece_api.mixin_interface.IClassPlayer;
+import de.one_piece_api.mixin_interface.IXpPlayer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.entity.attribute.EntityAttribute;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies the level-scaled attributes of {@link AttributeScalingConfig} and brings online
+ * players up to date after a datapack reload.
+ * <p>
+ * The values per level are evaluated once per loaded config and cached in an
+ * {@link AttributeTable}, so applying them is a table lookup. Only attributes whose base
+ * value differs are set.
+ * <p>
+ * After a reload, online players are queued and refreshed at the end of the following ticks
+ * within a budget of {@value #DEFAULT_BUDGET_MICROS} µs, configured and scaled like a
+ * {@link WorkScheduler} system under the id {@code one_piece_api:attribute_refresh}.
+ * Class rewards are only refreshed for players whose class changed its rewards in the reload,
+ * either the list of rewards or the skill definition a reward grants.
+ * Joining players get the current values right away.
+ */
+public class AttributeRefresher {
+
+    public static final Identifier ID = OnePieceRPG.id("attribute_refresh");
+    private static final int DEFAULT_BUDGET_MICROS = 1000;
+
+    // In the order of the values of an AttributeTable row
+    private static final List<RegistryEntry<EntityAttribute>> ATTRIBUTES = List.of(
+            MyAttributes.MAX_STAMINA,
+            MyAttributes.STAMINA_BASE_REGEN,
+            MyAttributes.STAMINA_CROUCH_MULT,
+            MyAttributes.STAMINA_CROUCH_ADD
+    );
+
+    /**
+     * Progress of the refresh after the last reload.
+     *
+     * @param pending players not refreshed yet
+     * @param total players queued by the reload
+     * @param changedAttributes attribute base values that changed
+     * @param rewardRefreshes players whose class rewards were refreshed
+     */
+    public record Progress(int pending, int total, int changedAttributes, int rewardRefreshes) {
+    }
+
+    /**
+     * A class reward together with the fingerprint of the skill definition it grants.
+     */
+    private record RewardSource(ClassConfig.LevelReward reward, @Nullable HashCode definition) {
+    }
+
+    @Nullable
+    private static AttributeTable table;
+
+    private static Map<Identifier, List<RewardSource>> classRewards = Map.of();
+    private static final Set<Identifier> CHANGED_CLASSES = new HashSet<>();
+    private static final Set<UUID> PENDING = new LinkedHashSet<>();
+    private static int total = 0;
+    private static int changedAttributes = 0;
+    private static int rewardRefreshes = 0;
+
+    public static void register() {
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> classRewards = snapshotRewards());
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+            if (success) {
+                onReload(server);
+            }
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            PENDING.clear();
+            CHANGED_CLASSES.clear();
+            table = null;
+        });
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) ->
+                apply(handler.getPlayer(), ((IXpPlayer) handler.getPlayer()).onepiece$getLevel()));
+        ServerTickEvents.END_SERVER_TICK.register(AttributeRefresher::onServerTick);
+    }
+
+    /**
+     * Sets the scaled attributes of a player to their values at a level.
+     *
+     * @return the number of attributes that changed, {@code -1} if no scaling config is loaded
+     */
+    public static int apply(ServerPlayerEntity player, int level) {
+        double[] values = getValues(level);
+        if (values == null) {
+            return -1;
+        }
+        return AttributeTable.apply(i -> player.getAttributeInstance(ATTRIBUTES.get(i)), values);
+    }
+
+    public static Progress getProgress() {
+        return new Progress(PENDING.size(), total, changedAttributes, rewardRefreshes);
+    }
+
+    /**
+     * Gets the scaled values at a level, evaluating the levels up to it on first use.
+     */
+    private static double @Nullable [] getValues(int level) {
+        AttributeScalingConfig config = DataLoaders.ATTRIBUTE_SCALING.getData().orElse(null);
+        if (config == null) {
+            return null;
+        }
+        if (table == null || table.getConfig() != config) {
+            table = new AttributeTable(config);
+        }
+        return table.get(level);
+    }
+
+    private static Map<Identifier, List<RewardSource>> snapshotRewards() {
+        Map<Identifier, List<RewardSource>> rewards = new HashMap<>();
+        DataLoaders.CLASS_LOADER.getItems().forEach((id, config) -> rewards.put(id, config.rewards().stream()
+                .map(reward -> new RewardSource(reward, DataLoaders.SKILL_DEFINITION_LOADER.getFingerprint(reward.reward())))
+                .toList()));
+        return rewards;
+    }
+
+    private static void onReload(MinecraftServer server) {
+        Map<Identifier, List<RewardSource>> rewards = snapshotRewards();
+        Set<Identifier> classes = new HashSet<>(rewards.keySet());
+        classes.addAll(classRewards.keySet());
+        for (Identifier classId : classes) {
+            if (!Objects.equals(rewards.get(classId), classRewards.get(classId))) {
+                CHANGED_CLASSES.add(classId);
+            }
+        }
+        classRewards = rewards;
+
+        if (PENDING.isEmpty()) {
+            total = 0;
+            changedAttributes = 0;
+            rewardRefreshes = 0;
+        }
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            if (PENDING.add(player.getUuid())) {
+                total++;
+            }
+        }
+        OnePieceRPG.LOGGER.info("Refreshing attributes of {} players, {} classes changed their rewards",
+                PENDING.size(), CHANGED_CLASSES.size());
+    }
+
+    private static void onServerTick(MinecraftServer server) {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long budget = WorkScheduler.getBudgetNanos(server, ID, DEFAULT_BUDGET_MICROS);
+        Iterator<UUID> iterator = PENDING.iterator();
+        // At least one player per tick
+        do {
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(iterator.next());
+            iterator.remove();
+            if (player != null) {
+                refresh(player);
+            }
+        } while (iterator.hasNext() && System.nanoTime() - start < budget);
+
+        if (PENDING.isEmpty()) {
+            CHANGED_CLASSES.clear();
+            OnePieceRPG.LOGGER.info("Refreshed attributes of {} players: {} attributes changed, {} class rewards refreshed",
+                    total, changedAttributes, rewardRefreshes);
+        }
+    }
+
+    private static void refresh(ServerPlayerEntity player) {
+        int changed = apply(player, ((IXpPlayer) player).onepiece$getLevel());
+        if (changed > 0) {
+            changedAttributes += changed;
+        }
+        if (!CHANGED_CLASSES.isEmpty()
+                && CHANGED_CLASSES.contains(((IClassPlayer) player).onepiece$getOnePieceClass())) {
+            ClassRewardHandler.refreshRewards(player);
+            rewardRefreshes++;
+        }
+    }
+}
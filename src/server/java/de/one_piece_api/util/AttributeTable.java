@@ -0,0 +1,79 @@
+package de.one_piece_api.util;
+
+import de.one_piece_api.config.attribute.AttributeScalingConfig;
+import net.minecraft.entity.attribute.EntityAttributeInstance;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+/**
+ * Base values of the level-scaled attributes per level, evaluated once per loaded
+ * {@link AttributeScalingConfig}.
+ * <p>
+ * A row holds one value per attribute, in the order max stamina, base regeneration,
+ * crouch multiplier and crouch additive. Rows are evaluated up to a level on first use.
+ */
+public class AttributeTable {
+
+    private static final List<BiFunction<AttributeScalingConfig, Integer, Double>> EVALUATORS = List.of(
+            AttributeScalingConfig::evaluateMaxStamina,
+            AttributeScalingConfig::evaluateStaminaBaseRegen,
+            AttributeScalingConfig::evaluateStaminaCrouchMultiplier,
+            AttributeScalingConfig::evaluateStaminaCrouchAdditive
+    );
+
+    /**
+     * Number of values per level.
+     */
+    public static final int SIZE = EVALUATORS.size();
+
+    private final AttributeScalingConfig config;
+    private final List<double[]> rows = new ArrayList<>();
+
+    public AttributeTable(AttributeScalingConfig config) {
+        this.config = config;
+    }
+
+    public AttributeScalingConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Gets the values at a level, evaluating the levels up to it on first use.
+     * Levels below {@code 0} get the values of level {@code 0}.
+     */
+    public double[] get(int level) {
+        level = Math.max(0, level);
+        while (rows.size() <= level) {
+            int row = rows.size();
+            double[] values = new double[SIZE];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = EVALUATORS.get(i).apply(config, row);
+            }
+            rows.add(values);
+        }
+        return rows.get(level);
+    }
+
+    /**
+     * Sets the base value of every attribute instance that differs from its value in the row.
+     *
+     * @param instances the instance per value index, {@code null} entries are skipped
+     * @param values a row of the table
+     * @return the number of base values that changed
+     */
+    public static int apply(IntFunction<@Nullable EntityAttributeInstance> instances, double[] values) {
+        int changed = 0;
+        for (int i = 0; i < values.length; i++) {
+            EntityAttributeInstance instance = instances.apply(i);
+            if (instance != null && instance.getBaseValue() != values[i]) {
+                instance.setBaseValue(values[i]);
+                changed++;
+            }
+        }
+        return changed;
+    }
+}
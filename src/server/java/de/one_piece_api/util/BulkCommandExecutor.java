@@ -0,0 +1,185 @@
+package de.one_piece_api.util;
+
+import com.mojang.brigadier.Command;
+import de.one_piece_api.OnePieceRPG;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Runs a command action for many players, spread across ticks within a time budget.
+ * <p>
+ * The first players are served right away, within the budget of the current tick. A command
+ * that targets a single player, or a few cheap ones, finishes there and behaves exactly as if it
+ * ran synchronously. The remaining players are served at the end of the following ticks, oldest
+ * task first, and the sender gets progress, completion and cancellation messages.
+ * Players who disconnect before their turn are skipped.
+ * <p>
+ * The budget is {@value #DEFAULT_BUDGET_MICROS} µs per tick, configured and adaptively scaled
+ * like a {@link WorkScheduler} system under the id {@code one_piece_api:bulk_commands}.
+ */
+public class BulkCommandExecutor {
+
+    public static final Identifier ID = OnePieceRPG.id("bulk_commands");
+    private static final int DEFAULT_BUDGET_MICROS = 2000;
+    private static final int PROGRESS_INTERVAL_TICKS = 40;
+
+    /**
+     * A command running for a list of players.
+     */
+    public static final class Task {
+        private final int id;
+        private final String command;
+        private final ServerCommandSource source;
+        private final List<ServerPlayerEntity> players;
+        private final BiFunction<ServerCommandSource, ServerPlayerEntity, Integer> action;
+        private final int startTick;
+        private int next = 0;
+        private int succeeded = 0;
+        private int skipped = 0;
+        private int lastProgressTick;
+
+        private Task(int id, String command, ServerCommandSource source, List<ServerPlayerEntity> players,
+                     BiFunction<ServerCommandSource, ServerPlayerEntity, Integer> action, int startTick) {
+            this.id = id;
+            this.command = command;
+            this.source = source;
+            this.players = players;
+            this.action = action;
+            this.startTick = startTick;
+            this.lastProgressTick = startTick;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getCommand() {
+            return command;
+        }
+
+        public int getDone() {
+            return next;
+        }
+
+        public int getTotal() {
+            return players.size();
+        }
+
+        private boolean isFinished() {
+            return next >= players.size();
+        }
+
+        /**
+         * Serves players until the budget is used up, at least one.
+         */
+        private void run(long budgetNanos) {
+            long start = System.nanoTime();
+            do {
+                // Looked up again, the entity is replaced on respawn
+                ServerPlayerEntity player = source.getServer().getPlayerManager().getPlayer(players.get(next++).getUuid());
+                if (player == null) {
+                    skipped++;
+                } else if (action.apply(source, player) == Command.SINGLE_SUCCESS) {
+                    succeeded++;
+                }
+            } while (!isFinished() && System.nanoTime() - start < budgetNanos);
+        }
+    }
+
+    private static final Map<Integer, Task> TASKS = new LinkedHashMap<>();
+    private static int nextId = 1;
+
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(BulkCommandExecutor::onServerTick);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> TASKS.clear());
+    }
+
+    /**
+     * Runs an action for every player, deferring what doesn't fit in this tick's budget.
+     *
+     * @param source the command source, receives progress messages
+     * @param command the command input, shown in progress messages
+     * @param players the players to run the action for
+     * @param action the action per player, returning {@link Command#SINGLE_SUCCESS} on success
+     * @return the command result: {@link Command#SINGLE_SUCCESS} if the action succeeded for a player
+     *         or the remaining players were deferred, {@code 0} otherwise
+     */
+    public static int execute(ServerCommandSource source, String command, List<ServerPlayerEntity> players,
+                              BiFunction<ServerCommandSource, ServerPlayerEntity, Integer> action) {
+        MinecraftServer server = source.getServer();
+        Task task = new Task(nextId, command, source, List.copyOf(players), action, server.getTicks());
+        task.run(WorkScheduler.getBudgetNanos(server, ID, DEFAULT_BUDGET_MICROS));
+        if (task.isFinished()) {
+            return task.succeeded > 0 ? Command.SINGLE_SUCCESS : 0;
+        }
+
+        nextId++;
+        TASKS.put(task.id, task);
+        source.sendFeedback(() -> Text.literal("§7[#" + task.id + "] Running §f/" + command + "§7 for §e"
+                + task.getTotal() + "§7 players over the next ticks, §f" + task.getDone() + "§7 done"), false);
+        return Command.SINGLE_SUCCESS;
+    }
+
+    /**
+     * Cancels a running task. Players already served keep the result.
+     *
+     * @return the cancelled task, or {@code null} if no task has the id
+     */
+    @Nullable
+    public static Task cancel(int id) {
+        Task task = TASKS.remove(id);
+        if (task != null) {
+            task.source.sendFeedback(() -> Text.literal("§c[#" + task.id + "] Cancelled §f/" + task.command
+                    + "§c after §e" + task.getDone() + "/" + task.getTotal() + "§c players"), false);
+        }
+        return task;
+    }
+
+    /**
+     * Gets the running tasks, oldest first.
+     */
+    public static List<Task> getTasks() {
+        return new ArrayList<>(TASKS.values());
+    }
+
+    private static void onServerTick(MinecraftServer server) {
+        if (TASKS.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long budget = WorkScheduler.getBudgetNanos(server, ID, DEFAULT_BUDGET_MICROS);
+        int tick = server.getTicks();
+        Iterator<Task> iterator = TASKS.values().iterator();
+        while (iterator.hasNext()) {
+            Task task = iterator.next();
+            long remaining = budget - (System.nanoTime() - start);
+            if (remaining <= 0) {
+                break;
+            }
+            task.run(remaining);
+            if (task.isFinished()) {
+                iterator.remove();
+                task.source.sendFeedback(() -> Text.literal("§a[#" + task.id + "] Finished §f/" + task.command
+                        + "§a: §e" + task.succeeded + "/" + task.getTotal() + "§a succeeded, §e" + task.skipped
+                        + "§a skipped, in §e" + (tick - task.startTick) + "§a ticks"), false);
+            } else if (tick - task.lastProgressTick >= PROGRESS_INTERVAL_TICKS) {
+                task.lastProgressTick = tick;
+                task.source.sendFeedback(() -> Text.literal("§7[#" + task.id + "] §e" + task.getDone() + "/"
+                        + task.getTotal() + "§7 players done"), false);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package de.one_piece_api.util;
+
+import de.one_piece_api.ability.PlayerAbilities;
+import de.one_piece_api.mixin_interface.IRuntimePlayer;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.item.ItemStack;
+import net.minecraft.screen.ScreenHandler;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * Server-only state of an online player that is not saved, attached to the
+ * player through {@link IRuntimePlayer}.
+ * <p>
+ * Replaces the maps keyed by player that systems kept on their own. The state moves
+ * to the new player entity on respawn and is disposed when the player disconnects,
+ * so nothing outlives the connection.
+ */
+public class PlayerRuntimeState {
+
+    private final PlayerAbilities abilities = new PlayerAbilities();
+    private final Int2ObjectMap<ItemStack> processedStacks = new Int2ObjectOpenHashMap<>();
+    @Nullable
+    private ScreenHandler inventoryHandler;
+    @Nullable
+    private ScreenHandler trackedHandler;
+    @Nullable
+    private BitSet unlockedSkills;
+    private boolean secondFruitAllowed = false;
+    private boolean itemXpLocked = false;
+
+    public static void register() {
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> get(handler.getPlayer()).dispose());
+    }
+
+    /**
+     * Gets the runtime state of a player.
+     */
+    public static PlayerRuntimeState get(ServerPlayerEntity player) {
+        return ((IRuntimePlayer) player).onepiece$getRuntimeState();
+    }
+
+    /**
+     * Gets the active passive abilities.
+     */
+    public PlayerAbilities getAbilities() {
+        return abilities;
+    }
+
+    /**
+     * Gets the XP items already processed per screen slot.
+     */
+    public Int2ObjectMap<ItemStack> getProcessedStacks() {
+        return processedStacks;
+    }
+
+    /**
+     * Marks a screen handler as listened to.
+     *
+     * @param inventory whether the handler is the player's own inventory, which stays open
+     *                  behind every other screen
+     * @return {@code true} if the handler was not tracked before and needs a listener
+     */
+    public boolean trackScreenHandler(ScreenHandler handler, boolean inventory) {
+        if (handler == inventoryHandler || handler == trackedHandler) {
+            return false;
+        }
+        if (inventory) {
+            inventoryHandler = handler;
+        } else {
+            trackedHandler = handler;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the mirror of the unlocked skills, see {@link de.one_piece_api.util.helper.SkillUnlockIndex}.
+     *
+     * @return the mirror, or {@code null} if it was not built yet
+     */
+    @Nullable
+    public BitSet getUnlockedSkills() {
+        return unlockedSkills;
+    }
+
+    public void setUnlockedSkills(@Nullable BitSet unlockedSkills) {
+        this.unlockedSkills = unlockedSkills;
+    }
+
+    public boolean isSecondFruitAllowed() {
+        return secondFruitAllowed;
+    }
+
+    public void setSecondFruitAllowed(boolean secondFruitAllowed) {
+        this.secondFruitAllowed = secondFruitAllowed;
+    }
+
+    public boolean isItemXpLocked() {
+        return itemXpLocked;
+    }
+
+    public void setItemXpLocked(boolean itemXpLocked) {
+        this.itemXpLocked = itemXpLocked;
+    }
+
+    /**
+     * Drops state bound to the previous player entity after a respawn.
+     * The new entity has its own screen handlers.
+     */
+    public void onRespawn() {
+        processedStacks.clear();
+        inventoryHandler = null;
+        trackedHandler = null;
+    }
+
+    /**
+     * Releases the state when the player disconnects.
+     */
+    public void dispose() {
+        onRespawn();
+        unlockedSkills = null;
+        secondFruitAllowed = false;
+        itemXpLocked = false;
+    }
+}
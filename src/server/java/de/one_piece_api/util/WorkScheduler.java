@@ -0,0 +1,227 @@
+package de.one_piece_api.util;
+
+import de.one_piece_api.config.SchedulerConfig;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cooperative scheduler for deferrable per-player work, run at the end of every server tick.
+ * <p>
+ * Each system gets a time budget per tick. Players are served round-robin, continuing
+ * after the last player served in the previous tick, until the budget is used up. At least
+ * one player is served per tick, so every player is served within
+ * {@code players / servedPerTick} ticks. A task receives the ticks passed since it last
+ * completed for the player, so accruing work like XP time catches up after being deferred.
+ * <p>
+ * Systems run in priority order, highest first. With {@link SchedulerConfig#adaptive()}
+ * budgets shrink while the average tick time is above {@value #ADAPTIVE_START_MILLIS} ms,
+ * down to a quarter at {@value #TICK_MILLIS} ms.
+ * <p>
+ * Work that must run every tick, like stamina which the client predicts, does not belong here.
+ */
+public class WorkScheduler {
+
+    private static final int TICK_MILLIS = 50;
+    private static final int ADAPTIVE_START_MILLIS = 40;
+    private static final double MIN_BUDGET_SCALE = 0.25;
+
+    /**
+     * Deferrable work for a single player.
+     */
+    @FunctionalInterface
+    public interface PlayerTask {
+        /**
+         * @param player the player
+         * @param elapsedTicks ticks passed since the task last completed for the player, at least {@code 1}
+         * @return {@code true} if the work was done, {@code false} to keep accumulating elapsed ticks
+         */
+        boolean run(ServerPlayerEntity player, int elapsedTicks);
+    }
+
+    /**
+     * Statistics of a system since the server started.
+     *
+     * @param runs completed player runs
+     * @param deferred player ticks that were pushed to a later tick
+     * @param nanos total time spent
+     * @param maxLatency most ticks a player waited for its turn
+     * @param averageLatency average ticks between two turns of a player, {@code 1} if nobody is deferred.
+     *                       Tasks that return {@code false} because they are not due yet still get their
+     *                       turn, so their own interval does not count as latency
+     */
+    public record Snapshot(long runs, long deferred, long nanos, int maxLatency, double averageLatency) {
+    }
+
+    /**
+     * A registered system and its per-player state.
+     */
+    public static final class Job {
+        private final Identifier id;
+        private final int priority;
+        private final long defaultBudgetNanos;
+        private final PlayerTask task;
+
+        private final Object2LongMap<UUID> lastRun = new Object2LongOpenHashMap<>();
+        private final Object2LongMap<UUID> lastTurn = new Object2LongOpenHashMap<>();
+        private int cursor = 0;
+
+        private long runs = 0;
+        private long deferred = 0;
+        private long nanos = 0;
+        private long turns = 0;
+        private long latencySum = 0;
+        private int maxLatency = 0;
+
+        private Job(Identifier id, int priority, long defaultBudgetNanos, PlayerTask task) {
+            this.id = id;
+            this.priority = priority;
+            this.defaultBudgetNanos = defaultBudgetNanos;
+            this.task = task;
+        }
+
+        public Identifier getId() {
+            return id;
+        }
+
+        public Snapshot snapshot() {
+            return new Snapshot(runs, deferred, nanos, maxLatency, turns > 0 ? (double) latencySum / turns : 0);
+        }
+
+        private long budgetNanos(SchedulerConfig config) {
+            Integer micros = config.budgetsMicros().get(id);
+            return micros != null ? micros * 1000L : defaultBudgetNanos;
+        }
+
+        private void run(List<ServerPlayerEntity> players, long budget) {
+            int size = players.size();
+            if (size == 0) {
+                return;
+            }
+            long start = System.nanoTime();
+            int served = 0;
+            int index = cursor % size;
+            while (served < size) {
+                ServerPlayerEntity player = players.get(index);
+                UUID uuid = player.getUuid();
+                int elapsed = ticksSince(lastRun.getOrDefault(uuid, tick - 1));
+                int latency = ticksSince(lastTurn.getOrDefault(uuid, tick - 1));
+                lastTurn.put(uuid, tick);
+                turns++;
+                latencySum += latency;
+                maxLatency = Math.max(maxLatency, latency);
+                if (task.run(player, elapsed)) {
+                    lastRun.put(uuid, tick);
+                    runs++;
+                }
+                served++;
+                index = (index + 1) % size;
+                if (System.nanoTime() - start >= budget) {
+                    break;
+                }
+            }
+            cursor = index;
+            deferred += size - served;
+            nanos += System.nanoTime() - start;
+        }
+
+        private void remove(UUID uuid) {
+            lastRun.removeLong(uuid);
+            lastTurn.removeLong(uuid);
+        }
+
+        private void clear() {
+            lastRun.clear();
+            lastTurn.clear();
+        }
+    }
+
+    private static final List<Job> SYSTEMS = new ArrayList<>();
+    private static long tick = 0;
+
+    public static void register() {
+        ServerTickEvents.END_SERVER_TICK.register(WorkScheduler::run);
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> {
+            UUID uuid = handler.getPlayer().getUuid();
+            SYSTEMS.forEach(job -> job.remove(uuid));
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> SYSTEMS.forEach(Job::clear));
+    }
+
+    /**
+     * Registers a system.
+     *
+     * @param id the system id, also used for its budget in {@link SchedulerConfig}
+     * @param priority systems with a higher priority run first
+     * @param defaultBudgetMicros budget per tick in microseconds when none is configured
+     * @param task the work per player
+     * @return the registered job
+     */
+    public static Job schedule(Identifier id, int priority, int defaultBudgetMicros, PlayerTask task) {
+        Job job = new Job(id, priority, defaultBudgetMicros * 1000L, task);
+        SYSTEMS.add(job);
+        SYSTEMS.sort(Comparator.comparingInt((Job j) -> j.priority).reversed());
+        return job;
+    }
+
+    /**
+     * Gets the number of ticks the scheduler ran since the server started.
+     */
+    public static long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the registered systems in priority order.
+     */
+    public static List<Job> getSystems() {
+        return List.copyOf(SYSTEMS);
+    }
+
+    /**
+     * Gets the budget per tick for work outside the registered systems, like bulk commands.
+     * It is configured and scaled the same way as the budget of a system.
+     *
+     * @param id the id used for the budget in {@link SchedulerConfig}
+     * @param defaultBudgetMicros budget per tick in microseconds when none is configured
+     */
+    public static long getBudgetNanos(MinecraftServer server, Identifier id, int defaultBudgetMicros) {
+        SchedulerConfig config = SchedulerConfig.get();
+        Integer micros = config.budgetsMicros().get(id);
+        long budget = micros != null ? micros * 1000L : defaultBudgetMicros * 1000L;
+        return (long) (budget * (config.adaptive() ? budgetScale(server) : 1));
+    }
+
+    private static void run(MinecraftServer server) {
+        tick++;
+        List<ServerPlayerEntity> players = server.getPlayerManager().getPlayerList();
+        SchedulerConfig config = SchedulerConfig.get();
+        double scale = config.adaptive() ? budgetScale(server) : 1;
+        for (Job job : SYSTEMS) {
+            job.run(players, (long) (job.budgetNanos(config) * scale));
+        }
+    }
+
+    private static int ticksSince(long last) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, tick - last));
+    }
+
+    private static double budgetScale(MinecraftServer server) {
+        double millis = server.getAverageNanosPerTick() / 1_000_000.0;
+        if (millis <= ADAPTIVE_START_MILLIS) {
+            return 1;
+        }
+        double behind = Math.min(1, (millis - ADAPTIVE_START_MILLIS) / (TICK_MILLIS - ADAPTIVE_START_MILLIS));
+        return 1 - behind * (1 - MIN_BUDGET_SCALE);
+    }
+}
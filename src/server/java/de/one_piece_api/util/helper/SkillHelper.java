@@ -5,16 +5,29 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.puffish.skillsmod.api.SkillsAPI;
 
 public class SkillHelper {
+
+    /**
+     * Locks all skills and reapplies the class rewards in one {@link SkillTransaction},
+     * so class reward skills stay unlocked instead of being locked and unlocked again.
+     */
     public static void respec(ServerPlayerEntity player) {
         var category = SkillsAPI.getCategory(OnePieceCategory.ID);
         if (category.isEmpty()) {
             return; // Category not found
         }
-        var skillCategory = category.get();
-        if (skillCategory.getSpentPoints(player) == 0) {
-            return; // No points to respec
-        }
-        skillCategory.resetSkills(player);
+        boolean spent = category.get().getSpentPoints(player) > 0;
+        SkillTransaction.run(player, transaction -> {
+            if (spent) {
+                transaction.lockAll();
+            }
+            transaction.refreshClassRewards();
+        });
+    }
 
+    /**
+     * Unlocks every skill of the category in one {@link SkillTransaction}.
+     */
+    public static void grantAll(ServerPlayerEntity player) {
+        SkillTransaction.run(player, SkillTransaction::unlockAll);
     }
 }
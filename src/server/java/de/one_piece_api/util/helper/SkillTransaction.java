@@ -0,0 +1,286 @@
+package de.one_piece_api.util.helper;
+
+import de.one_piece_api.ClassRewardHandler;
+import de.one_piece_api.OnePieceRPG;
+import de.one_piece_api.network.PacketBundler;
+import de.one_piece_api.reward.RewardSync;
+import de.one_piece_api.util.OnePieceCategory;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.puffish.skillsmod.SkillsMod;
+import net.puffish.skillsmod.api.Category;
+import net.puffish.skillsmod.api.SkillsAPI;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Batches skill locks and unlocks of one player into a single change.
+ * <p>
+ * Operations only change a staged set of unlocked skills. On commit, the difference
+ * to the skills unlocked before is applied, so a skill that is locked and unlocked
+ * again in the same batch (like class rewards during a respec) is never touched.
+ * When most skills get locked, the commit resets the category once and unlocks the
+ * staged skills again, instead of locking skill by skill. Unlocks are forced like
+ * {@link SkillsMod#tryUnlockSkill} with {@code force}, so they ignore points and
+ * connections, same as the class rewards did before.
+ * <p>
+ * While the batch runs and commits:
+ * <ul>
+ *     <li>class reward refreshes for the player are deferred and run once afterwards</li>
+ *     <li>spell container updates from rewards are merged and sent once after the commit</li>
+ *     <li>the {@link SkillUnlockIndex} mirror is not updated per skill but rebuilt once after the commit</li>
+ *     <li>the packets SkillsMod sends per skill are held back by {@link PacketBundler} and reach
+ *         the client as one bundle</li>
+ * </ul>
+ * SkillsMod itself still applies and announces each skill on its own, it has no API to change
+ * several skills at once.
+ * If the batch throws, nothing is applied. If applying the difference throws, the
+ * skills already changed are restored before the exception is rethrown.
+ *
+ * <h2>Usage:</h2>
+ * <pre>{@code
+ * SkillTransaction.run(player, transaction -> {
+ *     transaction.lockAll();
+ *     transaction.refreshClassRewards();
+ * });
+ * }</pre>
+ */
+public class SkillTransaction {
+
+    private static final Map<UUID, SkillTransaction> ACTIVE = new HashMap<>();
+    private static final Set<UUID> DEFERRED_REFRESH = new HashSet<>();
+
+    private final ServerPlayerEntity player;
+    private final Category category;
+    private final Set<String> initial;
+    private final Set<String> staged;
+    private boolean committing = false;
+
+    private SkillTransaction(ServerPlayerEntity player, Category category) {
+        this.player = player;
+        this.category = category;
+        this.initial = new LinkedHashSet<>();
+        // Read from the mirror, SkillsMod would look up the state of every skill in the category
+        SkillUnlockIndex.getUnlockedSkills(player).ifPresentOrElse(initial::addAll,
+                () -> category.streamUnlockedSkills(player).forEach(skill -> initial.add(skill.getId())));
+        this.staged = new LinkedHashSet<>(initial);
+    }
+
+    /**
+     * Runs a batch of skill changes for the player and applies them at once.
+     * A nested call for the same player stages into the running transaction.
+     *
+     * @param player the player whose skills change
+     * @param batch stages the changes
+     * @return {@code true} if the changes were applied, {@code false} if the category is not loaded
+     * @throws IllegalStateException if called while the player's transaction is committing
+     */
+    public static boolean run(ServerPlayerEntity player, Consumer<SkillTransaction> batch) {
+        UUID uuid = player.getUuid();
+        SkillTransaction running = ACTIVE.get(uuid);
+        if (running != null) {
+            if (running.committing) {
+                throw new IllegalStateException("Skill transaction of " + player.getName().getString() + " is already committing");
+            }
+            batch.accept(running);
+            return true;
+        }
+
+        var category = SkillsAPI.getCategory(OnePieceCategory.ID);
+        if (category.isEmpty()) {
+            return false;
+        }
+        var transaction = new SkillTransaction(player, category.get());
+        ACTIVE.put(uuid, transaction);
+        try {
+            batch.accept(transaction);
+            transaction.commit();
+        } catch (RuntimeException e) {
+            DEFERRED_REFRESH.remove(uuid);
+            throw e;
+        } finally {
+            ACTIVE.remove(uuid);
+        }
+        if (DEFERRED_REFRESH.remove(uuid)) {
+            ClassRewardHandler.refreshRewards(player);
+        }
+        RewardSync.flush(player);
+        return true;
+    }
+
+    /**
+     * Checks whether the player's transaction is applying its changes to SkillsMod.
+     */
+    public static boolean isCommitting(ServerPlayerEntity player) {
+        SkillTransaction running = ACTIVE.get(player.getUuid());
+        return running != null && running.committing;
+    }
+
+    /**
+     * Defers a class reward refresh if the player is inside a transaction.
+     *
+     * @return {@code true} if the refresh was deferred and must not run now
+     */
+    public static boolean deferRefresh(ServerPlayerEntity player) {
+        if (!ACTIVE.containsKey(player.getUuid())) {
+            return false;
+        }
+        DEFERRED_REFRESH.add(player.getUuid());
+        return true;
+    }
+
+    public ServerPlayerEntity getPlayer() {
+        return player;
+    }
+
+    public boolean isUnlocked(String skillId) {
+        return staged.contains(skillId);
+    }
+
+    public void unlock(String skillId) {
+        staged.add(skillId);
+    }
+
+    public void lock(String skillId) {
+        staged.remove(skillId);
+    }
+
+    /**
+     * Locks every skill, like a respec.
+     */
+    public void lockAll() {
+        staged.clear();
+    }
+
+    /**
+     * Unlocks every skill of the category.
+     */
+    public void unlockAll() {
+        category.streamSkills().forEach(skill -> staged.add(skill.getId()));
+    }
+
+    /**
+     * Stages the class rewards matching the player's current class and level,
+     * same result as {@link ClassRewardHandler#refreshRewards}.
+     */
+    public void refreshClassRewards() {
+        ClassRewardHandler.stageRewards(this);
+    }
+
+    private void commit() {
+        committing = true;
+        boolean bundling = PacketBundler.begin(player);
+        boolean changed = true;
+        try {
+            changed = apply();
+        } finally {
+            if (changed) {
+                SkillUnlockIndex.rebuild(player);
+            }
+            if (bundling) {
+                PacketBundler.end(player);
+            }
+        }
+    }
+
+    /**
+     * Applies the difference to SkillsMod.
+     *
+     * @return {@code false} if nothing changed
+     */
+    private boolean apply() {
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        for (String skillId : initial) {
+            if (!staged.contains(skillId)) {
+                removed.add(skillId);
+            }
+        }
+        for (String skillId : staged) {
+            if (!initial.contains(skillId)) {
+                added.add(skillId);
+            }
+        }
+        if (removed.isEmpty() && added.isEmpty()) {
+            return false;
+        }
+        // One reset plus the kept skills is cheaper than locking skill by skill, e.g. for a respec
+        boolean reset = !removed.isEmpty() && 1 + staged.size() < removed.size() + added.size();
+        OnePieceRPG.debug(OnePieceRPG.CLASS_REWARD_HANDLER, "Committing skill transaction for {}: {} locked, {} unlocked{}",
+                player.getName().getString(), removed.size(), added.size(), reset ? " by reset" : "");
+
+        if (reset) {
+            try {
+                SkillsMod.getInstance().resetSkills(player, OnePieceCategory.ID);
+                for (String skillId : staged) {
+                    SkillsMod.getInstance().tryUnlockSkill(player, OnePieceCategory.ID, skillId, true);
+                }
+            } catch (RuntimeException e) {
+                OnePieceRPG.LOGGER.error("Skill transaction for {} failed, rolling back", player.getName().getString(), e);
+                restore();
+                throw e;
+            }
+            return true;
+        }
+
+        List<String> lockedDone = new ArrayList<>();
+        List<String> unlockedDone = new ArrayList<>();
+        try {
+            for (String skillId : removed) {
+                SkillsMod.getInstance().lockSkill(player, OnePieceCategory.ID, skillId);
+                lockedDone.add(skillId);
+            }
+            for (String skillId : added) {
+                SkillsMod.getInstance().tryUnlockSkill(player, OnePieceCategory.ID, skillId, true);
+                unlockedDone.add(skillId);
+            }
+        } catch (RuntimeException e) {
+            OnePieceRPG.LOGGER.error("Skill transaction for {} failed, rolling back", player.getName().getString(), e);
+            rollback(lockedDone, unlockedDone);
+            throw e;
+        }
+        return true;
+    }
+
+    private void rollback(List<String> locked, List<String> unlocked) {
+        for (String skillId : unlocked) {
+            try {
+                SkillsMod.getInstance().lockSkill(player, OnePieceCategory.ID, skillId);
+            } catch (RuntimeException e) {
+                OnePieceRPG.LOGGER.error("Failed to roll back unlock of skill {}", skillId, e);
+            }
+        }
+        for (String skillId : locked) {
+            try {
+                SkillsMod.getInstance().tryUnlockSkill(player, OnePieceCategory.ID, skillId, true);
+            } catch (RuntimeException e) {
+                OnePieceRPG.LOGGER.error("Failed to roll back lock of skill {}", skillId, e);
+            }
+        }
+    }
+
+    /**
+     * Restores the skills unlocked before a failed reset commit.
+     */
+    private void restore() {
+        try {
+            SkillsMod.getInstance().resetSkills(player, OnePieceCategory.ID);
+        } catch (RuntimeException e) {
+            OnePieceRPG.LOGGER.error("Failed to roll back skill reset", e);
+        }
+        for (String skillId : initial) {
+            try {
+                SkillsMod.getInstance().tryUnlockSkill(player, OnePieceCategory.ID, skillId, true);
+            } catch (RuntimeException e) {
+                OnePieceRPG.LOGGER.error("Failed to roll back lock of skill {}", skillId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package de.one_piece_api.util.helper;
+
+import de.one_piece_api.OnePieceRPG;
+import de.one_piece_api.util.OnePieceCategory;
+import de.one_piece_api.util.PlayerRuntimeState;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.puffish.skillsmod.api.Category;
+import net.puffish.skillsmod.api.Skill;
+import net.puffish.skillsmod.api.SkillsAPI;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mirror of the unlocked skills of the {@link OnePieceCategory} as one {@link BitSet} per player,
+ * kept in the player's {@link PlayerRuntimeState}.
+ * <p>
+ * Every skill of the category gets a dense index when the category is built, so checking
+ * a skill is a single bit test instead of a category and skill lookup by string id.
+ * The mirror is:
+ * <ul>
+ *     <li>built when a player joins and dropped on disconnect</li>
+ *     <li>rebuilt for all players when the category is reloaded ({@link #rebuild(MinecraftServer)})</li>
+ *     <li>updated when SkillsMod locks or unlocks a skill of the category, or rebuilt once
+ *         after a {@link SkillTransaction} commit</li>
+ * </ul>
+ * SkillsMod stays the source of truth. {@link #check} compares the mirror against it.
+ * {@link SkillTransaction} reads the skills unlocked before a batch from the mirror.
+ */
+public class SkillUnlockIndex {
+
+    /**
+     * Index of a skill that is not part of the category.
+     */
+    public static final int UNKNOWN = -1;
+
+    private static final Object2IntMap<String> INDICES = new Object2IntOpenHashMap<>();
+    private static final List<String> SKILL_IDS = new ArrayList<>();
+
+    static {
+        INDICES.defaultReturnValue(UNKNOWN);
+    }
+
+    public static void register() {
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> rebuild(handler.getPlayer()));
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            INDICES.clear();
+            SKILL_IDS.clear();
+        });
+    }
+
+    /**
+     * Assigns the dense skill indices of the current category and rebuilds the mirror of every player.
+     * Called after the category was (re)built.
+     */
+    public static void rebuild(MinecraftServer server) {
+        INDICES.clear();
+        SKILL_IDS.clear();
+        getCategory().ifPresent(category -> category.streamSkills()
+                .map(Skill::getId)
+                .sorted()
+                .forEach(skillId -> {
+                    INDICES.put(skillId, SKILL_IDS.size());
+                    SKILL_IDS.add(skillId);
+                }));
+        server.getPlayerManager().getPlayerList().forEach(SkillUnlockIndex::rebuild);
+        OnePieceRPG.LOGGER.debug("Indexed {} skills", SKILL_IDS.size());
+    }
+
+    /**
+     * Rebuilds the mirror of one player from SkillsMod.
+     */
+    public static void rebuild(ServerPlayerEntity player) {
+        PlayerRuntimeState.get(player).setUnlockedSkills(read(player));
+    }
+
+    /**
+     * Gets the dense index of a skill.
+     *
+     * @return the index, or {@link #UNKNOWN} if the skill is not part of the category
+     */
+    public static int indexOf(String skillId) {
+        return INDICES.getInt(skillId);
+    }
+
+    /**
+     * Gets the number of indexed skills.
+     */
+    public static int size() {
+        return SKILL_IDS.size();
+    }
+
+    /**
+     * Checks whether the player has the skill unlocked.
+     */
+    public static boolean isUnlocked(ServerPlayerEntity player, String skillId) {
+        return isUnlocked(player, indexOf(skillId));
+    }
+
+    /**
+     * Checks whether the player has the skill at the dense index unlocked.
+     */
+    public static boolean isUnlocked(ServerPlayerEntity player, int index) {
+        if (index < 0) {
+            return false;
+        }
+        BitSet mirror = PlayerRuntimeState.get(player).getUnlockedSkills();
+        return mirror != null && mirror.get(index);
+    }
+
+    /**
+     * Gets the ids of the skills the player has unlocked, in index order.
+     *
+     * @return the ids, or empty if the player has no mirror yet
+     */
+    public static Optional<List<String>> getUnlockedSkills(ServerPlayerEntity player) {
+        BitSet mirror = PlayerRuntimeState.get(player).getUnlockedSkills();
+        if (mirror == null) {
+            return Optional.empty();
+        }
+        List<String> result = new ArrayList<>(mirror.cardinality());
+        for (int i = mirror.nextSetBit(0); i >= 0 && i < SKILL_IDS.size(); i = mirror.nextSetBit(i + 1)) {
+            result.add(SKILL_IDS.get(i));
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Updates the mirror after SkillsMod locked or unlocked a skill.
+     */
+    public static void set(ServerPlayerEntity player, String skillId, boolean unlocked) {
+        int index = indexOf(skillId);
+        BitSet mirror = PlayerRuntimeState.get(player).getUnlockedSkills();
+        if (index < 0 || mirror == null) {
+            return;
+        }
+        mirror.set(index, unlocked);
+    }
+
+    /**
+     * Updates the mirror of a single skill from SkillsMod,
+     * for changes where the result is not known to the caller.
+     */
+    public static void resync(ServerPlayerEntity player, String skillId) {
+        set(player, skillId, getCategory()
+                .flatMap(category -> category.getSkill(skillId))
+                .map(skill -> skill.getState(player) == Skill.State.UNLOCKED)
+                .orElse(false));
+    }
+
+    /**
+     * Compares the mirror of the player against SkillsMod and repairs it.
+     *
+     * @return the ids of the skills that did not match
+     */
+    public static List<String> check(ServerPlayerEntity player) {
+        BitSet actual = read(player);
+        BitSet mirror = PlayerRuntimeState.get(player).getUnlockedSkills();
+        BitSet mismatches = mirror != null ? (BitSet) mirror.clone() : new BitSet();
+        mismatches.xor(actual);
+
+        List<String> result = new ArrayList<>(mismatches.cardinality());
+        for (int i = mismatches.nextSetBit(0); i >= 0; i = mismatches.nextSetBit(i + 1)) {
+            result.add(SKILL_IDS.get(i));
+        }
+        if (!result.isEmpty()) {
+            OnePieceRPG.LOGGER.warn("Skill mirror of {} was out of sync: {}", player.getName().getString(), result);
+        }
+        PlayerRuntimeState.get(player).setUnlockedSkills(actual);
+        return result;
+    }
+
+    private static BitSet read(ServerPlayerEntity player) {
+        BitSet mirror = new BitSet(SKILL_IDS.size());
+        getCategory().ifPresent(category -> category.streamUnlockedSkills(player).forEach(skill -> {
+            int index = indexOf(skill.getId());
+            if (index >= 0) {
+                mirror.set(index);
+            }
+        }));
+        return mirror;
+    }
+
+    private static Optional<Category> getCategory() {
+        return SkillsAPI.getCategory(OnePieceCategory.ID);
+    }
+}
@@ -0,0 +1,113 @@
+package de.one_piece_api.ability;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.entity.effect.StatusEffectInstance;
+import net.minecraft.entity.effect.StatusEffects;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PassiveAbilityTest {
+
+    private static final int CHECK_INTERVAL = 20;
+    private static final int DURATION = 200;
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+    }
+
+    private static PassiveAbility ability(PassiveAbility.ApplyPolicy policy) {
+        return new PassiveAbility.Builder(Identifier.of("test", "ability"))
+                .addStatusEffect(StatusEffects.SPEED, DURATION, 0)
+                .checkInterval(CHECK_INTERVAL)
+                .applyPolicy(policy, 0)
+                .build();
+    }
+
+    private static PassiveAbility.StatusEffectEffect effect(int duration) {
+        return new PassiveAbility.StatusEffectEffect(StatusEffects.SPEED, duration, 0, false, false, true);
+    }
+
+    /**
+     * Ticks an entity every {@code gap} ticks the way the scheduler does, with the effect
+     * counting down every tick.
+     *
+     * @return the number of times the effect was applied, each one an effect packet,
+     *         or -1 if the effect ran out after it was applied first
+     */
+    private static int simulate(PassiveAbility ability, PassiveAbility.StatusEffectEffect effect, int gap, int ticks) {
+        int remaining = 0;
+        int applied = 0;
+        for (int tick = 1; tick <= ticks; tick++) {
+            if (remaining > 0) {
+                remaining--;
+                if (remaining == 0) {
+                    return -1;
+                }
+            }
+            if (tick % gap != 0 || tick / CHECK_INTERVAL == (tick - gap) / CHECK_INTERVAL) {
+                continue;
+            }
+            StatusEffectInstance current = remaining > 0
+                    ? new StatusEffectInstance(StatusEffects.SPEED, remaining, 0)
+                    : null;
+            if (effect.shouldApply(current, ability, gap)) {
+                remaining = effect.createInstance().getDuration();
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    @Test
+    void refreshNearExpirySendsFewerEffectPackets() {
+        int always = simulate(ability(PassiveAbility.ApplyPolicy.ALWAYS), effect(DURATION), 1, 20 * 60 * 10);
+        int refresh = simulate(ability(PassiveAbility.ApplyPolicy.REFRESH_NEAR_EXPIRY), effect(DURATION), 1, 20 * 60 * 10);
+
+        assertEquals(20 * 60 * 10 / CHECK_INTERVAL, always);
+        assertTrue(refresh > 0, "effect kept");
+        assertTrue(refresh * 4 < always, "always " + always + ", refresh " + refresh);
+    }
+
+    @Test
+    void deferredEntityKeepsEffect() {
+        PassiveAbility ability = ability(PassiveAbility.ApplyPolicy.REFRESH_NEAR_EXPIRY);
+        // Ticked less often than checked, like an AFK player or one deferred by the scheduler
+        for (int gap : new int[]{1, 7, 20, 33, 60, 100, 150}) {
+            int applied = simulate(ability, effect(DURATION), gap, 20 * 60 * 10);
+            assertTrue(applied > 0, "effect ran out with " + gap + " ticks between ticks");
+        }
+    }
+
+    @Test
+    void thresholdCoversTimeUntilNextCheck() {
+        PassiveAbility ability = ability(PassiveAbility.ApplyPolicy.REFRESH_NEAR_EXPIRY);
+
+        assertEquals(1 + CHECK_INTERVAL, ability.getRefreshThreshold(1));
+        assertEquals(100 + CHECK_INTERVAL, ability.getRefreshThreshold(100));
+
+        PassiveAbility configured = new PassiveAbility.Builder(Identifier.of("test", "configured"))
+                .addStatusEffect(StatusEffects.SPEED, DURATION, 0)
+                .checkInterval(CHECK_INTERVAL)
+                .applyPolicy(PassiveAbility.ApplyPolicy.REFRESH_NEAR_EXPIRY, 80)
+                .build();
+        assertEquals(80, configured.getRefreshThreshold(1));
+        assertEquals(100 + CHECK_INTERVAL, configured.getRefreshThreshold(100));
+    }
+
+    @Test
+    void differentAmplifierIsApplied() {
+        PassiveAbility ability = ability(PassiveAbility.ApplyPolicy.REFRESH_NEAR_EXPIRY);
+        PassiveAbility.StatusEffectEffect effect = effect(DURATION);
+
+        assertTrue(effect.shouldApply(null, ability, 1));
+        assertTrue(effect.shouldApply(new StatusEffectInstance(StatusEffects.SPEED, DURATION, 2), ability, 1));
+        assertFalse(effect.shouldApply(new StatusEffectInstance(StatusEffects.SPEED, DURATION, 0), ability, 1));
+        assertFalse(effect.shouldApply(new StatusEffectInstance(StatusEffects.SPEED, StatusEffectInstance.INFINITE, 0), ability, 1));
+    }
+}
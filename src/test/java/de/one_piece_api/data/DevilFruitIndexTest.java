@@ -0,0 +1,103 @@
+package de.one_piece_api.data;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DevilFruitIndexTest {
+
+    private static final Identifier GOMU = Identifier.of("one_piece", "gomu_gomu");
+    private static final Identifier MERA = Identifier.of("one_piece", "mera_mera");
+    private static final UUID FIRST = new UUID(0, 1);
+    private static final UUID SECOND = new UUID(0, 2);
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+    }
+
+    @Test
+    void secondOwnerKeepsFirstOwner() {
+        DevilFruitIndex index = new DevilFruitIndex();
+        index.put(FIRST, GOMU, 100);
+        index.put(SECOND, GOMU, 200);
+
+        assertEquals(GOMU, index.getFruit(FIRST));
+        assertEquals(GOMU, index.getFruit(SECOND));
+        assertEquals(List.of(new DevilFruitIndex.Owner(FIRST, 100), new DevilFruitIndex.Owner(SECOND, 200)),
+                index.getOwners(GOMU));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void repeatedPutDoesNotFlip() {
+        DevilFruitIndex index = new DevilFruitIndex();
+        index.put(FIRST, GOMU, 100);
+        index.put(SECOND, GOMU, 200);
+
+        // Like the join sync of both owners, in any order
+        for (int login = 0; login < 4; login++) {
+            index.put(login % 2 == 0 ? FIRST : SECOND, GOMU, 0);
+            assertEquals(GOMU, index.getFruit(FIRST));
+            assertEquals(GOMU, index.getFruit(SECOND));
+            assertEquals(2, index.getOwners(GOMU).size());
+        }
+        assertEquals(100, index.getOwners(GOMU).get(0).eatenAt());
+    }
+
+    @Test
+    void removeKeepsOtherOwners() {
+        DevilFruitIndex index = new DevilFruitIndex();
+        index.put(FIRST, GOMU, 100);
+        index.put(SECOND, GOMU, 200);
+
+        index.remove(FIRST);
+
+        assertNull(index.getFruit(FIRST));
+        assertEquals(List.of(new DevilFruitIndex.Owner(SECOND, 200)), index.getOwners(GOMU));
+        assertTrue(index.isTaken(GOMU));
+
+        index.remove(SECOND);
+
+        assertFalse(index.isTaken(GOMU));
+        assertTrue(index.getOwners(GOMU).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void newFruitReplacesOwnFruitOnly() {
+        DevilFruitIndex index = new DevilFruitIndex();
+        index.put(FIRST, GOMU, 100);
+        index.put(SECOND, GOMU, 200);
+
+        index.put(FIRST, MERA, 300);
+
+        assertEquals(MERA, index.getFruit(FIRST));
+        assertEquals(List.of(new DevilFruitIndex.Owner(SECOND, 200)), index.getOwners(GOMU));
+        assertEquals(List.of(new DevilFruitIndex.Owner(FIRST, 300)), index.getOwners(MERA));
+    }
+
+    @Test
+    void nbtKeepsAllOwners() {
+        DevilFruitIndex index = new DevilFruitIndex();
+        index.put(FIRST, GOMU, 100);
+        index.put(SECOND, GOMU, 200);
+
+        // Neither side reads registries
+        NbtCompound nbt = index.writeNbt(new NbtCompound(), null);
+        DevilFruitIndex loaded = DevilFruitIndex.fromNbt(nbt, null);
+
+        assertEquals(index.getOwners(GOMU), loaded.getOwners(GOMU));
+        assertEquals(GOMU, loaded.getFruit(FIRST));
+        assertEquals(GOMU, loaded.getFruit(SECOND));
+    }
+}
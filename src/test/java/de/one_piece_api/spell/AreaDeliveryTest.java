@@ -0,0 +1,200 @@
+package de.one_piece_api.spell;
+
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AreaDeliveryTest {
+
+    private static final double EPSILON = 1e-9;
+    private static final Vec3d ORIGIN = new Vec3d(0, 64, 0);
+
+    private static AreaDelivery area(AreaDelivery.Shape shape, float range) {
+        AreaDelivery area = new AreaDelivery();
+        area.shape = shape;
+        area.range = range;
+        return area;
+    }
+
+    private static AreaDeliveryExecutor.Region region(AreaDelivery area, Vec3d direction) {
+        return AreaDeliveryExecutor.region(ORIGIN, direction, ORIGIN, area);
+    }
+
+    private static double distance(AreaDeliveryExecutor.Region region, double x, double y, double z) {
+        return region.distance(ORIGIN.x + x, ORIGIN.y + y, ORIGIN.z + z);
+    }
+
+    @Test
+    void defaultIsValid() {
+        assertTrue(new AreaDelivery().validate().isEmpty());
+        for (AreaDelivery.Shape shape : AreaDelivery.Shape.values()) {
+            assertTrue(area(shape, 5).validate().isEmpty(), shape.name());
+        }
+    }
+
+    @Test
+    void validateReportsEveryProblem() {
+        AreaDelivery area = area(AreaDelivery.Shape.RING, 0);
+        area.width = 0;
+        area.inner_radius = -1;
+        area.falloff_min = 1.5F;
+        area.max_targets = -1;
+
+        assertEquals(5, area.validate().size(), area.validate().toString());
+    }
+
+    @Test
+    void validateChecksShapeSpecificValues() {
+        AreaDelivery cone = area(AreaDelivery.Shape.CONE, 5);
+        cone.angle = 0;
+        assertEquals(1, cone.validate().size());
+        cone.angle = 361;
+        assertEquals(1, cone.validate().size());
+        cone.angle = 360;
+        assertTrue(cone.validate().isEmpty());
+        // Width only matters for lines and rings
+        cone.width = 0;
+        assertTrue(cone.validate().isEmpty());
+
+        AreaDelivery line = area(AreaDelivery.Shape.LINE, 5);
+        line.width = 0;
+        assertEquals(1, line.validate().size());
+
+        AreaDelivery ring = area(AreaDelivery.Shape.RING, 5);
+        ring.inner_radius = 5;
+        assertEquals(1, ring.validate().size());
+
+        AreaDelivery missing = new AreaDelivery();
+        missing.shape = null;
+        missing.falloff = null;
+        assertEquals(2, missing.validate().size());
+
+        AreaDelivery nan = area(AreaDelivery.Shape.SPHERE, Float.NaN);
+        assertEquals(1, nan.validate().size());
+    }
+
+    @Test
+    void falloffMultiplier() {
+        AreaDelivery area = new AreaDelivery();
+        area.falloff_min = 0.2F;
+
+        area.falloff = AreaDelivery.Falloff.NONE;
+        assertEquals(1, area.falloffMultiplier(0));
+        assertEquals(1, area.falloffMultiplier(1));
+
+        area.falloff = AreaDelivery.Falloff.LINEAR;
+        assertEquals(1, area.falloffMultiplier(0), EPSILON);
+        assertEquals(0.6, area.falloffMultiplier(0.5), 1e-6);
+        assertEquals(0.2, area.falloffMultiplier(1), 1e-6);
+
+        area.falloff = AreaDelivery.Falloff.SQUARED;
+        assertEquals(1, area.falloffMultiplier(0), EPSILON);
+        assertEquals(0.8, area.falloffMultiplier(0.5), 1e-6);
+        assertEquals(0.2, area.falloffMultiplier(1), 1e-6);
+
+        // Clamped to the reach of the shape
+        assertEquals(1, area.falloffMultiplier(-0.5), EPSILON);
+        assertEquals(0.2, area.falloffMultiplier(2), 1e-6);
+    }
+
+    @Test
+    void sphereDistance() {
+        AreaDeliveryExecutor.Region sphere = region(area(AreaDelivery.Shape.SPHERE, 4), new Vec3d(1, 0, 0));
+
+        assertEquals(0, distance(sphere, 0, 0, 0), EPSILON);
+        assertEquals(0.5, distance(sphere, 0, -2, 0), EPSILON);
+        assertEquals(1, distance(sphere, 0, 0, 4), EPSILON);
+        assertTrue(distance(sphere, 3, 3, 0) < 0);
+        assertTrue(distance(sphere, 4.01, 0, 0) < 0);
+        assertEquals(new Box(-4, 60, -4, 4, 68, 4), sphere.bounds());
+    }
+
+    @Test
+    void lineDistance() {
+        AreaDelivery area = area(AreaDelivery.Shape.LINE, 10);
+        area.width = 2;
+        // Not normalized
+        AreaDeliveryExecutor.Region line = region(area, new Vec3d(0, 0, 3));
+
+        assertEquals(0.5, distance(line, 0, 0, 5), EPSILON);
+        assertEquals(0.5, distance(line, 0.9, 0, 5), EPSILON);
+        assertEquals(0.5, distance(line, 0, -0.9, 5), EPSILON);
+        assertTrue(distance(line, 1.1, 0, 5) < 0);
+        // Rounded ends
+        assertEquals(0, distance(line, 0, 0, -0.5), EPSILON);
+        assertTrue(distance(line, 0, 0, -1.5) < 0);
+        assertEquals(1, distance(line, 0, 0, 10.5), EPSILON);
+        assertTrue(distance(line, 0, 0, 11.5) < 0);
+        assertEquals(new Box(-1, 63, -1, 1, 65, 11), line.bounds());
+    }
+
+    @Test
+    void ringDistance() {
+        AreaDelivery area = area(AreaDelivery.Shape.RING, 6);
+        area.inner_radius = 2;
+        area.width = 2;
+        AreaDeliveryExecutor.Region ring = region(area, new Vec3d(1, 0, 0));
+
+        assertEquals(0, distance(ring, 2, 0, 0), EPSILON);
+        assertEquals(0.5, distance(ring, 0, 0, -4), EPSILON);
+        assertEquals(0.5, distance(ring, 0, 0.9, 4), EPSILON);
+        assertEquals(1, distance(ring, 6, 0, 0), EPSILON);
+        assertTrue(distance(ring, 1, 0, 0) < 0);
+        assertTrue(distance(ring, 0, 0, 0) < 0);
+        assertTrue(distance(ring, 5, 0, 5) < 0);
+        assertTrue(distance(ring, 4, 1.1, 0) < 0);
+        assertEquals(new Box(-6, 63, -6, 6, 65, 6), ring.bounds());
+    }
+
+    @Test
+    void coneDistance() {
+        AreaDelivery area = area(AreaDelivery.Shape.CONE, 6);
+        area.angle = 60;
+        AreaDeliveryExecutor.Region cone = region(area, new Vec3d(0, 0, 2));
+
+        assertEquals(0.5, distance(cone, 0, 0, 3), EPSILON);
+        assertEquals(1, distance(cone, 0, 0, 6), EPSILON);
+        // 29 and 31 degrees off the axis
+        assertTrue(distance(cone, Math.sin(Math.toRadians(29)) * 3, 0, Math.cos(Math.toRadians(29)) * 3) >= 0);
+        assertTrue(distance(cone, Math.sin(Math.toRadians(31)) * 3, 0, Math.cos(Math.toRadians(31)) * 3) < 0);
+        assertTrue(distance(cone, 0, 0, -1) < 0);
+    }
+
+    @Test
+    void hitsLieInsideBoundsWithDistanceInRange() {
+        Random random = new Random(7);
+        for (AreaDelivery.Shape shape : AreaDelivery.Shape.values()) {
+            AreaDelivery area = area(shape, 5);
+            area.angle = 75;
+            area.width = 1.5F;
+            area.inner_radius = 1;
+            for (int round = 0; round < 20; round++) {
+                AreaDeliveryExecutor.Region region = region(area, ConeQueryTest.randomDirection(random));
+                Box bounds = region.bounds();
+                int hits = 0;
+                for (int i = 0; i < 2000; i++) {
+                    double x = ORIGIN.x + (random.nextDouble() * 2 - 1) * 6;
+                    double y = ORIGIN.y + (random.nextDouble() * 2 - 1) * 6;
+                    double z = ORIGIN.z + (random.nextDouble() * 2 - 1) * 6;
+                    double distance = region.distance(x, y, z);
+                    if (distance < 0) {
+                        continue;
+                    }
+                    hits++;
+                    assertTrue(distance <= 1 + EPSILON, shape + " distance " + distance);
+                    assertTrue(bounds.minX - EPSILON <= x && x <= bounds.maxX + EPSILON
+                            && bounds.minY - EPSILON <= y && y <= bounds.maxY + EPSILON
+                            && bounds.minZ - EPSILON <= z && z <= bounds.maxZ + EPSILON,
+                            shape + " hit outside bounds " + bounds);
+                }
+                if (shape != AreaDelivery.Shape.LINE) {
+                    assertTrue(hits > 0, shape + " never hit");
+                }
+            }
+        }
+    }
+}
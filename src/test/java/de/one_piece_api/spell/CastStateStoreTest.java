@@ -0,0 +1,113 @@
+package de.one_piece_api.spell;
+
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CastStateStoreTest {
+
+    private static final CastStateStore.Key<Integer> VALUE = CastStateStore.Key.of(Identifier.of("test", "value"));
+    private static final int MAX_LIFETIME = 100;
+
+    @BeforeEach
+    void clear() {
+        CastStateStore.clear();
+    }
+
+    @Test
+    void storeIsEmptyAfterManySimulatedCasts() {
+        Random random = new Random(42);
+        List<UUID> casters = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            casters.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        int casts = 0;
+        while (casts < 10_000) {
+            for (int i = 0; i < 20 && casts < 10_000; i++) {
+                UUID caster = casters.get(random.nextInt(casters.size()));
+                // Starting while a cast is running replaces it
+                CastStateStore.begin(caster, 1 + random.nextInt(MAX_LIFETIME));
+                CastStateStore.put(caster, VALUE, casts);
+                assertEquals(casts, CastStateStore.get(caster, VALUE));
+                casts++;
+            }
+            for (int i = 0; i < 5; i++) {
+                // Handler ends, disconnects, deaths and dimension changes all end the cast
+                CastStateStore.end(casters.get(random.nextInt(casters.size())));
+            }
+            CastStateStore.tick();
+
+            assertEquals(CastStateStore.casters(), CastStateStore.size());
+            assertTrue(CastStateStore.size() <= casters.size());
+        }
+
+        for (int i = 0; i < MAX_LIFETIME; i++) {
+            CastStateStore.tick();
+        }
+
+        assertEquals(0, CastStateStore.size());
+        assertEquals(0, CastStateStore.casters());
+        for (UUID caster : casters) {
+            assertNull(CastStateStore.get(caster, VALUE));
+        }
+    }
+
+    @Test
+    void stateExpiresAfterLifetime() {
+        UUID caster = UUID.randomUUID();
+        CastStateStore.begin(caster, 3);
+        CastStateStore.put(caster, VALUE, 1);
+
+        CastStateStore.tick();
+        CastStateStore.tick();
+        assertEquals(1, CastStateStore.get(caster, VALUE));
+
+        CastStateStore.tick();
+        assertNull(CastStateStore.get(caster, VALUE));
+        assertEquals(0, CastStateStore.size());
+    }
+
+    @Test
+    void beginDropsPreviousCast() {
+        UUID caster = UUID.randomUUID();
+        int first = CastStateStore.begin(caster, 10);
+        CastStateStore.put(caster, VALUE, 1);
+
+        int second = CastStateStore.begin(caster, 10);
+
+        assertNotEquals(first, second);
+        assertNull(CastStateStore.get(caster, VALUE));
+        assertEquals(1, CastStateStore.size());
+    }
+
+    @Test
+    void endRemovesState() {
+        UUID caster = UUID.randomUUID();
+        CastStateStore.begin(caster, 10);
+        CastStateStore.put(caster, VALUE, 1);
+
+        CastStateStore.end(caster);
+
+        assertNull(CastStateStore.get(caster, VALUE));
+        assertEquals(0, CastStateStore.size());
+        assertEquals(0, CastStateStore.casters());
+    }
+
+    @Test
+    void putWithoutCastIsIgnored() {
+        UUID caster = UUID.randomUUID();
+
+        CastStateStore.put(caster, VALUE, 1);
+
+        assertNull(CastStateStore.get(caster, VALUE));
+        assertEquals(0, CastStateStore.size());
+    }
+}
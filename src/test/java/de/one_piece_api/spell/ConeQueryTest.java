@@ -0,0 +1,213 @@
+package de.one_piece_api.spell;
+
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConeQueryTest {
+
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * The check used before {@link ConeQuery}: range by distance, angle by {@code Math.acos}.
+     */
+    static boolean acosContains(Vec3d apex, Vec3d direction, double range, double halfAngle, Vec3d point) {
+        Vec3d offset = point.subtract(apex);
+        double length = offset.length();
+        if (length > range) {
+            return false;
+        }
+        if (length == 0) {
+            return true;
+        }
+        double cos = offset.dotProduct(direction.normalize()) / length;
+        return Math.acos(Math.clamp(cos, -1, 1)) <= halfAngle;
+    }
+
+    static Vec3d randomDirection(Random random) {
+        Vec3d direction;
+        do {
+            direction = new Vec3d(random.nextDouble() * 2 - 1, random.nextDouble() * 2 - 1, random.nextDouble() * 2 - 1);
+        } while (direction.lengthSquared() < 1e-3);
+        return direction;
+    }
+
+    @Test
+    void containsPointsOnAxisWithinRange() {
+        ConeQuery cone = ConeQuery.of(Vec3d.ZERO, new Vec3d(0, 0, 2), 6, Math.toRadians(30));
+
+        assertTrue(cone.contains(Vec3d.ZERO));
+        assertTrue(cone.contains(0, 0, 3));
+        assertTrue(cone.contains(0, 0, 6));
+        assertFalse(cone.contains(0, 0, 6.01));
+        assertFalse(cone.contains(0, 0, -1));
+    }
+
+    @Test
+    void containsRespectsHalfAngle() {
+        ConeQuery cone = ConeQuery.of(Vec3d.ZERO, new Vec3d(1, 0, 0), 10, Math.toRadians(45));
+
+        assertTrue(cone.contains(5, 4.9, 0));
+        assertFalse(cone.contains(5, 5.1, 0));
+        assertTrue(cone.contains(5, 0, -4.9));
+        assertFalse(cone.contains(5, 0, -5.1));
+    }
+
+    @Test
+    void containsHandlesWideAngles() {
+        // Half angle above 90 degrees, everything except a cone behind the apex
+        ConeQuery wide = ConeQuery.of(Vec3d.ZERO, new Vec3d(1, 0, 0), 10, Math.toRadians(135));
+        assertTrue(wide.contains(0, 5, 0));
+        assertTrue(wide.contains(-3, 4, 0));
+        assertFalse(wide.contains(-5, 1, 0));
+
+        // Full sphere
+        ConeQuery sphere = ConeQuery.of(Vec3d.ZERO, new Vec3d(1, 0, 0), 10, Math.PI);
+        assertTrue(sphere.contains(-9, 0, 0));
+        assertFalse(sphere.contains(-11, 0, 0));
+    }
+
+    @Test
+    void containsMatchesAcosCheck() {
+        Random random = new Random(7);
+        for (int cone = 0; cone < 200; cone++) {
+            Vec3d apex = new Vec3d(random.nextDouble() * 100, random.nextDouble() * 100, random.nextDouble() * 100);
+            Vec3d direction = randomDirection(random);
+            double range = 1 + random.nextDouble() * 10;
+            double halfAngle = random.nextDouble() * Math.PI;
+            ConeQuery query = ConeQuery.of(apex, direction, range, halfAngle);
+
+            for (int i = 0; i < 500; i++) {
+                Vec3d point = apex.add(randomDirection(random).normalize().multiply(random.nextDouble() * range * 1.2));
+                // Points right on the surface may differ by rounding
+                double angle = Math.acos(Math.clamp(point.subtract(apex).normalize().dotProduct(direction.normalize()), -1, 1));
+                if (Math.abs(angle - halfAngle) < 1e-6 || Math.abs(point.distanceTo(apex) - range) < 1e-6) {
+                    continue;
+                }
+                assertEquals(acosContains(apex, direction, range, halfAngle, point), query.contains(point),
+                        "cone " + cone + " point " + point);
+            }
+        }
+    }
+
+    @Test
+    void boundsOfAxisAlignedCone() {
+        ConeQuery cone = ConeQuery.of(new Vec3d(10, 20, 30), new Vec3d(1, 0, 0), 6, Math.toRadians(30));
+
+        Box bounds = cone.bounds();
+
+        assertEquals(10, bounds.minX, EPSILON);
+        assertEquals(16, bounds.maxX, EPSILON);
+        assertEquals(20 - 3, bounds.minY, EPSILON);
+        assertEquals(20 + 3, bounds.maxY, EPSILON);
+        assertEquals(30 - 3, bounds.minZ, EPSILON);
+        assertEquals(30 + 3, bounds.maxZ, EPSILON);
+    }
+
+    @Test
+    void boundsOfFullSphere() {
+        ConeQuery cone = ConeQuery.of(Vec3d.ZERO, new Vec3d(0, 1, 0), 4, Math.PI);
+
+        Box bounds = cone.bounds();
+
+        assertEquals(new Box(-4, -4, -4, 4, 4, 4), bounds);
+    }
+
+    /**
+     * Samples a point uniformly by direction inside the sector.
+     */
+    static Vec3d sampleInCone(Random random, Vec3d apex, Vec3d direction, double range, double halfAngle) {
+        Vec3d axis = direction.normalize();
+        Vec3d helper = Math.abs(axis.x) < 0.9 ? new Vec3d(1, 0, 0) : new Vec3d(0, 1, 0);
+        Vec3d u = axis.crossProduct(helper).normalize();
+        Vec3d v = axis.crossProduct(u);
+        double cos = 1 - random.nextDouble() * (1 - Math.cos(halfAngle));
+        double sin = Math.sqrt(Math.max(0, 1 - cos * cos));
+        double azimuth = random.nextDouble() * 2 * Math.PI;
+        Vec3d offset = axis.multiply(cos)
+                .add(u.multiply(sin * Math.cos(azimuth)))
+                .add(v.multiply(sin * Math.sin(azimuth)));
+        // Mostly near the cap, where the extremes are
+        return apex.add(offset.multiply(range * Math.sqrt(Math.sqrt(random.nextDouble()))));
+    }
+
+    @Test
+    void boundsContainAndTightlyFitTheSector() {
+        Random random = new Random(11);
+        for (int cone = 0; cone < 100; cone++) {
+            Vec3d apex = new Vec3d(random.nextDouble() * 10, random.nextDouble() * 10, random.nextDouble() * 10);
+            Vec3d direction = randomDirection(random);
+            double range = 1 + random.nextDouble() * 10;
+            double halfAngle = random.nextDouble() * Math.PI;
+            ConeQuery query = ConeQuery.of(apex, direction, range, halfAngle);
+            Box bounds = query.bounds();
+
+            double minX = apex.x, minY = apex.y, minZ = apex.z;
+            double maxX = apex.x, maxY = apex.y, maxZ = apex.z;
+            for (int i = 0; i < 20_000; i++) {
+                Vec3d point = sampleInCone(random, apex, direction, range, halfAngle);
+                assertTrue(bounds.expand(EPSILON).contains(point), "cone " + cone + " point " + point);
+                minX = Math.min(minX, point.x);
+                minY = Math.min(minY, point.y);
+                minZ = Math.min(minZ, point.z);
+                maxX = Math.max(maxX, point.x);
+                maxY = Math.max(maxY, point.y);
+                maxZ = Math.max(maxZ, point.z);
+            }
+            // Sampled extremes come close to every face, the box is not oversized
+            double slack = range * 0.05;
+            assertTrue(minX - bounds.minX < slack, "cone " + cone);
+            assertTrue(minY - bounds.minY < slack, "cone " + cone);
+            assertTrue(minZ - bounds.minZ < slack, "cone " + cone);
+            assertTrue(bounds.maxX - maxX < slack, "cone " + cone);
+            assertTrue(bounds.maxY - maxY < slack, "cone " + cone);
+            assertTrue(bounds.maxZ - maxZ < slack, "cone " + cone);
+        }
+    }
+
+    @Test
+    void selectNearestKeepsNearestInOrder() {
+        Random random = new Random(3);
+        for (int run = 0; run < 500; run++) {
+            int size = 1 + random.nextInt(60);
+            int k = 1 + random.nextInt(size);
+            List<Integer> entries = new ArrayList<>();
+            double[] distances = new double[size];
+            for (int i = 0; i < size; i++) {
+                entries.add(i);
+                // Few distinct values, so duplicates are covered
+                distances[i] = random.nextInt(20);
+            }
+            double[] original = distances.clone();
+            double[] sorted = distances.clone();
+            Arrays.sort(sorted);
+
+            ConeQuery.selectNearest(entries, distances, k);
+
+            for (int i = 0; i < size; i++) {
+                assertEquals(original[entries.get(i)], distances[i], "entries and distances stay paired");
+            }
+            for (int i = 0; i < k; i++) {
+                assertEquals(sorted[i], distances[i], "run " + run + " position " + i);
+            }
+            assertEquals(size, entries.stream().distinct().count());
+        }
+    }
+
+    @Test
+    void selectNearestWithCapAboveSize() {
+        List<String> entries = new ArrayList<>(List.of("c", "a", "b"));
+        double[] distances = {3, 1, 2};
+
+        ConeQuery.selectNearest(entries, distances, 5);
+
+        assertEquals(3, entries.size());
+    }
+}
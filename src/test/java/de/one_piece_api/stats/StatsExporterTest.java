@@ -0,0 +1,263 @@
+package de.one_piece_api.stats;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import de.one_piece_api.config.StatsExportConfig;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.util.Identifier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatsExporterTest {
+
+    private static final Identifier SOURCE = Identifier.of("test", "source");
+    private static final int XP_PER_LEVEL = 150;
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+    }
+
+    /**
+     * Stands in for a snapshot: the XP always matches the level, so a torn copy would show.
+     */
+    private record Progress(long sequence, int level, int xp) {
+        static Progress of(long sequence) {
+            int level = (int) (sequence % 100);
+            return new Progress(sequence, level, level * 150);
+        }
+    }
+
+    @Test
+    void ringOfferPollAndFull() {
+        StatsExporter.Ring<String> ring = new StatsExporter.Ring<>(3);
+        assertTrue(ring.isEmpty());
+        assertNull(ring.poll());
+
+        assertTrue(ring.offer("a"));
+        assertTrue(ring.offer("b"));
+        assertTrue(ring.offer("c"));
+        assertTrue(ring.isFull());
+        assertFalse(ring.offer("d"));
+
+        assertEquals("a", ring.poll());
+        assertFalse(ring.isFull());
+        assertTrue(ring.offer("d"));
+        assertEquals("b", ring.poll());
+        assertEquals("c", ring.poll());
+        assertEquals("d", ring.poll());
+        assertNull(ring.poll());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void ringWrapsAround() {
+        StatsExporter.Ring<Integer> ring = new StatsExporter.Ring<>(4);
+        for (int round = 0; round < 1000; round++) {
+            int count = 1 + round % 4;
+            for (int i = 0; i < count; i++) {
+                assertTrue(ring.offer(round * 4 + i));
+            }
+            for (int i = 0; i < count; i++) {
+                assertEquals(round * 4 + i, ring.poll());
+            }
+            assertTrue(ring.isEmpty());
+        }
+    }
+
+    @Test
+    void ringHandsOverEverythingInOrderAcrossThreads() throws InterruptedException {
+        int count = 1_000_000;
+        StatsExporter.Ring<Progress> ring = new StatsExporter.Ring<>(8);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        Thread consumer = new Thread(() -> {
+            try {
+                long expected = 0;
+                while (expected < count) {
+                    Progress progress = ring.poll();
+                    if (progress == null) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    assertEquals(Progress.of(expected), progress);
+                    expected++;
+                }
+                assertNull(ring.poll());
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        consumer.start();
+
+        for (long sequence = 0; sequence < count; ) {
+            if (ring.offer(Progress.of(sequence))) {
+                sequence++;
+            } else {
+                // Full, the exporter would skip this snapshot
+                Thread.onSpinWait();
+            }
+        }
+        consumer.join(TimeUnit.SECONDS.toMillis(30));
+
+        assertFalse(consumer.isAlive(), "consumer did not receive everything");
+        assertNull(failure.get());
+    }
+
+    @Test
+    void drainRunsOnceAtATime() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        StatsExporter.Ring<Integer> ring = new StatsExporter.Ring<>(4);
+        List<Integer> written = new ArrayList<>();
+        StatsExporter.Drainer<Integer> drainer = new StatsExporter.Drainer<>(tasks::add, () -> ring, written::add);
+
+        ring.offer(1);
+        drainer.wake();
+        ring.offer(2);
+        drainer.wake();
+        assertEquals(1, tasks.size(), "second wake joins the pending drain");
+
+        tasks.poll().run();
+        assertEquals(List.of(1, 2), written);
+        assertTrue(tasks.isEmpty());
+
+        // Re-armed after the drain finished
+        ring.offer(3);
+        drainer.wake();
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        assertEquals(List.of(1, 2, 3), written);
+    }
+
+    @Test
+    void drainRearmsForLateOffers() throws InterruptedException {
+        int count = 200_000;
+        StatsExporter.Ring<Progress> ring = new StatsExporter.Ring<>(16);
+        AtomicLong written = new AtomicLong();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        StatsExporter.Drainer<Progress> drainer = new StatsExporter.Drainer<>(executor, () -> ring, progress -> {
+            if (!progress.equals(Progress.of(written.getAndIncrement()))) {
+                failure.compareAndSet(null, new AssertionError("out of order: " + progress));
+            }
+        });
+
+        try {
+            for (long sequence = 0; sequence < count; ) {
+                if (ring.offer(Progress.of(sequence))) {
+                    sequence++;
+                    drainer.wake();
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+            // No more wakes: anything offered while the last drain was finishing must still be written
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (written.get() < count && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertNull(failure.get());
+        assertEquals(count, written.get());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    void snapshotsMatchProgressAtTheirTick() throws InterruptedException {
+        int players = 5;
+        int ticks = 20_000;
+        int[] xp = new int[players];
+        StatsExportConfig config = new StatsExportConfig(1, 10240, 5, 4);
+        StatsExporter.Ring<StatsExporter.Snapshot> ring = new StatsExporter.Ring<>(config.bufferSize());
+        List<List<StatsExporter.PlayerRecord>> taken = new ArrayList<>();
+        List<JsonObject> written = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        StatsExporter.Drainer<StatsExporter.Snapshot> drainer = new StatsExporter.Drainer<>(
+                executor, () -> ring, snapshot -> written.add(StatsExporter.toJson(snapshot)));
+        GameplayStats.drainXp();
+
+        try {
+            // The server thread: players keep leveling while the writer serializes earlier snapshots
+            for (int tick = 1; tick <= ticks; tick++) {
+                for (int i = 0; i < players; i++) {
+                    int gained = 1 + (tick + i) % 13;
+                    xp[i] += gained;
+                    GameplayStats.recordXp(SOURCE, gained);
+                }
+                if (tick % 5 != 0 || ring.isFull()) {
+                    // Skipped like a full buffer, the counters carry over
+                    continue;
+                }
+                List<StatsExporter.PlayerRecord> records = new ArrayList<>(players);
+                for (int i = 0; i < players; i++) {
+                    records.add(new StatsExporter.PlayerRecord(new UUID(0, i), "player" + i,
+                            "test:class", "", xp[i] / XP_PER_LEVEL, xp[i]));
+                }
+                taken.add(List.copyOf(records));
+                assertTrue(ring.offer(StatsExporter.snapshot(records, tick * 50L, config)));
+                // The snapshot must not see later changes to the list it was built from
+                records.clear();
+                drainer.wake();
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (written.size() < taken.size() && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(taken.size(), written.size());
+        long previousTotal = 0;
+        for (int s = 0; s < taken.size(); s++) {
+            JsonObject line = written.get(s);
+            List<JsonElement> entries = line.getAsJsonArray("players").asList();
+            assertEquals(players, entries.size());
+
+            long total = 0;
+            for (int i = 0; i < players; i++) {
+                StatsExporter.PlayerRecord expected = taken.get(s).get(i);
+                JsonObject entry = entries.get(i).getAsJsonObject();
+                int level = entry.get("level").getAsInt();
+                int playerXp = entry.get("xp").getAsInt();
+                assertEquals(expected.level(), level, "level of " + expected.name() + " in snapshot " + s);
+                assertEquals(expected.xp(), playerXp, "xp of " + expected.name() + " in snapshot " + s);
+                assertEquals(playerXp / XP_PER_LEVEL, level, "torn level and xp in snapshot " + s);
+                total += playerXp;
+            }
+
+            // The counters were drained at the same tick the players were copied
+            long recorded = line.getAsJsonObject("xp_per_source").getAsJsonObject(SOURCE.toString())
+                    .get("total").getAsLong();
+            assertEquals(total - previousTotal, recorded, "xp per source in snapshot " + s);
+            previousTotal = total;
+
+            JsonObject levels = line.getAsJsonObject("levels_per_class").getAsJsonObject("test:class");
+            assertEquals(players, levels.get("players").getAsInt());
+            assertEquals(taken.get(s).stream().mapToInt(StatsExporter.PlayerRecord::level).max().orElseThrow(),
+                    levels.get("max_level").getAsInt());
+        }
+        assertTrue(ring.isEmpty());
+    }
+}
@@ -0,0 +1,113 @@
+package de.one_piece_api.util;
+
+import de.one_piece_api.config.attribute.AttributeScalingConfig;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.entity.attribute.EntityAttributeInstance;
+import net.minecraft.entity.attribute.EntityAttributes;
+import net.puffish.skillsmod.expression.DefaultParser;
+import net.puffish.skillsmod.expression.Expression;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttributeTableTest {
+
+    private static final AttributeScalingConfig CONFIG = new AttributeScalingConfig(
+            expression("100 + level * 5"),
+            expression("1 + level / 10"),
+            expression("3"),
+            expression("0.5")
+    );
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+    }
+
+    private static Expression<Double> expression(String expression) {
+        return DefaultParser.parse(expression, Set.of("level")).getSuccess().orElseThrow();
+    }
+
+    private static EntityAttributeInstance[] instances() {
+        // Stand-ins for the stamina attributes, base values are not clamped
+        return new EntityAttributeInstance[]{
+                new EntityAttributeInstance(EntityAttributes.GENERIC_MAX_HEALTH, instance -> {}),
+                new EntityAttributeInstance(EntityAttributes.GENERIC_ARMOR, instance -> {}),
+                new EntityAttributeInstance(EntityAttributes.GENERIC_ARMOR_TOUGHNESS, instance -> {}),
+                new EntityAttributeInstance(EntityAttributes.GENERIC_LUCK, instance -> {})
+        };
+    }
+
+    @Test
+    void rowsMatchTheExpressions() {
+        AttributeTable table = new AttributeTable(CONFIG);
+
+        // Out of order, later rows are evaluated on demand
+        for (int level : new int[]{50, 0, 7, 200, 199, 51}) {
+            double[] values = table.get(level);
+            assertEquals(AttributeTable.SIZE, values.length);
+            assertEquals(CONFIG.evaluateMaxStamina(level), values[0]);
+            assertEquals(CONFIG.evaluateStaminaBaseRegen(level), values[1]);
+            assertEquals(CONFIG.evaluateStaminaCrouchMultiplier(level), values[2]);
+            assertEquals(CONFIG.evaluateStaminaCrouchAdditive(level), values[3]);
+        }
+        assertEquals(150, table.get(10)[0]);
+    }
+
+    @Test
+    void rowsAreCached() {
+        AttributeTable table = new AttributeTable(CONFIG);
+
+        assertSame(table.get(20), table.get(20));
+        assertSame(table.get(0), table.get(-5));
+    }
+
+    @Test
+    void applyChangesOnlyDifferentValues() {
+        AttributeTable table = new AttributeTable(CONFIG);
+        EntityAttributeInstance[] instances = instances();
+
+        assertEquals(4, AttributeTable.apply(i -> instances[i], table.get(10)));
+        for (int i = 0; i < instances.length; i++) {
+            assertEquals(table.get(10)[i], instances[i].getBaseValue());
+        }
+
+        // Same level again changes nothing
+        assertEquals(0, AttributeTable.apply(i -> instances[i], table.get(10)));
+
+        // Only max stamina and base regeneration scale with the level
+        assertEquals(2, AttributeTable.apply(i -> instances[i], table.get(20)));
+        assertEquals(200, instances[0].getBaseValue());
+        assertEquals(3, instances[1].getBaseValue());
+    }
+
+    @Test
+    void applySkipsMissingAttributes() {
+        AttributeTable table = new AttributeTable(CONFIG);
+        EntityAttributeInstance[] instances = instances();
+        instances[1] = null;
+
+        assertEquals(3, AttributeTable.apply(i -> instances[i], table.get(10)));
+    }
+
+    @Test
+    void newConfigGetsNewValues() {
+        AttributeTable before = new AttributeTable(CONFIG);
+        AttributeTable after = new AttributeTable(new AttributeScalingConfig(
+                expression("120 + level * 5"),
+                expression("1 + level / 10"),
+                expression("3"),
+                expression("0.5")
+        ));
+        EntityAttributeInstance[] instances = instances();
+        AttributeTable.apply(i -> instances[i], before.get(10));
+
+        assertEquals(1, AttributeTable.apply(i -> instances[i], after.get(10)));
+        assertEquals(170, instances[0].getBaseValue());
+    }
+}
@@ -0,0 +1,188 @@
+package de.one_piece_api.util;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerDataStoreTest {
+
+    private static NbtCompound legacyNbt() {
+        NbtCompound nbt = new NbtCompound();
+        nbt.putDouble("Stamina", 42.5);
+        NbtCompound spells = new NbtCompound();
+        spells.putString("slot_0", "one_piece_api:gomu_pistol");
+        nbt.put("OnePieceSpells", spells);
+        nbt.putString("DevilFruit", "one_piece_api:gomu_gomu");
+        nbt.putString("OnePieceClass", "one_piece_api:swordsman");
+        nbt.putBoolean("onepiece_combat_mode", true);
+        NbtCompound xp = new NbtCompound();
+        xp.putInt("xp", 1234);
+        nbt.put("onepiece_xp_data", xp);
+        // Vanilla data stays untouched
+        nbt.putInt("XpLevel", 7);
+        return nbt;
+    }
+
+    @Test
+    void upgradeMovesLegacyKeysIntoSections() {
+        NbtCompound nbt = legacyNbt();
+
+        NbtCompound root = PlayerDataStore.upgrade(nbt);
+
+        assertEquals(PlayerDataStore.VERSION, root.getInt(PlayerDataStore.VERSION_KEY));
+        assertEquals(42.5, root.getCompound(PlayerDataStore.STAMINA).getDouble("value"));
+        assertEquals("one_piece_api:gomu_pistol", root.getCompound(PlayerDataStore.SPELLS).getString("slot_0"));
+        assertEquals("one_piece_api:gomu_gomu", root.getCompound(PlayerDataStore.DEVIL_FRUIT).getString("id"));
+        assertEquals("one_piece_api:swordsman", root.getCompound(PlayerDataStore.CLASS).getString("id"));
+        assertTrue(root.getCompound(PlayerDataStore.COMBAT).getBoolean("enabled"));
+        assertEquals(1234, root.getCompound(PlayerDataStore.XP).getInt("xp"));
+
+        for (String legacyKey : new String[]{"Stamina", "OnePieceSpells", "DevilFruit", "OnePieceClass",
+                "onepiece_combat_mode", "onepiece_xp_data"}) {
+            assertFalse(nbt.contains(legacyKey), legacyKey);
+        }
+        assertEquals(7, nbt.getInt("XpLevel"));
+    }
+
+    @Test
+    void upgradeOfCurrentVersionKeepsData() {
+        NbtCompound nbt = legacyNbt();
+        NbtCompound first = PlayerDataStore.upgrade(nbt).copy();
+
+        NbtCompound second = PlayerDataStore.upgrade(nbt);
+
+        assertEquals(first, second);
+    }
+
+    @Test
+    void upgradeOfNewPlayerCreatesEmptyRoot() {
+        NbtCompound nbt = new NbtCompound();
+
+        NbtCompound root = PlayerDataStore.upgrade(nbt);
+
+        assertTrue(nbt.contains(PlayerDataStore.ROOT_KEY, NbtElement.COMPOUND_TYPE));
+        assertEquals(PlayerDataStore.VERSION, root.getInt(PlayerDataStore.VERSION_KEY));
+        assertEquals(1, root.getSize());
+    }
+
+    @Test
+    void roundTripKeepsAllSections() {
+        PlayerDataStore store = new PlayerDataStore();
+        NbtCompound saved = new NbtCompound();
+        store.write(saved, PlayerDataStore.STAMINA, data -> data.putDouble("value", 10.0));
+        store.write(saved, PlayerDataStore.SPELLS, data -> data.putString("slot_0", "one_piece_api:fireball"));
+        store.write(saved, PlayerDataStore.DEVIL_FRUIT, data -> data.putString("id", "one_piece_api:mera_mera"));
+        store.write(saved, PlayerDataStore.CLASS, data -> data.putString("id", "one_piece_api:sniper"));
+        store.write(saved, PlayerDataStore.COMBAT, data -> data.putBoolean("enabled", true));
+        store.write(saved, PlayerDataStore.XP, data -> data.putInt("total", 500));
+        store.save(saved);
+
+        PlayerDataStore loaded = new PlayerDataStore();
+        loaded.load(saved.copy());
+
+        AtomicInteger sections = new AtomicInteger();
+        loaded.read(PlayerDataStore.STAMINA, data -> {
+            assertEquals(10.0, data.getDouble("value"));
+            sections.incrementAndGet();
+        });
+        loaded.read(PlayerDataStore.SPELLS, data -> {
+            assertEquals("one_piece_api:fireball", data.getString("slot_0"));
+            sections.incrementAndGet();
+        });
+        loaded.read(PlayerDataStore.DEVIL_FRUIT, data -> {
+            assertEquals("one_piece_api:mera_mera", data.getString("id"));
+            sections.incrementAndGet();
+        });
+        loaded.read(PlayerDataStore.CLASS, data -> {
+            assertEquals("one_piece_api:sniper", data.getString("id"));
+            sections.incrementAndGet();
+        });
+        loaded.read(PlayerDataStore.COMBAT, data -> {
+            assertTrue(data.getBoolean("enabled"));
+            sections.incrementAndGet();
+        });
+        loaded.read(PlayerDataStore.XP, data -> {
+            assertEquals(500, data.getInt("total"));
+            sections.incrementAndGet();
+        });
+        assertEquals(6, sections.get());
+
+        NbtCompound resaved = new NbtCompound();
+        loaded.save(resaved);
+        assertEquals(saved, resaved);
+    }
+
+    @Test
+    void readSkipsMissingSection() {
+        PlayerDataStore store = new PlayerDataStore();
+        store.load(new NbtCompound());
+
+        store.read(PlayerDataStore.STAMINA, data -> fail("Section was never saved"));
+    }
+
+    @Test
+    void cleanSectionReusesCachedCompound() {
+        PlayerDataStore store = new PlayerDataStore();
+        store.load(legacyNbt());
+        store.read(PlayerDataStore.CLASS, data -> { });
+
+        AtomicInteger writes = new AtomicInteger();
+        NbtCompound saved = new NbtCompound();
+        store.write(saved, PlayerDataStore.CLASS, data -> {
+            writes.incrementAndGet();
+            data.putString("id", "one_piece_api:changed");
+        });
+
+        assertEquals(0, writes.get());
+        assertEquals("one_piece_api:swordsman",
+                saved.getCompound(PlayerDataStore.ROOT_KEY).getCompound(PlayerDataStore.CLASS).getString("id"));
+    }
+
+    @Test
+    void dirtySectionIsRebuiltOnce() {
+        PlayerDataStore store = new PlayerDataStore();
+        store.load(legacyNbt());
+        store.markDirty(PlayerDataStore.CLASS);
+
+        AtomicInteger writes = new AtomicInteger();
+        NbtCompound saved = new NbtCompound();
+        store.write(saved, PlayerDataStore.CLASS, data -> {
+            writes.incrementAndGet();
+            data.putString("id", "one_piece_api:doctor");
+        });
+        NbtCompound savedAgain = new NbtCompound();
+        store.write(savedAgain, PlayerDataStore.CLASS, data -> {
+            writes.incrementAndGet();
+            data.putString("id", "one_piece_api:changed");
+        });
+
+        assertEquals(1, writes.get());
+        assertEquals("one_piece_api:doctor",
+                saved.getCompound(PlayerDataStore.ROOT_KEY).getCompound(PlayerDataStore.CLASS).getString("id"));
+        assertEquals("one_piece_api:doctor",
+                savedAgain.getCompound(PlayerDataStore.ROOT_KEY).getCompound(PlayerDataStore.CLASS).getString("id"));
+    }
+
+    @Test
+    void saveKeepsSectionsWithoutWriter() {
+        PlayerDataStore store = new PlayerDataStore();
+        NbtCompound loadedNbt = legacyNbt();
+        store.load(loadedNbt);
+
+        NbtCompound saved = new NbtCompound();
+        store.write(saved, PlayerDataStore.STAMINA, data -> data.putDouble("value", 1.0));
+        store.save(saved);
+
+        NbtCompound root = saved.getCompound(PlayerDataStore.ROOT_KEY);
+        assertEquals(PlayerDataStore.VERSION, root.getInt(PlayerDataStore.VERSION_KEY));
+        for (String section : new String[]{PlayerDataStore.SPELLS, PlayerDataStore.DEVIL_FRUIT,
+                PlayerDataStore.CLASS, PlayerDataStore.COMBAT, PlayerDataStore.XP}) {
+            assertEquals(loadedNbt.getCompound(PlayerDataStore.ROOT_KEY).getCompound(section),
+                    root.getCompound(section), section);
+        }
+    }
+}
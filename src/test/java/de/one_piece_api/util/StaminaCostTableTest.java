@@ -0,0 +1,139 @@
+package de.one_piece_api.util;
+
+import com.mojang.serialization.Lifecycle;
+import de.one_piece_api.mixin_interface.IStaminaCost;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.SimpleRegistry;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.util.Identifier;
+import net.spell_engine.api.spell.Spell;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaminaCostTableTest {
+
+    private static final RegistryKey<Registry<Spell>> KEY = RegistryKey.ofRegistry(Identifier.of("spell_engine", "spell"));
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+    }
+
+    private static Spell spell(@Nullable Float staminaCost) {
+        Spell spell = new Spell();
+        if (staminaCost != null) {
+            spell.cost = new Spell.Cost();
+            ((IStaminaCost) spell.cost).onepiece$setStaminaCost(staminaCost);
+        } else {
+            spell.cost = null;
+        }
+        return spell;
+    }
+
+    /**
+     * Builds a spell registry the way a data reload does, one new instance per load.
+     */
+    private static Registry<Spell> registry(Float... costs) {
+        SimpleRegistry<Spell> registry = new SimpleRegistry<>(KEY, Lifecycle.stable());
+        for (int i = 0; i < costs.length; i++) {
+            Registry.register(registry, Identifier.of("test", "spell_" + i), spell(costs[i]));
+        }
+        return registry;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RegistryEntry<Spell>[] hotbar(Registry<Spell> registry, int... spells) {
+        RegistryEntry<Spell>[] entries = new RegistryEntry[spells.length];
+        for (int slot = 0; slot < spells.length; slot++) {
+            if (spells[slot] >= 0) {
+                entries[slot] = registry.getEntry(registry.get(Identifier.of("test", "spell_" + spells[slot])));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * The affordability check per spell, as done before the table existed.
+     */
+    private static int expectedSlots(RegistryEntry<Spell>[] entries, double stamina) {
+        int mask = 0;
+        for (int slot = 0; slot < entries.length; slot++) {
+            if (entries[slot] == null) {
+                continue;
+            }
+            Spell spell = entries[slot].value();
+            float cost = spell.cost instanceof IStaminaCost staminaCost ? staminaCost.onepiece$getStaminaCost() : 0;
+            if (stamina >= cost) {
+                mask |= 1 << slot;
+            }
+        }
+        return mask;
+    }
+
+    private static void assertMatchesPerSpellCheck(Registry<Spell> registry, RegistryEntry<Spell>[] entries) {
+        for (RegistryEntry<Spell> entry : entries) {
+            if (entry != null) {
+                assertEquals(StaminaCostTable.computeCost(entry.value()), StaminaCostTable.getCost(registry, entry));
+            }
+        }
+        for (double stamina = 0; stamina <= 60; stamina += 0.25) {
+            assertEquals(expectedSlots(entries, stamina), StaminaCostTable.getAffordableSlots(registry, entries, stamina),
+                    "stamina " + stamina);
+        }
+    }
+
+    @Test
+    void tableMatchesPerSpellCost() {
+        Registry<Spell> registry = registry(0f, 5f, 10.5f, 25f, 40f, null);
+        RegistryEntry<Spell>[] entries = hotbar(registry, 0, 1, 2, 3, 4, 5);
+
+        assertMatchesPerSpellCheck(registry, entries);
+        assertEquals(0, StaminaCostTable.getCost(registry, entries[5]));
+    }
+
+    @Test
+    void emptySlotsAreNeverAffordable() {
+        Registry<Spell> registry = registry(0f, 5f, 10f);
+        RegistryEntry<Spell>[] entries = hotbar(registry, -1, 1, -1, 0, -1, 2, -1, -1);
+
+        assertMatchesPerSpellCheck(registry, entries);
+        assertEquals(0b0010_1010, StaminaCostTable.getAffordableSlots(registry, entries, 1000));
+        assertEquals(0, StaminaCostTable.getAffordableSlots(registry, hotbar(registry, -1, -1, -1), 1000));
+    }
+
+    @Test
+    void reloadBuildsNewTable() {
+        Registry<Spell> before = registry(5f, 10f, 20f);
+        RegistryEntry<Spell>[] oldEntries = hotbar(before, 0, 1, 2);
+        assertMatchesPerSpellCheck(before, oldEntries);
+
+        // Same ids, different costs and one more spell
+        Registry<Spell> after = registry(20f, 1f, 15f, 30f);
+        RegistryEntry<Spell>[] newEntries = hotbar(after, 0, 1, 2, 3);
+        assertMatchesPerSpellCheck(after, newEntries);
+
+        // The old registry keeps its own table
+        assertMatchesPerSpellCheck(before, oldEntries);
+        assertEquals(5f, StaminaCostTable.getCost(before, oldEntries[0]));
+        assertEquals(20f, StaminaCostTable.getCost(after, newEntries[0]));
+    }
+
+    @Test
+    void spellOutsideRegistryFallsBackToItsCost() {
+        Registry<Spell> registry = registry(5f);
+        RegistryEntry<Spell> outside = RegistryEntry.of(spell(12f));
+
+        assertEquals(12f, StaminaCostTable.getCost(registry, outside));
+        @SuppressWarnings("unchecked")
+        RegistryEntry<Spell>[] entries = new RegistryEntry[]{outside};
+        assertEquals(0, StaminaCostTable.getAffordableSlots(registry, entries, 11.9));
+        assertEquals(1, StaminaCostTable.getAffordableSlots(registry, entries, 12));
+    }
+}
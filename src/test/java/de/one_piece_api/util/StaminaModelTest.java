@@ -0,0 +1,134 @@
+package de.one_piece_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaminaModelTest {
+
+    private static final StaminaModel.Attributes ATTRIBUTES = new StaminaModel.Attributes(100, 1, 3, 0.5);
+    private static final double TOLERANCE = 0.5;
+
+    /**
+     * Restores a model the way the client does from a stamina payload.
+     */
+    private static StaminaModel receive(StaminaModel server) {
+        StaminaModel client = new StaminaModel();
+        client.restore((float) server.get(), server.getRegenTicks(), server.getBoostTicks());
+        return client;
+    }
+
+    private static boolean sneaking(int tick) {
+        return tick % 50 >= 20 && tick % 50 < 37;
+    }
+
+    @Test
+    void clientPredictionAgreesWithServer() {
+        StaminaModel server = new StaminaModel();
+        server.set(12.3, ATTRIBUTES.maxStamina());
+        StaminaModel client = receive(server);
+
+        for (int tick = 0; tick < 2000; tick++) {
+            server.tick(ATTRIBUTES, sneaking(tick));
+            client.tick(ATTRIBUTES, sneaking(tick));
+
+            assertEquals(server.get(), client.get(), 1e-4, "tick " + tick);
+            assertEquals(server.getRegenTicks(), client.getRegenTicks());
+            assertEquals(server.getBoostTicks(), client.getBoostTicks());
+        }
+        assertEquals(ATTRIBUTES.maxStamina(), server.get());
+    }
+
+    @Test
+    void correctionMidIntervalKeepsPhase() {
+        StaminaModel server = new StaminaModel();
+        server.set(0, ATTRIBUTES.maxStamina());
+        for (int tick = 0; tick < 33; tick++) {
+            server.tick(ATTRIBUTES, sneaking(tick));
+        }
+        StaminaModel client = receive(server);
+
+        for (int tick = 33; tick < 300; tick++) {
+            server.tick(ATTRIBUTES, sneaking(tick));
+            client.tick(ATTRIBUTES, sneaking(tick));
+            assertEquals(server.get(), client.get(), 1e-4, "tick " + tick);
+        }
+    }
+
+    @Test
+    void regenerationIsInterpolatedAndClamped() {
+        StaminaModel model = new StaminaModel();
+        model.set(99.5, ATTRIBUTES.maxStamina());
+
+        // One full interval without boost, the next tick applies it
+        for (int tick = 0; tick <= StaminaModel.REGEN_INTERVAL_TICKS; tick++) {
+            model.tick(ATTRIBUTES, false);
+        }
+
+        assertEquals(100, model.get());
+        assertEquals(1, ATTRIBUTES.regen(0));
+        assertEquals((1 + 0.5) * 3, ATTRIBUTES.regen(1), 1e-9);
+    }
+
+    @Test
+    void setOutsideRegenChangesRevision() {
+        StaminaModel model = new StaminaModel();
+        int revision = model.getRevision();
+
+        model.tick(ATTRIBUTES, false);
+        assertEquals(revision, model.getRevision());
+
+        model.set(50, ATTRIBUTES.maxStamina());
+        assertNotEquals(revision, model.getRevision());
+    }
+
+    /**
+     * The server shadow regenerates with the inputs of the last correction, so a player
+     * who starts sneaking drifts away from it and gets corrected.
+     */
+    @Test
+    void shadowDriftsWhenBoostChanges() {
+        StaminaModel server = new StaminaModel();
+        server.set(10, ATTRIBUTES.maxStamina());
+        StaminaModel shadow = receive(server);
+
+        boolean corrected = false;
+        for (int tick = 0; tick < 3 * StaminaModel.REGEN_INTERVAL_TICKS && !corrected; tick++) {
+            server.tick(ATTRIBUTES, tick >= 5);
+            shadow.tick(ATTRIBUTES, false);
+            corrected = Math.abs(server.get() - shadow.get()) > TOLERANCE;
+        }
+
+        assertTrue(corrected);
+    }
+
+    @Test
+    void shadowDriftsWhenAttributesChange() {
+        StaminaModel server = new StaminaModel();
+        server.set(10, ATTRIBUTES.maxStamina());
+        StaminaModel shadow = receive(server);
+        StaminaModel.Attributes levelledUp = new StaminaModel.Attributes(120, 2, 3, 0.5);
+
+        boolean corrected = false;
+        for (int tick = 0; tick < 3 * StaminaModel.REGEN_INTERVAL_TICKS && !corrected; tick++) {
+            server.tick(levelledUp, false);
+            shadow.tick(ATTRIBUTES, false);
+            corrected = Math.abs(server.get() - shadow.get()) > TOLERANCE;
+        }
+
+        assertTrue(corrected);
+    }
+
+    @Test
+    void shadowStaysWithinToleranceWithoutChanges() {
+        StaminaModel server = new StaminaModel();
+        server.set(10, ATTRIBUTES.maxStamina());
+        StaminaModel shadow = receive(server);
+
+        for (int tick = 0; tick < 2000; tick++) {
+            server.tick(ATTRIBUTES, false);
+            shadow.tick(ATTRIBUTES, false);
+            assertTrue(Math.abs(server.get() - shadow.get()) <= TOLERANCE, "tick " + tick);
+        }
+    }
+}